@@ -0,0 +1,104 @@
+package com.example.todo;
+
+import com.example.todo.domain.User;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.dto.ScheduleRequestDto;
+import com.example.todo.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 애플리케이션을 띄워서 측정하는 벤치마크의 공통 준비 (ServiceCrud, ScheduleBatchInsert, CommentIngest, LoginFlood)
+ * - 내장 H2 로 SchedulerAppApplication 을 실제 서비스/JPA 설정 그대로 띄우고, 측정이 끝나면 닫음
+ * - 측정용 사용자 "bench" 한 명을 만들어 둠 (userId)
+ * - 요청 DTO 는 Getter 만 있으므로 실제 요청처럼 JSON 매핑(ObjectMapper.convertValue)으로 만듦
+ *
+ * 벤치마크별로 다른 설정은 webApplicationType() / arguments() 를 재정의하고, 나머지 준비는 setUp() 에서 함
+ * (JMH 의 @Setup 은 이 클래스에만 두어 실행 순서가 항상 "애플리케이션 → 사용자 → setUp()" 이 되게 함)
+ */
+@State(Scope.Benchmark)
+public abstract class ApplicationFixture {
+
+    protected static final String USERNAME = "bench";
+    protected static final String EMAIL = "bench@example.com";
+
+    protected ConfigurableApplicationContext context;
+    protected ObjectMapper objectMapper;
+    protected Long userId;
+
+    @Setup(Level.Trial)
+    public final void startApplication() throws Exception {
+        context = new SpringApplicationBuilder(SchedulerAppApplication.class)
+                .web(webApplicationType())
+                .properties("logging.level.root=WARN")
+                .run(arguments());
+        objectMapper = context.getBean(ObjectMapper.class);
+        userId = createUser();
+        setUp();
+    }
+
+    @TearDown(Level.Trial)
+    public final void stopApplication() throws Exception {
+        try {
+            tearDown();
+        } finally {
+            context.close();
+        }
+    }
+
+    protected WebApplicationType webApplicationType() {
+        return WebApplicationType.NONE;
+    }
+
+    /**
+     * 명령행 인자 (application.yml 보다 우선함. 예: "--app.comment.ingest.enabled=true")
+     */
+    protected String[] arguments() {
+        return new String[0];
+    }
+
+    /**
+     * 측정용 사용자 생성 (기본: 저장소로 바로 저장, 비밀번호 해시 없음)
+     *
+     * @return 사용자 id
+     */
+    protected Long createUser() throws Exception {
+        return context.getBean(UserRepository.class).save(new User(USERNAME, EMAIL, "password")).getId();
+    }
+
+    protected abstract void setUp() throws Exception;
+
+    protected void tearDown() throws Exception {
+    }
+
+    /**
+     * 요청 DTO 생성
+     *
+     * @param keyValues 필드 이름, 값, 필드 이름, 값 ...
+     */
+    protected <T> T request(Class<T> type, Object... keyValues) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            body.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return objectMapper.convertValue(body, type);
+    }
+
+    protected ScheduleRequestDto scheduleRequest(String title, String content) {
+        return request(ScheduleRequestDto.class, "title", title, "content", content, "userId", userId);
+    }
+
+    protected CommentRequestDto commentRequest(String content, Long scheduleId) {
+        return request(CommentRequestDto.class, "content", content, "userId", userId, "scheduleId", scheduleId);
+    }
+}
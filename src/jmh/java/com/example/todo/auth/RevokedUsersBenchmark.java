@@ -0,0 +1,48 @@
+package com.example.todo.auth;
+
+import com.example.todo.ApplicationFixture;
+import com.example.todo.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 모드에서 요청마다 실행하는 "삭제된 사용자인가" 확인 비용
+ * - repository  : 예전 방식. userRepository.findById (2차 캐시 적중, 읽기 트랜잭션과 커넥션 획득 포함) + deletedAt 확인
+ * - revokedUsers: RevokedUsers.isActive (삭제된 사용자 10,000명이 들어 있는 메모리 목록, 서버 시작 후 발급된 토큰)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RevokedUsers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RevokedUsersBenchmark extends ApplicationFixture {
+
+    private UserRepository userRepository;
+    private RevokedUsers revokedUsers;
+    private long issuedAt;
+
+    @Override
+    protected void setUp() {
+        userRepository = context.getBean(UserRepository.class);
+        revokedUsers = context.getBean(RevokedUsers.class);
+        for (long id = 1_000_000; id < 1_010_000; id++) {
+            revokedUsers.revoke(id);
+        }
+        issuedAt = System.currentTimeMillis() / 1000;
+        // 2차 캐시에 올려 둠
+        userRepository.findById(userId).orElseThrow();
+    }
+
+    @Benchmark
+    public boolean repository() {
+        return userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
+                .isPresent();
+    }
+
+    @Benchmark
+    public boolean revokedUsers() {
+        return revokedUsers.isActive(userId, issuedAt);
+    }
+}
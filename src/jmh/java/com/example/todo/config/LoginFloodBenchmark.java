@@ -0,0 +1,140 @@
+package com.example.todo.config;
+
+import com.example.todo.ApplicationFixture;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 폭주 중 일정 목록(GET /schedules) 지연 시간
+ * - flood      : 백그라운드에서 POST /auth/login 을 쉬지 않고 보내는 스레드 수 (0 이면 폭주 없음)
+ * - poolSize   : 비밀번호 해시 전용 스레드 수 (app.password.pool-size)
+ *                200 은 톰캣 스레드 수와 같아서 "요청 스레드마다 해시를 계산하던" 예전 동작과 같은 상황
+ *
+ * SampleTime 결과의 p0.99 가 일정 목록 요청 한 건의 p99 지연 시간.
+ * 실제 HTTP 서버(임의 포트)와 내장 H2 로 띄워 측정하고, 끝날 때 로그인 성공/503 건수를 출력함.
+ * 실행: ./gradlew jmh -Pjmh.includes=LoginFlood
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoginFloodBenchmark extends ApplicationFixture {
+
+    private static final String PASSWORD = "password1234";
+
+    @Param({"0", "128"})
+    public int flood;
+
+    @Param({"1", "200"})
+    public int poolSize;
+
+    private HttpClient client;
+    private String baseUrl;
+    private String sessionCookie;
+
+    private volatile boolean flooding;
+    private final List<Thread> floodThreads = new ArrayList<>();
+    private final LongAdder loginOk = new LongAdder();
+    private final LongAdder loginRejected = new LongAdder();
+
+    @Override
+    protected WebApplicationType webApplicationType() {
+        return WebApplicationType.SERVLET;
+    }
+
+    @Override
+    protected String[] arguments() {
+        // 같은 IP 에서 폭주시키므로 요청 제한(AuthThrottleFilter)은 끄고 해시 풀만 측정
+        return new String[]{"--server.port=0", "--management.server.port=0", "--app.password.pool-size=" + poolSize,
+                "--app.throttle.enabled=false"};
+    }
+
+    /**
+     * 로그인할 수 있어야 하므로 회원가입 API 로 만듦 (비밀번호 해시 저장)
+     */
+    @Override
+    protected Long createUser() throws Exception {
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        send(post("/users", "{\"username\":\"" + USERNAME + "\",\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"));
+        return context.getBean(JdbcTemplate.class).queryForObject("select id from users where username = ?", Long.class, USERNAME);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        HttpResponse<String> login = send(post("/auth/login", loginBody()));
+        sessionCookie = login.headers().firstValue("Set-Cookie").orElseThrow().split(";", 2)[0];
+        for (int i = 0; i < 20; i++) {
+            send(authorized(post("/schedules", "{\"title\":\"일정 " + i + "\",\"content\":\"내용\",\"userId\":" + userId + "}")));
+        }
+
+        flooding = true;
+        for (int i = 0; i < flood; i++) {
+            Thread thread = new Thread(this::floodLogin, "login-flood-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            floodThreads.add(thread);
+        }
+    }
+
+    @Override
+    protected void tearDown() throws InterruptedException {
+        flooding = false;
+        for (Thread thread : floodThreads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        System.out.printf("%n로그인 성공 %d건, 503 %d건%n", loginOk.sum(), loginRejected.sum());
+    }
+
+    @Benchmark
+    public int listSchedules() throws Exception {
+        HttpResponse<String> response = send(authorized(HttpRequest.newBuilder(URI.create(baseUrl + "/schedules?size=20")).GET()));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /schedules: " + response.statusCode());
+        }
+        return response.body().length();
+    }
+
+    private void floodLogin() {
+        while (flooding) {
+            try {
+                int status = send(post("/auth/login", loginBody())).statusCode();
+                if (status == 200) {
+                    loginOk.increment();
+                } else if (status == 503) {
+                    loginRejected.increment();
+                }
+            } catch (Exception e) {
+                return;
+            }
+        }
+    }
+
+    private static String loginBody() {
+        return "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}";
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder request) {
+        return request.header("Cookie", sessionCookie);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.todo.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 해시/검증 한 번의 비용 (cost 별)
+ * - encode  : 회원가입, 비밀번호 변경, 로그인 후 재해시
+ * - matches : 로그인
+ * cost 가 1 오를 때마다 두 배씩 느려지는지, 전용 스레드 풀로 넘기는 비용(수 µs)이 해시 시간에 비해 무시할 만한지 확인용
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PasswordEncoder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "password1234";
+
+    @Param({"4", "8", "10", "12"})
+    public int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder(cost, 1, 64);
+        encoded = passwordEncoder.encode(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encoded);
+    }
+}
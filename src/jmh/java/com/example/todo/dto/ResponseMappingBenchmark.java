@@ -0,0 +1,93 @@
+package com.example.todo.dto;
+
+import com.example.todo.domain.Comment;
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환과 JSON 직렬화 비용 (한 페이지 20건 기준)
+ * - scheduleToDto / commentToDto : 생성·수정 응답에서 쓰는 엔티티 생성자 (ScheduleResponseDto(Schedule, long), CommentResponseDto(Comment))
+ * - schedulePageToJson / commentPageToJson : 목록 응답 한 페이지를 JSON 바이트로 (스프링 MVC 의 메시지 변환과 같은 ObjectMapper 설정)
+ *
+ * 엔티티는 DB 없이 메모리에서 만든 것이라 지연 로딩 프록시 비용은 빠져 있음
+ * 실행: ./gradlew jmh -Pjmh.includes=ResponseMapping
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<Schedule> schedules;
+    private List<Comment> comments;
+    private CursorPageResponseDto<ScheduleResponseDto> schedulePage;
+    private CursorPageResponseDto<CommentResponseDto> commentPage;
+
+    @Setup
+    public void setUp() {
+        User user = new User("bench", "bench@example.com", "password");
+        user.setId(1L);
+        LocalDateTime now = LocalDateTime.of(2025, 8, 12, 10, 0);
+        schedules = new ArrayList<>();
+        comments = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Schedule schedule = Schedule.builder()
+                    .title("일정 " + i)
+                    .content("벤치마크 일정 내용입니다. " + i)
+                    .startAt(now.plusHours(i))
+                    .endAt(now.plusHours(i + 1))
+                    .user(user)
+                    .build();
+            schedule.setId((long) i);
+            schedules.add(schedule);
+
+            Comment comment = Comment.builder()
+                    .content("벤치마크 댓글 " + i)
+                    .user(user)
+                    .schedule(schedule)
+                    .build();
+            comment.setId((long) i);
+            comments.add(comment);
+        }
+        schedulePage = new CursorPageResponseDto<>(schedules.stream().map(s -> new ScheduleResponseDto(s, 3)).toList(), "fDIw");
+        commentPage = new CursorPageResponseDto<>(comments.stream().map(CommentResponseDto::new).toList(), "fDIw");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void scheduleToDto(Blackhole blackhole) {
+        for (Schedule schedule : schedules) {
+            blackhole.consume(new ScheduleResponseDto(schedule, 3));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void commentToDto(Blackhole blackhole) {
+        for (Comment comment : comments) {
+            blackhole.consume(new CommentResponseDto(comment));
+        }
+    }
+
+    @Benchmark
+    public byte[] schedulePageToJson() throws Exception {
+        return objectMapper.writeValueAsBytes(schedulePage);
+    }
+
+    @Benchmark
+    public byte[] commentPageToJson() throws Exception {
+        return objectMapper.writeValueAsBytes(commentPage);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.todo.filter;
+
+import com.example.todo.auth.AuthTokens;
+import com.example.todo.auth.RevokedUsers;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoginFilter 한 번 통과 비용 비교
+ * - allowed : 공개 경로(POST /auth/login). 인증 확인 없이 통과
+ * - rejected: 보호 경로(GET /schedules)에 세션 없이 요청 → 401 응답 작성
+ * - session : 세션 모드. 요청의 세션에서 userId 조회
+ * - token   : 토큰 모드. Authorization 헤더의 서명 토큰 검증 (HMAC-SHA256 1회) + RevokedUsers 확인
+ *             (삭제된 사용자 10,000명이 든 실제 목록. 서버 시작 후 발급된 토큰이라 사용자 조회는 없음)
+ * - verify  : 토큰 모드에서 필터를 뺀 AuthTokens.verify 만 (가짜 서블릿 객체 비용 제외)
+ * - virtualThread        : 가상 스레드 하나를 띄우고 끝나길 기다리는 비용만 (아래 항목의 기준선)
+ * - verifyOnVirtualThread: 새 가상 스레드에서 verify (가상 스레드 모드에서는 요청마다 스레드가 새로 생김)
+ *   -prof gc 의 gc.alloc.rate.norm 을 virtualThread 와 빼면 verify 가 가상 스레드에서 할당하는 양
+ *
+ * 서블릿 요청/세션은 필요한 메서드만 답하는 가짜 객체라 톰캣의 쿠키 파싱/세션 저장소 조회 비용은 빠져 있음
+ * (세션 모드의 실제 비용은 이보다 크고, 활성 사용자 수만큼 메모리를 차지함)
+ * 할당량까지 보려면: java -jar build/libs/*-jmh.jar LoginFilter -prof gc
+ * 실행: ./gradlew jmh -Pjmh.includes=LoginFilter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoginFilterBenchmark {
+
+    private AuthTokens authTokens;
+    private String authorization;
+    private LoginFilter sessionFilter;
+    private LoginFilter tokenFilter;
+    private HttpServletRequest sessionRequest;
+    private HttpServletRequest tokenRequest;
+    private HttpServletRequest publicRequest;
+    private HttpServletRequest anonymousRequest;
+    private HttpServletResponse response;
+    private Passed chain;
+    private final Runnable idle = () -> { };
+    private final VerifyTask verifyTask = new VerifyTask();
+
+    @Setup
+    public void setUp() {
+        authTokens = new AuthTokens("0123456789abcdef0123456789abcdef", Duration.ofHours(1));
+        sessionFilter = new LoginFilter();
+        RevokedUsers revokedUsers = new RevokedUsers(userId -> {
+            throw new IllegalStateException("서버 시작 후 발급된 토큰은 사용자 조회 없이 확인해야 함");
+        }, Duration.ofHours(1), 100_000);
+        for (long id = 1_000_000; id < 1_010_000; id++) {
+            revokedUsers.revoke(id);
+        }
+        tokenFilter = new LoginFilter(authTokens, revokedUsers);
+
+        Map<String, Object> sessionAttributes = new ConcurrentHashMap<>(Map.of("userId", 1234L));
+        HttpSession session = proxy(HttpSession.class, Map.of(), sessionAttributes);
+        sessionRequest = proxy(HttpServletRequest.class, Map.of("session", session), new HashMap<>());
+        authorization = "Bearer " + authTokens.issue(1234L);
+        tokenRequest = proxy(HttpServletRequest.class, Map.of("Authorization", authorization), new HashMap<>());
+        publicRequest = proxy(HttpServletRequest.class, Map.of("uri", "/auth/login", "method", "POST"), new HashMap<>());
+        anonymousRequest = proxy(HttpServletRequest.class, Map.of(), new HashMap<>());
+        // 401 본문은 버리는 Writer 로 (톰캣의 응답 버퍼 비용은 빠짐)
+        response = proxy(HttpServletResponse.class, Map.of("writer", new PrintWriter(Writer.nullWriter())), new HashMap<>());
+        chain = new Passed();
+    }
+
+    @Benchmark
+    public void allowed(Blackhole blackhole) throws Exception {
+        sessionFilter.doFilter(publicRequest, response, chain);
+        blackhole.consume(chain.count);
+    }
+
+    @Benchmark
+    public void rejected(Blackhole blackhole) throws Exception {
+        sessionFilter.doFilter(anonymousRequest, response, chain);
+        blackhole.consume(chain.count);
+    }
+
+    @Benchmark
+    public void session(Blackhole blackhole) throws Exception {
+        sessionFilter.doFilter(sessionRequest, response, chain);
+        blackhole.consume(chain.count);
+    }
+
+    @Benchmark
+    public void token(Blackhole blackhole) throws Exception {
+        tokenFilter.doFilter(tokenRequest, response, chain);
+        blackhole.consume(chain.count);
+    }
+
+    @Benchmark
+    public long verify() {
+        return authTokens.verify(authorization, 7);
+    }
+
+    @Benchmark
+    public void virtualThread() throws InterruptedException {
+        Thread.ofVirtual().start(idle).join();
+    }
+
+    @Benchmark
+    public long verifyOnVirtualThread() throws InterruptedException {
+        Thread.ofVirtual().start(verifyTask).join();
+        return verifyTask.userId;
+    }
+
+    /**
+     * verify 결과를 남기는 작업 (join 뒤에 읽음)
+     */
+    private final class VerifyTask implements Runnable {
+        long userId;
+
+        @Override
+        public void run() {
+            userId = authTokens.verify(authorization, 7);
+        }
+    }
+
+    /**
+     * getRequestURI / getMethod / getHeader / getSession / getWriter / get·setAttribute 만 답하는 가짜 서블릿 객체
+     * (경로와 메서드는 values 의 uri, method 값. 없으면 GET /schedules)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Map<String, Object> values, Map<String, Object> attributes) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) ->
+                switch (method.getName()) {
+                    case "getRequestURI" -> values.getOrDefault("uri", "/schedules");
+                    case "getMethod" -> values.getOrDefault("method", "GET");
+                    case "getWriter" -> values.get("writer");
+                    case "getHeader" -> values.get((String) args[0]);
+                    case "getSession" -> values.get("session");
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    default -> null;
+                });
+    }
+
+    /**
+     * 필터를 통과한 횟수만 세는 체인
+     */
+    private static final class Passed implements FilterChain {
+        long count;
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) {
+            count++;
+        }
+    }
+}
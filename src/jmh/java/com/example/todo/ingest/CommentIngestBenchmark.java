@@ -0,0 +1,54 @@
+package com.example.todo.ingest;
+
+import com.example.todo.ApplicationFixture;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.service.CommentService;
+import com.example.todo.service.ScheduleService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 생성 경로 비교 (동시 요청 32개)
+ * - sync        : 기존 경로. createComment 를 요청마다 호출 (findById 2번 + INSERT + 커밋)
+ * - groupCommit : CommentGroupCommitter 에 넣고 커밋될 때까지 대기 (묶음당 IN 조회 2번 + 배치 INSERT + 커밋 1번)
+ *
+ * Throughput 모드 결과가 초당 생성 건수, SampleTime 모드 결과의 p0.99 가 요청 한 건의 p99 지연 시간.
+ * 내장 H2 로 애플리케이션 컨텍스트를 띄워 실제 서비스/JPA 설정 그대로 측정함.
+ * 실행: ./gradlew jmh -Pjmh.includes=CommentIngest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class CommentIngestBenchmark extends ApplicationFixture {
+
+    private CommentService commentService;
+    private CommentGroupCommitter committer;
+    private CommentRequestDto dto;
+
+    @Override
+    protected String[] arguments() {
+        return new String[]{"--app.comment.ingest.enabled=true"};
+    }
+
+    @Override
+    protected void setUp() {
+        commentService = context.getBean(CommentService.class);
+        committer = context.getBean(CommentGroupCommitter.class);
+
+        Long scheduleId = context.getBean(ScheduleService.class).createSchedule(scheduleRequest("벤치마크 일정", "내용")).getId();
+        dto = commentRequest("벤치마크 댓글", scheduleId);
+    }
+
+    @Benchmark
+    public CommentResponseDto sync() {
+        return commentService.createComment(dto);
+    }
+
+    @Benchmark
+    public CommentResponseDto groupCommit() {
+        return committer.submit(dto).join();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.todo.metrics;
+
+import com.example.todo.controller.ScheduleController;
+import com.example.todo.repository.ScheduleRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 지표 기록 비용 (운영과 같은 Prometheus 레지스트리, 히스토그램 켬)
+ * - route     : RouteMetricsInterceptor 의 preHandle + afterCompletion (PUT /schedules/{id} 한 건)
+ * - repository: RepositoryMetricsListener 가 리포지토리 호출 한 건을 기록
+ * - timer     : Timer.record 만 (위 둘에서 표 조회·요청 속성 비용을 뺀 하한)
+ *
+ * 서블릿 요청/응답은 필요한 메서드만 답하는 가짜 객체 (LoginFilterBenchmark 와 같은 방식)
+ * 요청 하나는 route 1번 + 리포지토리 호출 수만큼 repository 를 더한 비용이 듦
+ * 실행: ./gradlew jmh -Pjmh.includes=RouteMetrics
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteMetricsBenchmark {
+
+    private PrometheusMeterRegistry registry;
+    private RouteMetricsInterceptor interceptor;
+    private RepositoryMetricsListener listener;
+    private HandlerMethod handler;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private Map<String, Object> attributes;
+    private RepositoryMethodInvocation invocation;
+    private Timer timer;
+
+    @Setup
+    public void setUp() throws Exception {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+        // 컨트롤러 인스턴스 없이 빈 타입만 알려 주는 핸들러
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("scheduleController", new RootBeanDefinition(ScheduleController.class));
+        Method update = Arrays.stream(ScheduleController.class.getMethods())
+                .filter(method -> method.getName().equals("updateSchedule")).findFirst().orElseThrow();
+        handler = new HandlerMethod("scheduleController", beanFactory, update);
+        interceptor = new RouteMetricsInterceptor(registry, null);
+        interceptor.registerRoutes(Map.of(
+                RequestMappingInfo.paths("/schedules/{id}").methods(RequestMethod.PUT).build(), handler));
+
+        attributes = new HashMap<>();
+        request = proxy(HttpServletRequest.class, attributes);
+        response = proxy(HttpServletResponse.class, attributes);
+
+        listener = new RepositoryMetricsListener(registry, List.of(ScheduleRepository.class));
+        RepositoryMethodInvocationResult success = new RepositoryMethodInvocationResult() {
+            @Override
+            public State getState() {
+                return State.SUCCESS;
+            }
+
+            @Override
+            public Throwable getError() {
+                return null;
+            }
+        };
+        invocation = new RepositoryMethodInvocation(ScheduleRepository.class,
+                ScheduleRepository.class.getMethod("findById", Object.class), success, 250_000);
+
+        timer = Timer.builder("bench").publishPercentileHistogram().register(registry);
+    }
+
+    @Benchmark
+    public void route() {
+        attributes.clear();
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    @Benchmark
+    public void repository() {
+        listener.afterInvocation(invocation);
+    }
+
+    @Benchmark
+    public void timer() {
+        timer.record(250_000, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * getAttribute / setAttribute / getStatus(200) 만 답하는 가짜 서블릿 객체
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Map<String, Object> attributes) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) ->
+                switch (method.getName()) {
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    case "getStatus" -> 200;
+                    default -> null;
+                });
+    }
+}
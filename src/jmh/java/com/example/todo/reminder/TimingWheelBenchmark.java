@@ -0,0 +1,63 @@
+package com.example.todo.reminder;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이밍 휠 처리량 (ops/sec)
+ * - 대기 중인 알림 PENDING 건(100만)을 미리 올려 둔 상태에서 측정
+ * - schedule   : 새 id 등록 후 바로 취소 (대기 건수 유지)
+ * - reschedule : 기존 id 의 시각 변경 (updateSchedule 경로)
+ * - expireTick : tick 하나 진행 + 만료 항목 재등록 (휠 스레드 한 바퀴 비용, @OperationsPerInvocation 없이 tick 단위)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=TimingWheel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TimingWheelBenchmark {
+
+    private static final int PENDING = 1_000_000;
+    private static final long TICK = 100;
+    private static final long SPAN = 600_000; // 10분 구간에 고르게 분포
+
+    private TimingWheel wheel;
+    private SplittableRandom random;
+    private long now;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        wheel = new TimingWheel(TICK, 512, 0);
+        random = new SplittableRandom(42);
+        for (long id = 0; id < PENDING; id++) {
+            wheel.schedule(id, random.nextLong(SPAN));
+        }
+        nextId = PENDING;
+    }
+
+    @Benchmark
+    public boolean schedule() {
+        long id = nextId++;
+        wheel.schedule(id, now + random.nextLong(SPAN));
+        return wheel.cancel(id);
+    }
+
+    @Benchmark
+    public void reschedule() {
+        wheel.schedule(random.nextLong(PENDING), now + random.nextLong(SPAN));
+    }
+
+    @Benchmark
+    public int expireTick(Blackhole bh) {
+        now += TICK;
+        // 만료된 항목은 한 구간 뒤로 다시 올려서 대기 건수를 유지
+        return wheel.advance(now, (id, deadline) -> {
+            bh.consume(id);
+            wheel.schedule(id, deadline + SPAN);
+        });
+    }
+}
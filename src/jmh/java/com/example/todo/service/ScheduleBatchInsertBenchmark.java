@@ -0,0 +1,52 @@
+package com.example.todo.service;
+
+import com.example.todo.ApplicationFixture;
+import com.example.todo.dto.ScheduleRequestDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 생성 처리량 비교 (rows/sec)
+ * - oneByOne : 기존 경로. createSchedule 을 건마다 호출 (건마다 findById + INSERT + 커밋)
+ * - batch    : createSchedules 한 번 호출 (User IN 조회 1번 + JDBC 배치 INSERT + 커밋 1번)
+ *
+ * 내장 H2 로 애플리케이션 컨텍스트를 띄워 실제 서비스/JPA 설정 그대로 측정함.
+ * 결과의 ops/s 가 곧 초당 생성 건수 (@OperationsPerInvocation).
+ * 실행: ./gradlew jmh -Pjmh.includes=ScheduleBatchInsert
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScheduleBatchInsertBenchmark extends ApplicationFixture {
+
+    private static final int ROWS = 1000;
+
+    private ScheduleService scheduleService;
+    private List<ScheduleRequestDto> dtos;
+
+    @Override
+    protected void setUp() {
+        scheduleService = context.getBean(ScheduleService.class);
+        dtos = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            dtos.add(scheduleRequest("일정 " + i, "벤치마크 내용 " + i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void oneByOne() {
+        for (ScheduleRequestDto dto : dtos) {
+            scheduleService.createSchedule(dto);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Long> batch() {
+        return scheduleService.createSchedules(dtos);
+    }
+}
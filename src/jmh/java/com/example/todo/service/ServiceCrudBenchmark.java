@@ -0,0 +1,89 @@
+package com.example.todo.service;
+
+import com.example.todo.ApplicationFixture;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.dto.CursorPageResponseDto;
+import com.example.todo.dto.ScheduleRequestDto;
+import com.example.todo.dto.ScheduleResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScheduleService / CommentService CRUD 한 건의 지연 시간 (내장 H2, 컨트롤러 제외)
+ * - 조회는 키셋 첫 페이지(20건), 수정은 미리 만든 한 건을 반복 수정
+ * - 삭제는 만든 직후 지우는 한 쌍(create + delete)으로 측정 (지울 행이 매번 있어야 하므로)
+ *
+ * 실제 서비스/JPA/이벤트 리스너 설정 그대로 띄워서 측정하므로 트랜잭션, 2차 캐시, 커밋 후 색인 갱신 비용까지 포함됨.
+ * 측정 중에도 행이 계속 늘어나지만 목록 조회는 인덱스 첫 페이지만 읽으므로 영향이 작음
+ * 실행: ./gradlew jmh -Pjmh.includes=ServiceCrud
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceCrudBenchmark extends ApplicationFixture {
+
+    private ScheduleService scheduleService;
+    private CommentService commentService;
+
+    private ScheduleRequestDto scheduleDto;
+    private CommentRequestDto commentDto;
+    private Long scheduleId;
+    private Long commentId;
+
+    @Override
+    protected void setUp() {
+        scheduleService = context.getBean(ScheduleService.class);
+        commentService = context.getBean(CommentService.class);
+
+        scheduleDto = scheduleRequest("벤치마크 일정", "내용");
+        scheduleId = scheduleService.createSchedule(scheduleDto).getId();
+        commentDto = commentRequest("벤치마크 댓글", scheduleId);
+        commentId = commentService.createComment(commentDto).getId();
+        for (int i = 0; i < 100; i++) {
+            scheduleService.createSchedule(scheduleDto);
+            commentService.createComment(commentDto);
+        }
+    }
+
+    @Benchmark
+    public ScheduleResponseDto createSchedule() {
+        return scheduleService.createSchedule(scheduleDto);
+    }
+
+    @Benchmark
+    public CursorPageResponseDto<ScheduleResponseDto> listSchedules() {
+        return scheduleService.getSchedules(null, 20);
+    }
+
+    @Benchmark
+    public ScheduleResponseDto updateSchedule() {
+        return scheduleService.updateSchedule(scheduleId, scheduleDto);
+    }
+
+    @Benchmark
+    public void createAndDeleteSchedule() {
+        scheduleService.deleteSchedule(scheduleService.createSchedule(scheduleDto).getId());
+    }
+
+    @Benchmark
+    public CommentResponseDto createComment() {
+        return commentService.createComment(commentDto);
+    }
+
+    @Benchmark
+    public CursorPageResponseDto<CommentResponseDto> listComments() {
+        return commentService.getCommentsBySchedule(scheduleId, null, 20);
+    }
+
+    @Benchmark
+    public CommentResponseDto updateComment() {
+        return commentService.updateComment(commentId, commentDto);
+    }
+
+    @Benchmark
+    public void createAndDeleteComment() {
+        commentService.deleteComment(commentService.createComment(commentDto).getId());
+    }
+}
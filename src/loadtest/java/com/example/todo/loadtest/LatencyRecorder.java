@@ -0,0 +1,126 @@
+package com.example.todo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 기록 (HdrHistogram, 유효숫자 3자리, 나노초 단위)
+ *
+ * 요청마다 두 가지 시간을 기록함
+ * - 응답 시간(response time) : "요청을 보냈어야 할 시각"부터 응답까지. open 모드에서는 서버가 밀려서 늦게 보낸 시간까지 포함
+ *   → 느린 응답 동안 보내지 못한 요청의 대기 시간이 빠지지 않음 (coordinated omission 보정)
+ * - 처리 시간(service time)  : 실제로 보낸 시각부터 응답까지. closed 모드에서는 응답 시간과 같음
+ *
+ * Recorder 는 여러 스레드가 잠금 없이 동시에 기록할 수 있음 (예열 구간 요청은 호출하는 쪽에서 기록하지 않음)
+ */
+public class LatencyRecorder {
+
+    // 1시간 넘는 응답은 1시간으로 기록
+    private static final long HIGHEST_TRACKABLE = TimeUnit.HOURS.toNanos(1);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<Operation, Recorder> responseTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, Recorder> serviceTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            responseTimes.put(operation, new Recorder(HIGHEST_TRACKABLE, 3));
+            serviceTimes.put(operation, new Recorder(HIGHEST_TRACKABLE, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 요청 한 건 기록
+     *
+     * @param intendedStart 보냈어야 할 시각 (closed 모드면 actualStart 와 같음)
+     * @param actualStart 실제로 보낸 시각
+     * @param end 응답을 받은 시각
+     * @param ok 2xx 응답이면 true (아니면 오류 건수에도 더함)
+     */
+    public void record(Operation operation, long intendedStart, long actualStart, long end, boolean ok) {
+        responseTimes.get(operation).recordValue(Math.min(end - intendedStart, HIGHEST_TRACKABLE));
+        serviceTimes.get(operation).recordValue(Math.min(end - actualStart, HIGHEST_TRACKABLE));
+        if (!ok) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * 지금까지의 기록을 꺼냄
+     */
+    public Result take(Operation operation, long elapsedNanos) {
+        return new Result(operation,
+                responseTimes.get(operation).getIntervalHistogram(),
+                serviceTimes.get(operation).getIntervalHistogram(),
+                errors.get(operation).sumThenReset(),
+                elapsedNanos);
+    }
+
+    /**
+     * 엔드포인트 하나의 측정 결과
+     */
+    public static final class Result {
+        private final Operation operation;
+        private final Histogram responseTime;
+        private final Histogram serviceTime;
+        private final long errors;
+        private final long elapsedNanos;
+
+        Result(Operation operation, Histogram responseTime, Histogram serviceTime, long errors, long elapsedNanos) {
+            this.operation = operation;
+            this.responseTime = responseTime;
+            this.serviceTime = serviceTime;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long count() {
+            return responseTime.getTotalCount();
+        }
+
+        public String toRow() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format("%-30s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                    operation.getLabel(), count(), errors, count() / seconds,
+                    ms(responseTime, 50), ms(responseTime, 99), ms(responseTime, 99.9),
+                    responseTime.getMaxValue() / NANOS_PER_MILLI,
+                    ms(serviceTime, 99));
+        }
+
+        static String header() {
+            return String.format("%-30s %8s %7s %9s %9s %9s %9s %9s %9s",
+                    "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99");
+        }
+
+        /**
+         * HdrHistogram 백분위 분포 파일 (.hgrm, 밀리초 단위)로 저장
+         * - 응답 시간과 처리 시간을 각각 {key}.hgrm, {key}-service.hgrm 으로
+         * - HdrHistogram 의 plotFiles.html 등으로 여러 실행 결과를 겹쳐 볼 수 있음
+         */
+        void writeHgrm(Path dir) throws IOException {
+            write(dir.resolve(operation.getKey() + ".hgrm"), responseTime);
+            write(dir.resolve(operation.getKey() + "-service.hgrm"), serviceTime);
+        }
+
+        private static void write(Path file, Histogram histogram) throws IOException {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+                histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+
+        private static double ms(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+        }
+    }
+}
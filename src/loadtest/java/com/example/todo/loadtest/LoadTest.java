@@ -0,0 +1,310 @@
+package com.example.todo.loadtest;
+
+import com.example.todo.SchedulerAppApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 종단 간 부하 테스트 (./gradlew loadTest)
+ *
+ * 1) 애플리케이션을 같은 JVM 에서 내장 H2, 임의 포트로 띄움 (로그인/회원가입 요청 제한은 끔. 모든 요청이 같은 IP 라서)
+ *    load.threads=virtual 이면 요청 처리를 가상 스레드로
+ * 2) 준비: 일정 load.seed-schedules 건을 한 번에 만들고 앞쪽 일정에 댓글을 몇 개씩 닮
+ * 3) 가상 사용자 load.users 명이 동시에 가입 후 로그인 (로그인 지연 시간은 POST /auth/login 으로 기록)
+ * 4) load.mix 비율로 작업을 골라 예열(load.warmup) 후 load.duration 동안 측정
+ *    - closed : 가상 사용자마다 응답을 받으면 바로 다음 요청. 서버가 느려지면 보내는 양도 줄어듦
+ *    - open   : 요청 i 는 시작 시각 + i / load.rate 에 보내야 함 (서버 속도와 무관한 도착률).
+ *               지연 시간은 그 "보냈어야 할 시각"부터 재므로, 밀려서 늦게 보낸 시간까지 포함됨 (coordinated omission 보정)
+ * 5) 엔드포인트별 처리량과 p50/p99/p99.9 를 출력하고 build/reports/loadtest 에 summary.txt, .hgrm 저장
+ *
+ * 같은 JVM 에서 부하 생성과 서버가 CPU 를 나눠 쓰므로 절댓값보다는 변경 전후 비교용
+ */
+public class LoadTest {
+
+    private final LoadTestSettings settings;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final String baseUrl;
+    // 서버 쪽 커넥션 풀 지표 (같은 JVM 의 애플리케이션)
+    private final MeterRegistry meterRegistry;
+
+    // load.mix 를 누적 가중치로 (작업 선택용)
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private final AtomicLong lastCompletion = new AtomicLong();
+    private final AtomicLong unsent = new AtomicLong();
+
+    public LoadTest(LoadTestSettings settings, String baseUrl, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.meterRegistry = meterRegistry;
+        this.operations = settings.getMix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += settings.getMix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        // 가상 스레드 모드의 동시 요청 제한은 거절 대신 기다리게 함 (플랫폼 스레드 모드의 톰캣 대기열과 같은 조건)
+        List<String> appArgs = new ArrayList<>(List.of("--server.port=0", "--management.server.port=0", "--app.throttle.enabled=false",
+                "--app.virtual-threads.queue-timeout=PT10M",
+                "--spring.threads.virtual.enabled=" + settings.isVirtualThreads()));
+        appArgs.addAll(List.of(settings.getAppArgs()));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SchedulerAppApplication.class)
+                .properties("logging.level.root=WARN", "spring.main.banner-mode=off")
+                .run(appArgs.toArray(new String[0]));
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            new LoadTest(settings, baseUrl, context.getBean(MeterRegistry.class)).run();
+        } finally {
+            context.close();
+        }
+    }
+
+    public void run() throws Exception {
+        System.out.println("부하 테스트: " + settings);
+
+        long[] scheduleIds = seed();
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < settings.getUsers(); i++) {
+            users.add(new VirtualUser(client, objectMapper, baseUrl, "load" + i, scheduleIds));
+        }
+        long loginElapsed = loginAll(users);
+        assignUserIds(users);
+
+        long start = System.nanoTime();
+        long measureStart = start + settings.getWarmup().toNanos();
+        long measureEnd = measureStart + settings.getDuration().toNanos();
+        lastCompletion.set(measureEnd);
+
+        AtomicLong nextSlot = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        for (VirtualUser user : users) {
+            Runnable loop = settings.isOpenLoop()
+                    ? () -> openLoop(user, nextSlot, start, measureStart, measureEnd)
+                    : () -> closedLoop(user, measureStart, measureEnd);
+            Thread thread = new Thread(loop, "load-" + user.getUsername());
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        report(loginElapsed, lastCompletion.get() - measureStart);
+    }
+
+    /**
+     * 목록/댓글 조회 대상이 될 일정과 댓글을 미리 만듦 (측정하지 않음)
+     */
+    private long[] seed() throws IOException, InterruptedException {
+        VirtualUser seeder = new VirtualUser(client, objectMapper, baseUrl, "seed", new long[0]);
+        seeder.signUp();
+        if (seeder.execute(Operation.LOGIN) != 200) {
+            throw new IllegalStateException("준비용 사용자 로그인 실패");
+        }
+        long seederId = findUserIds(seeder).get("seed");
+        seeder.setUserId(seederId);
+
+        List<Map<String, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, settings.getSeedSchedules()); i++) {
+            batch.add(Map.of("title", "준비 일정 " + i, "content", "부하 테스트 준비 내용 " + i, "userId", seederId));
+        }
+        HttpResponse<String> created = seeder.send(seeder.authorized(
+                seeder.post("/schedules/batch", objectMapper.writeValueAsString(batch))));
+        VirtualUser.expectOk(created, "일정 준비");
+        JsonNode ids = seeder.readJson(created);
+        long[] scheduleIds = new long[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            scheduleIds[i] = ids.get(i).asLong();
+        }
+
+        // 앞쪽 50개 일정에 댓글 5개씩
+        for (int i = 0; i < Math.min(50, scheduleIds.length); i++) {
+            for (int j = 0; j < 5; j++) {
+                VirtualUser.expectOk(seeder.send(seeder.authorized(seeder.post("/comments", objectMapper.writeValueAsString(
+                        Map.of("content", "준비 댓글 " + j, "userId", seederId, "scheduleId", scheduleIds[i]))))), "댓글 준비");
+            }
+        }
+        return scheduleIds;
+    }
+
+    /**
+     * 가상 사용자 전원이 동시에 가입 후 로그인. 로그인만 측정
+     *
+     * @return 로그인 구간 전체 소요 시간 (나노초)
+     */
+    private long loginAll(List<VirtualUser> users) throws InterruptedException {
+        long started = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (VirtualUser user : users) {
+            Thread thread = new Thread(() -> {
+                try {
+                    user.signUp();
+                    long t0 = System.nanoTime();
+                    int status = user.execute(Operation.LOGIN);
+                    recorder.record(Operation.LOGIN, t0, t0, System.nanoTime(), status == 200);
+                    if (status != 200) {
+                        throw new IllegalStateException(user.getUsername() + " 로그인 실패: " + status);
+                    }
+                } catch (IOException | InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, "login-" + user.getUsername());
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.nanoTime() - started;
+    }
+
+    private void assignUserIds(List<VirtualUser> users) throws IOException, InterruptedException {
+        Map<String, Long> ids = findUserIds(users.get(0));
+        for (VirtualUser user : users) {
+            user.setUserId(ids.get(user.getUsername()));
+        }
+    }
+
+    // GET /users 를 끝까지 넘기면서 사용자명 → id
+    private Map<String, Long> findUserIds(VirtualUser user) throws IOException, InterruptedException {
+        Map<String, Long> ids = new HashMap<>();
+        String cursor = null;
+        do {
+            HttpResponse<String> page = user.send(user.get("/users?size=100" + (cursor == null ? "" : "&cursor=" + cursor)));
+            VirtualUser.expectOk(page, "사용자 목록");
+            JsonNode body = user.readJson(page);
+            body.get("items").forEach(item -> ids.put(item.get("username").asText(), item.get("id").asLong()));
+            cursor = body.get("next").isNull() ? null : body.get("next").asText();
+        } while (cursor != null);
+        return ids;
+    }
+
+    /**
+     * closed 모드: 응답을 받자마자 다음 요청 (보낸 시각 = 보냈어야 할 시각)
+     */
+    private void closedLoop(VirtualUser user, long measureStart, long measureEnd) {
+        try {
+            long now;
+            while ((now = System.nanoTime()) < measureEnd) {
+                Operation operation = user.effective(pick());
+                int status = user.execute(operation);
+                long end = System.nanoTime();
+                if (now >= measureStart) {
+                    recorder.record(operation, now, now, end, status / 100 == 2);
+                    lastCompletion.accumulateAndGet(end, Math::max);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * open 모드: 요청 번호 i 를 하나씩 가져가서 start + i / rate 시각에 보냄
+     * - 모든 가상 사용자가 응답을 기다리는 중이면 다음 번호는 늦게 보내지고, 그만큼 지연 시간에 포함됨
+     * - 서버가 따라오지 못해 측정 종료 후 load.duration 만큼 더 지나도 남은 요청은 보내지 않고 unsent 로 보고
+     */
+    private void openLoop(VirtualUser user, AtomicLong nextSlot, long start, long measureStart, long measureEnd) {
+        double intervalNanos = 1e9 / settings.getRate();
+        long giveUpAt = measureEnd + settings.getDuration().toNanos();
+        try {
+            while (true) {
+                long slot = nextSlot.getAndIncrement();
+                long intended = start + (long) (slot * intervalNanos);
+                if (intended >= measureEnd) {
+                    return;
+                }
+                long now = System.nanoTime();
+                if (now > giveUpAt) {
+                    unsent.incrementAndGet();
+                    continue;
+                }
+                while (intended > now) {
+                    LockSupport.parkNanos(intended - now);
+                    now = System.nanoTime();
+                }
+                Operation operation = user.effective(pick());
+                long sent = System.nanoTime();
+                int status = user.execute(operation);
+                long end = System.nanoTime();
+                if (intended >= measureStart) {
+                    recorder.record(operation, intended, sent, end, status / 100 == 2);
+                    lastCompletion.accumulateAndGet(end, Math::max);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Operation pick() {
+        int r = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void report(long loginElapsed, long measuredElapsed) throws IOException {
+        Files.createDirectories(settings.getReportDir());
+        List<String> lines = new ArrayList<>();
+        lines.add("부하 테스트: " + settings);
+        lines.add(LatencyRecorder.Result.header());
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder.Result result = recorder.take(operation,
+                    operation == Operation.LOGIN ? loginElapsed : measuredElapsed);
+            if (result.count() == 0) {
+                continue;
+            }
+            if (operation != Operation.LOGIN) {
+                total += result.count();
+            }
+            lines.add(result.toRow());
+            result.writeHgrm(settings.getReportDir());
+        }
+        lines.add(String.format("측정 %.1f초, 전체 %.1f req/s%s", measuredElapsed / 1e9, total / (measuredElapsed / 1e9),
+                settings.isOpenLoop() ? String.format(" (목표 %.1f req/s, 보내지 못한 요청 %d건)", settings.getRate(), unsent.get()) : ""));
+        lines.add("지연 시간은 " + (settings.isOpenLoop() ? "보냈어야 할 시각" : "보낸 시각")
+                + "부터 응답까지 (svc p99 는 실제로 보낸 시각부터). login 행은 가상 사용자 로그인 구간 기준");
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").counter();
+        if (acquire != null && timeouts != null) {
+            lines.add(String.format("커넥션 풀(서버): 빌리기 대기 평균 %.1f ms, 최대 %.0f ms, 시간 초과 %.0f건 (준비/로그인 포함 전체 실행)",
+                    acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS), timeouts.count()));
+        }
+
+        lines.forEach(System.out::println);
+        Files.write(settings.getReportDir().resolve("summary.txt"), lines, StandardCharsets.UTF_8);
+        System.out.println("보고서: " + settings.getReportDir().toAbsolutePath());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.todo.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티, Gradle 에서는 -Pload.xxx=값)
+ *
+ * | 프로퍼티               | 기본값                                     | 설명
+ * |------------------------|--------------------------------------------|------------------------------------------------------
+ * | load.mode              | closed                                     | closed: 가상 사용자마다 응답을 받으면 바로 다음 요청
+ * |                        |                                            | open: 응답과 무관하게 load.rate 로 요청 시작 (도착률 고정)
+ * | load.users             | 16                                         | 가상 사용자(=작업 스레드) 수. 각자 가입/로그인한 세션 사용
+ * | load.rate              | 200                                        | open 모드의 초당 요청 수 (전체 합)
+ * | load.warmup            | PT10S                                      | 측정 전 예열 시간 (이 구간 결과는 버림)
+ * | load.duration          | PT30S                                      | 측정 시간
+ * | load.mix               | listSchedules:40,listComments:25,...       | 작업별 가중치 (Operation 의 key)
+ * | load.seed-schedules    | 200                                        | 시작 전에 미리 만들어 둘 일정 수 (목록/댓글 조회 대상)
+ * | load.threads           | platform                                   | 서버 요청 처리 스레드. virtual 이면 spring.threads.virtual.enabled=true
+ * |                        |                                            | 부하를 만드는 쪽 스레드는 두 모드 모두 플랫폼 스레드 (서버만 바꿔서 비교)
+ * | load.app-args          | (없음)                                     | 애플리케이션에 넘길 추가 인자 (공백 구분, 예: --app.comment.ingest.enabled=true)
+ * | load.report-dir        | build/reports/loadtest                     | summary.txt 와 엔드포인트별 .hgrm 을 쓸 디렉터리
+ */
+public class LoadTestSettings {
+
+    static final String DEFAULT_MIX =
+            "listSchedules:40,listComments:25,createComment:10,createSchedule:10,updateSchedule:10,deleteSchedule:5";
+
+    private final boolean openLoop;
+    private final int users;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Operation, Integer> mix;
+    private final int seedSchedules;
+    private final boolean virtualThreads;
+    private final String[] appArgs;
+    private final Path reportDir;
+
+    private LoadTestSettings(boolean openLoop, int users, double rate, Duration warmup, Duration duration,
+                             Map<Operation, Integer> mix, int seedSchedules, boolean virtualThreads, String[] appArgs,
+                             Path reportDir) {
+        this.openLoop = openLoop;
+        this.users = users;
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.seedSchedules = seedSchedules;
+        this.virtualThreads = virtualThreads;
+        this.appArgs = appArgs;
+        this.reportDir = reportDir;
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        String mode = System.getProperty("load.mode", "closed");
+        if (!mode.equals("closed") && !mode.equals("open")) {
+            throw new IllegalArgumentException("load.mode 는 closed 또는 open 이어야 합니다: " + mode);
+        }
+        int users = Integer.parseInt(System.getProperty("load.users", "16"));
+        double rate = Double.parseDouble(System.getProperty("load.rate", "200"));
+        if (users < 1 || rate <= 0) {
+            throw new IllegalArgumentException("load.users 와 load.rate 는 양수여야 합니다.");
+        }
+        String threads = System.getProperty("load.threads", "platform");
+        if (!threads.equals("platform") && !threads.equals("virtual")) {
+            throw new IllegalArgumentException("load.threads 는 platform 또는 virtual 이어야 합니다: " + threads);
+        }
+        String appArgs = System.getProperty("load.app-args", "").trim();
+        return new LoadTestSettings(
+                mode.equals("open"),
+                users,
+                rate,
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT30S")),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+                Integer.parseInt(System.getProperty("load.seed-schedules", "200")),
+                threads.equals("virtual"),
+                appArgs.isEmpty() ? new String[0] : appArgs.split("\\s+"),
+                Path.of(System.getProperty("load.report-dir", "build/reports/loadtest")));
+    }
+
+    // "listSchedules:40,createComment:10" → {LIST_SCHEDULES=40, CREATE_COMMENT=10}
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("load.mix 형식이 올바르지 않습니다: " + entry);
+            }
+            Operation operation = Operation.fromKey(pair[0].trim());
+            if (operation == Operation.LOGIN) {
+                throw new IllegalArgumentException("login 은 시작할 때 가상 사용자마다 한 번씩 실행되므로 load.mix 에 넣을 수 없습니다.");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(operation, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.mix 에 가중치가 양수인 작업이 하나 이상 있어야 합니다.");
+        }
+        return mix;
+    }
+
+    public boolean isOpenLoop() {
+        return openLoop;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public int getSeedSchedules() {
+        return seedSchedules;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public String[] getAppArgs() {
+        return appArgs.clone();
+    }
+
+    public Path getReportDir() {
+        return reportDir;
+    }
+
+    @Override
+    public String toString() {
+        return (openLoop ? "open-loop " + rate + " req/s" : "closed-loop") + ", users=" + users
+                + ", threads=" + (virtualThreads ? "virtual" : "platform")
+                + ", warmup=" + warmup + ", duration=" + duration + ", mix=" + mix;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.todo.loadtest;
+
+/**
+ * 부하 테스트가 호출하는 엔드포인트
+ * - key 는 load.mix 설정에서 쓰는 이름, label 은 보고서에 찍히는 이름
+ */
+public enum Operation {
+
+    LOGIN("login", "POST /auth/login"),
+    LIST_SCHEDULES("listSchedules", "GET /schedules"),
+    LIST_COMMENTS("listComments", "GET /comments/schedule/{id}"),
+    CREATE_SCHEDULE("createSchedule", "POST /schedules"),
+    UPDATE_SCHEDULE("updateSchedule", "PUT /schedules/{id}"),
+    DELETE_SCHEDULE("deleteSchedule", "DELETE /schedules/{id}"),
+    CREATE_COMMENT("createComment", "POST /comments");
+
+    private final String key;
+    private final String label;
+
+    Operation(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 작업입니다: " + key);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.todo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가상 사용자 한 명 (자기 세션 쿠키와 자기가 만든 일정 목록을 가짐)
+ * - 한 번에 한 스레드만 사용 (closed 모드는 전용 스레드, open 모드는 작업 스레드 하나가 전담)
+ * - 수정/삭제는 자기가 만든 일정에만 함. 만든 일정이 없으면 대신 일정을 만듦 (effective 참고)
+ */
+public class VirtualUser {
+
+    static final String PASSWORD = "load-test-1234";
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String username;
+    private final long[] sharedScheduleIds;
+
+    private String cookie;
+    private long userId;
+    private final Deque<Long> ownSchedules = new ArrayDeque<>();
+
+    public VirtualUser(HttpClient client, ObjectMapper objectMapper, String baseUrl, String username, long[] sharedScheduleIds) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.sharedScheduleIds = sharedScheduleIds;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return username + "@load.test";
+    }
+
+    public void setUserId(long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * 회원가입 (측정하지 않음)
+     */
+    public void signUp() throws IOException, InterruptedException {
+        expectOk(send(post("/users", json("username", username, "email", getEmail(), "password", PASSWORD))), "회원가입");
+    }
+
+    /**
+     * 실제로 실행할 작업 (수정/삭제할 자기 일정이 없으면 일정 생성으로 바꿈)
+     */
+    public Operation effective(Operation operation) {
+        if ((operation == Operation.UPDATE_SCHEDULE || operation == Operation.DELETE_SCHEDULE) && ownSchedules.isEmpty()) {
+            return Operation.CREATE_SCHEDULE;
+        }
+        return operation;
+    }
+
+    /**
+     * 작업 한 건 실행
+     *
+     * @return HTTP 상태 코드 (연결 오류면 -1)
+     */
+    public int execute(Operation operation) throws InterruptedException {
+        try {
+            return switch (operation) {
+                case LOGIN -> login();
+                case LIST_SCHEDULES -> send(get("/schedules?size=20")).statusCode();
+                case LIST_COMMENTS -> send(get("/comments/schedule/" + anySchedule() + "?size=20")).statusCode();
+                case CREATE_SCHEDULE -> createSchedule();
+                case UPDATE_SCHEDULE -> send(authorized(HttpRequest.newBuilder(uri("/schedules/" + ownSchedules.peekLast()))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(scheduleBody("수정된 일정"))))).statusCode();
+                case DELETE_SCHEDULE -> send(authorized(HttpRequest.newBuilder(uri("/schedules/" + ownSchedules.pollFirst()))
+                        .DELETE())).statusCode();
+                case CREATE_COMMENT -> send(authorized(post("/comments",
+                        json("content", "부하 테스트 댓글", "userId", userId, "scheduleId", anySchedule())))).statusCode();
+            };
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private int login() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/auth/login", json("email", getEmail(), "password", PASSWORD)));
+        if (response.statusCode() == 200) {
+            cookie = response.headers().firstValue("Set-Cookie").map(value -> value.split(";", 2)[0]).orElse(null);
+        }
+        return response.statusCode();
+    }
+
+    private int createSchedule() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(authorized(post("/schedules", scheduleBody("부하 테스트 일정"))));
+        if (response.statusCode() == 200) {
+            ownSchedules.addLast(objectMapper.readTree(response.body()).get("id").asLong());
+        }
+        return response.statusCode();
+    }
+
+    private String scheduleBody(String title) throws IOException {
+        return json("title", title, "content", "부하 테스트 내용 " + System.nanoTime(), "userId", userId);
+    }
+
+    // 미리 만들어 둔 일정 중 하나 (삭제될 수 있는 자기 일정은 고르지 않음)
+    private long anySchedule() {
+        return sharedScheduleIds[ThreadLocalRandom.current().nextInt(sharedScheduleIds.length)];
+    }
+
+    HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    HttpRequest.Builder get(String path) {
+        return authorized(HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    HttpRequest.Builder post(String path, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    HttpRequest.Builder authorized(HttpRequest.Builder request) {
+        return cookie == null ? request : request.header("Cookie", cookie);
+    }
+
+    JsonNode readJson(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private String json(Object... keyValues) throws IOException {
+        var node = objectMapper.createObjectNode();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            node.putPOJO((String) keyValues[i], keyValues[i + 1]);
+        }
+        return objectMapper.writeValueAsString(node);
+    }
+
+    static void expectOk(HttpResponse<String> response, String what) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(what + " 실패: " + response.statusCode() + " " + response.body());
+        }
+    }
+}
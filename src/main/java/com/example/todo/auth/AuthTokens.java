@@ -0,0 +1,272 @@
+package com.example.todo.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 서명 토큰 발급/검증 (app.auth.mode=token 일 때 로그인 결과로 사용)
+ *
+ * 형식: base64url(userId 8바이트 + 만료 시각 epoch 초 8바이트) "." base64url(HMAC-SHA256(앞 16바이트))
+ * → 항상 22 + 1 + 43 = 66 글자. 서버는 비밀 키 하나만 알면 되고 세션 저장소가 필요 없음
+ *
+ * 검증(요청마다 실행)
+ * - HMAC 의 키 블록(key ^ ipad, key ^ opad)은 시작할 때 한 번만 계산하고, SHA-256 MessageDigest 와 버퍼는 작은 풀에서 빌려 씀
+ *   (javax.crypto.Mac.doFinal 은 결과 배열을 매번 새로 만들어서 직접 계산함. 결과는 RFC 2104 HMAC-SHA256 과 같음)
+ *   ThreadLocal 로 두면 가상 스레드 모드에서는 요청마다 스레드가 새로 생겨서 요청마다 MessageDigest 를 새로 만들게 됨
+ * - 문자열을 자르거나 Base64 디코더 객체를 만들지 않고, 빌린 버퍼에 직접 디코딩 → 요청당 할당 없음
+ * - 서명 비교는 길이가 같으면 항상 끝까지 비교 (비교 시간으로 서명을 추측하지 못하도록)
+ *
+ * 한계: 서버에 상태가 없으므로 로그아웃해도 토큰은 만료(ttl) 전까지 유효함
+ * (삭제된 사용자의 토큰은 LoginFilter 가 RevokedUsers 로 거절함)
+ */
+@Slf4j
+@Component
+public class AuthTokens {
+
+    public static final int TOKEN_LENGTH = 66;
+
+    private static final int BLOCK_BYTES = 64; // SHA-256 블록 크기
+    private static final int PAYLOAD_BYTES = 16;
+    private static final int PAYLOAD_CHARS = 22;
+    private static final int MAC_BYTES = 32;
+    private static final int MAC_CHARS = 43;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    // 검증 중에는 멈추지 않으므로(I/O 없음) 동시에 쓰는 수는 CPU(캐리어 스레드) 수 정도. 넘치면 새로 만들어 쓰고 버림
+    private static final int POOL_SLOTS = Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors()) * 2 - 1) * 2;
+
+    // base64url 글자 → 6비트 값 (해당 없으면 -1)
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    // HMAC 키 블록: (key ^ 0x36...), (key ^ 0x5c...)
+    private final byte[] innerKey = new byte[BLOCK_BYTES];
+    private final byte[] outerKey = new byte[BLOCK_BYTES];
+    private final long ttlSeconds;
+    private final AtomicReferenceArray<Scratch> pool = new AtomicReferenceArray<>(POOL_SLOTS);
+
+    public AuthTokens(@Value("${app.auth.token.secret:}") String secret,
+                      @Value("${app.auth.token.ttl:PT12H}") Duration ttl) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            // 설정이 없으면 임의 키 (재시작하면 기존 토큰이 모두 무효, 서버가 여러 대면 서로의 토큰을 검증하지 못함)
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("app.auth.token.secret 이 없어 임의 키를 사용합니다. 재시작하면 발급한 토큰이 모두 무효가 됩니다.");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length < 32) {
+                throw new IllegalArgumentException("app.auth.token.secret 은 32바이트 이상이어야 합니다.");
+            }
+        }
+        if (keyBytes.length > BLOCK_BYTES) {
+            keyBytes = newDigest().digest(keyBytes);
+        }
+        for (int i = 0; i < BLOCK_BYTES; i++) {
+            byte k = i < keyBytes.length ? keyBytes[i] : 0;
+            innerKey[i] = (byte) (k ^ 0x36);
+            outerKey[i] = (byte) (k ^ 0x5c);
+        }
+        this.ttlSeconds = ttl.getSeconds();
+        for (int i = 0; i < POOL_SLOTS; i++) {
+            pool.set(i, new Scratch(newDigest()));
+        }
+    }
+
+    /**
+     * 토큰 발급 (지금부터 ttl 동안 유효)
+     */
+    public String issue(long userId) {
+        return issue(userId, nowSeconds() + ttlSeconds);
+    }
+
+    String issue(long userId, long expiresAtSeconds) {
+        Scratch s = acquire();
+        try {
+            writeLong(s.payload, 0, userId);
+            writeLong(s.payload, 8, expiresAtSeconds);
+            sign(s);
+            return ENCODER.encodeToString(s.payload) + "." + ENCODER.encodeToString(s.expected);
+        } finally {
+            release(s);
+        }
+    }
+
+    /**
+     * value 의 offset 부터 TOKEN_LENGTH 글자를 토큰으로 검증
+     *
+     * @return 토큰의 userId, 형식/서명이 틀렸거나 만료됐으면 -1
+     */
+    public long verify(String value, int offset) {
+        if (value == null || value.length() != offset + TOKEN_LENGTH
+                || value.charAt(offset + PAYLOAD_CHARS) != '.') {
+            return -1;
+        }
+        Scratch s = acquire();
+        try {
+            if (!decode(value, offset, PAYLOAD_CHARS, s.payload)
+                    || !decode(value, offset + PAYLOAD_CHARS + 1, MAC_CHARS, s.given)) {
+                return -1;
+            }
+            sign(s);
+            int diff = 0;
+            for (int i = 0; i < MAC_BYTES; i++) {
+                diff |= s.expected[i] ^ s.given[i];
+            }
+            if (diff != 0 || readLong(s.payload, 8) <= nowSeconds()) {
+                return -1;
+            }
+            return readLong(s.payload, 0);
+        } finally {
+            release(s);
+        }
+    }
+
+    /**
+     * verify 를 통과한 토큰의 발급 시각 (만료 시각 - ttl, epoch 초)
+     * - 페이로드 뒤쪽 8바이트(만료 시각)만 버퍼 없이 디코딩
+     */
+    public long issuedAt(String value, int offset) {
+        long expiresAt = 0;
+        int acc = 0;
+        int bits = 0;
+        int o = 0;
+        for (int i = offset, end = offset + PAYLOAD_CHARS; i < end; i++) {
+            acc = (acc << 6) | DECODE[value.charAt(i)];
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                if (o++ >= 8) {
+                    expiresAt = (expiresAt << 8) | ((acc >>> bits) & 0xFF);
+                }
+                acc &= (1 << bits) - 1;
+            }
+        }
+        return expiresAt - ttlSeconds;
+    }
+
+    /**
+     * base64url(패딩 없음) length 글자를 out 에 디코딩. 글자가 틀렸거나 남는 비트가 0 이 아니면 false
+     */
+    private static boolean decode(String value, int offset, int length, byte[] out) {
+        int acc = 0;
+        int bits = 0;
+        int o = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char c = value.charAt(i);
+            int v = c < 128 ? DECODE[c] : -1;
+            if (v < 0) {
+                return false;
+            }
+            acc = (acc << 6) | v;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                out[o++] = (byte) (acc >>> bits);
+                acc &= (1 << bits) - 1;
+            }
+        }
+        return o == out.length && acc == 0;
+    }
+
+    /**
+     * s.expected = HMAC-SHA256(key, s.payload) = H(outerKey || H(innerKey || payload))
+     */
+    private void sign(Scratch s) {
+        try {
+            s.digest.update(innerKey);
+            s.digest.update(s.payload, 0, PAYLOAD_BYTES);
+            s.digest.digest(s.expected, 0, MAC_BYTES);
+            s.digest.update(outerKey);
+            s.digest.update(s.expected, 0, MAC_BYTES);
+            s.digest.digest(s.expected, 0, MAC_BYTES);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 풀에서 하나 빌림 (비어 있으면 새로 만듦)
+     * - 시작 칸은 스레드 id 로 흩어 놓을 뿐, 어느 스레드든 아무 칸이나 씀
+     */
+    private Scratch acquire() {
+        int start = (int) Thread.currentThread().threadId();
+        for (int i = 0; i < POOL_SLOTS; i++) {
+            int slot = (start + i) & (POOL_SLOTS - 1);
+            Scratch s = pool.getPlain(slot);
+            if (s != null && pool.compareAndSet(slot, s, null)) {
+                return s;
+            }
+        }
+        return new Scratch(newDigest());
+    }
+
+    // 빈 칸에 돌려놓음 (가득 찼으면 버림)
+    private void release(Scratch s) {
+        int start = (int) Thread.currentThread().threadId();
+        for (int i = 0; i < POOL_SLOTS; i++) {
+            int slot = (start + i) & (POOL_SLOTS - 1);
+            if (pool.getPlain(slot) == null && pool.compareAndSet(slot, null, s)) {
+                return;
+            }
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static void writeLong(byte[] b, int at, long v) {
+        for (int i = 7; i >= 0; i--) {
+            b[at + i] = (byte) v;
+            v >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] b, int at) {
+        long v = 0;
+        for (int i = 0; i < 8; i++) {
+            v = (v << 8) | (b[at + i] & 0xFF);
+        }
+        return v;
+    }
+
+    /**
+     * 풀에서 빌려 쓰는 MessageDigest 와 디코딩 버퍼 (빌린 동안은 한 스레드만 사용)
+     */
+    private static final class Scratch {
+        final MessageDigest digest;
+        final byte[] payload = new byte[PAYLOAD_BYTES];
+        final byte[] expected = new byte[MAC_BYTES];
+        final byte[] given = new byte[MAC_BYTES];
+
+        Scratch(MessageDigest digest) {
+            this.digest = digest;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.todo.auth;
+
+import com.example.todo.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.LongPredicate;
+
+/**
+ * 토큰 모드에서 삭제된 사용자의 토큰을 거절하기 위한 메모리 목록 (LoginFilter 가 요청마다 확인, DB 조회 없음)
+ * - UserChangedEvent(DELETED) 를 커밋 후에 받아 사용자 id 를 넣고, 토큰 유효 기간(ttl)이 지나면 뺌
+ *   (그 전에 발급된 토큰은 모두 만료됐고, 삭제된 사용자는 다시 로그인할 수 없으므로 새 토큰도 없음)
+ * - 최대 max-revoked 명. 넘쳐서 밀려난 id 가 생기면 그 시점 전에 발급된 토큰은 목록만으로 판단할 수 없음
+ *
+ * 목록이 모든 삭제를 담고 있다고 볼 수 없는 토큰은 storedUser(사용자 조회)로 확인
+ * - 서버 시작 전에 발급된 토큰 (그 전의 삭제는 목록에 없음. 고정 비밀 키를 쓸 때만 생기고, 재시작 후 ttl 이 지나면 없어짐)
+ * - 목록이 넘친 시점 전에 발급된 토큰
+ *
+ * 단일 서버 기준. 서버가 여러 대면 다른 서버의 삭제를 알 수 없으므로 사용자 조회 방식으로 바꿔야 함
+ */
+public class RevokedUsers {
+
+    private final LongPredicate storedUser;
+    private final Cache<Long, Boolean> revoked;
+    // 이 시각(epoch 초) 이후에 발급된 토큰은 목록만으로 판단
+    private volatile long trustedSince;
+
+    /**
+     * @param storedUser 목록만으로 판단할 수 없는 토큰에 쓰는 조회 (삭제되지 않은 사용자면 true)
+     */
+    public RevokedUsers(LongPredicate storedUser, Duration ttl, long maxRevoked) {
+        this.storedUser = storedUser;
+        this.trustedSince = nowSeconds();
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxRevoked)
+                // 토큰 만료 시각은 벽시계, 캐시 만료는 nanoTime 기준이라 1분 여유
+                .expireAfterWrite(ttl.plusMinutes(1))
+                // 밀려나는 작업을 revoke 를 부른 스레드에서 바로 실행 (trustedSince 가 늦게 바뀌지 않도록)
+                .executor(Runnable::run)
+                .evictionListener((Long userId, Boolean value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        trustedSince = nowSeconds();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @param issuedAtSeconds 토큰 발급 시각 (AuthTokens.issuedAt)
+     * @return 토큰의 사용자가 삭제되지 않았으면 true
+     */
+    public boolean isActive(long userId, long issuedAtSeconds) {
+        if (revoked.getIfPresent(userId) != null) {
+            return false;
+        }
+        return issuedAtSeconds >= trustedSince || storedUser.test(userId);
+    }
+
+    public void revoke(long userId) {
+        revoked.put(userId, Boolean.TRUE);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            revoke(event.getUser().getId());
+        }
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
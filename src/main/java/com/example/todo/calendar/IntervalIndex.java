@@ -0,0 +1,264 @@
+package com.example.todo.calendar;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 한 명의 일정 구간 색인 (불변, 기본형 배열만 사용)
+ *
+ * 구조
+ * - 일정들을 (start, id) 순으로 정렬한 병렬 배열 ids / starts / ends
+ * - ends 에 대한 희소 테이블(sparse table): 임의 구간 [l, r) 에서 end 가 가장 큰 위치를 O(1) 에 찾음
+ *
+ * [from, to) 와 겹치는 일정 = start < to 이고 end > from
+ * 1) start 가 [from, to) 안인 일정: 정렬 배열에서 연속 구간이므로 이분 탐색 두 번으로 바로 찾음
+ * 2) start < from 이면서 end > from 인 일정: [0, p) 구간(p = start >= from 인 첫 위치)에서
+ *    "end 최댓값 위치 m 을 찾고 → end[m] > from 이면 결과에 넣고 m 의 왼쪽/오른쪽을 다시 탐색"
+ *    탐색할 때마다 결과가 하나씩 나오거나 그 구간이 끝나므로 결과 k 건에 O(k)
+ * → 전체 O(log n + k), 사용자의 일정을 처음부터 훑지 않음. 결과는 start 순
+ *
+ * 수정은 새 배열을 만들어 교체(copy-on-write, O(n log n))하므로 읽기에는 락이 필요 없음
+ * (한 사용자의 일정 수는 많아야 수천 건이라 쓰기 비용보다 읽기 속도를 우선)
+ */
+public final class IntervalIndex {
+
+    public static final IntervalIndex EMPTY = new IntervalIndex(new long[0], new long[0], new long[0]);
+
+    private final long[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    // sparse[j][i] = [i, i + 2^j) 구간에서 end 가 가장 큰 위치
+    private final int[][] sparse;
+
+    private IntervalIndex(long[] ids, long[] starts, long[] ends) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.sparse = buildSparseTable(ends);
+    }
+
+    /**
+     * 정렬되지 않은 구간 목록으로 색인 생성 (세 배열은 같은 길이, 같은 순서)
+     */
+    public static IntervalIndex of(long[] ids, long[] starts, long[] ends) {
+        int n = ids.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> starts[a] != starts[b]
+                ? Long.compare(starts[a], starts[b])
+                : Long.compare(ids[a], ids[b]));
+
+        long[] sortedIds = new long[n];
+        long[] sortedStarts = new long[n];
+        long[] sortedEnds = new long[n];
+        for (int i = 0; i < n; i++) {
+            sortedIds[i] = ids[order[i]];
+            sortedStarts[i] = starts[order[i]];
+            sortedEnds[i] = ends[order[i]];
+        }
+        return new IntervalIndex(sortedIds, sortedStarts, sortedEnds);
+    }
+
+    /**
+     * id 의 구간을 추가하거나 교체한 새 색인
+     */
+    public IntervalIndex with(long id, long start, long end) {
+        int existing = indexOf(id);
+        int n = ids.length - (existing >= 0 ? 1 : 0);
+        long[] newIds = new long[n + 1];
+        long[] newStarts = new long[n + 1];
+        long[] newEnds = new long[n + 1];
+
+        int at = 0;
+        boolean inserted = false;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == existing) {
+                continue;
+            }
+            if (!inserted && (starts[i] > start || (starts[i] == start && ids[i] > id))) {
+                newIds[at] = id;
+                newStarts[at] = start;
+                newEnds[at] = end;
+                at++;
+                inserted = true;
+            }
+            newIds[at] = ids[i];
+            newStarts[at] = starts[i];
+            newEnds[at] = ends[i];
+            at++;
+        }
+        if (!inserted) {
+            newIds[at] = id;
+            newStarts[at] = start;
+            newEnds[at] = end;
+        }
+        return new IntervalIndex(newIds, newStarts, newEnds);
+    }
+
+    /**
+     * id 를 뺀 새 색인 (없으면 그대로)
+     */
+    public IntervalIndex without(long id) {
+        int existing = indexOf(id);
+        if (existing < 0) {
+            return this;
+        }
+        int n = ids.length - 1;
+        long[] newIds = new long[n];
+        long[] newStarts = new long[n];
+        long[] newEnds = new long[n];
+        System.arraycopy(ids, 0, newIds, 0, existing);
+        System.arraycopy(starts, 0, newStarts, 0, existing);
+        System.arraycopy(ends, 0, newEnds, 0, existing);
+        System.arraycopy(ids, existing + 1, newIds, existing, n - existing);
+        System.arraycopy(starts, existing + 1, newStarts, existing, n - existing);
+        System.arraycopy(ends, existing + 1, newEnds, existing, n - existing);
+        return new IntervalIndex(newIds, newStarts, newEnds);
+    }
+
+    /**
+     * [from, to) 와 겹치는 일정 id 목록 (start, id 순)
+     */
+    public long[] overlapping(long from, long to) {
+        if (from >= to || ids.length == 0) {
+            return new long[0];
+        }
+        int p = lowerBound(from);
+        int q = lowerBound(to);
+
+        LongBuffer out = new LongBuffer();
+        collectEndingAfter(p, from, out);   // start < from 이면서 from 이후에 끝나는 일정
+        for (int i = p; i < q; i++) {       // start 가 [from, to) 안인 일정 (end > start >= from 이므로 모두 겹침)
+            out.add(ids[i]);
+        }
+        return out.toArray();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * [0, limit) 구간에서 end > from 인 위치를 순서대로 수집
+     * - 재귀 대신 명시적 스택으로 중위 순회 (왼쪽 → m → 오른쪽 순서라 결과가 정렬된 상태로 나옴)
+     * - 스택 원소: (l, r) 구간 또는 r < 0 이면 "위치 -r-1 출력"
+     */
+    private void collectEndingAfter(int limit, long from, LongBuffer out) {
+        if (limit == 0) {
+            return;
+        }
+        int[] stackL = new int[16];
+        int[] stackR = new int[16];
+        int top = 0;
+        stackL[top] = 0;
+        stackR[top] = limit;
+        top++;
+
+        while (top > 0) {
+            top--;
+            int l = stackL[top];
+            int r = stackR[top];
+            if (r < 0) {
+                out.add(ids[-r - 1]);
+                continue;
+            }
+            if (l >= r) {
+                continue;
+            }
+            int m = argMaxEnd(l, r);
+            if (ends[m] <= from) {
+                continue; // 이 구간의 최댓값도 from 이전에 끝남 → 구간 전체 제외
+            }
+            if (top + 3 > stackL.length) {
+                stackL = Arrays.copyOf(stackL, stackL.length * 2);
+                stackR = Arrays.copyOf(stackR, stackR.length * 2);
+            }
+            // 나중에 꺼낼 것부터 넣음: 오른쪽 구간, m 출력, 왼쪽 구간
+            stackL[top] = m + 1;
+            stackR[top] = r;
+            top++;
+            stackL[top] = 0;
+            stackR[top] = -m - 1;
+            top++;
+            stackL[top] = l;
+            stackR[top] = m;
+            top++;
+        }
+    }
+
+    private int argMaxEnd(int l, int r) {
+        int j = 31 - Integer.numberOfLeadingZeros(r - l);
+        int a = sparse[j][l];
+        int b = sparse[j][r - (1 << j)];
+        return ends[a] >= ends[b] ? a : b;
+    }
+
+    // start >= value 인 첫 위치
+    private int lowerBound(long value) {
+        int lo = 0;
+        int hi = starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int indexOf(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[][] buildSparseTable(long[] ends) {
+        int n = ends.length;
+        if (n == 0) {
+            return new int[0][];
+        }
+        int levels = 32 - Integer.numberOfLeadingZeros(n);
+        int[][] table = new int[levels][];
+        table[0] = new int[n];
+        for (int i = 0; i < n; i++) {
+            table[0][i] = i;
+        }
+        for (int j = 1; j < levels; j++) {
+            int half = 1 << (j - 1);
+            int[] prev = table[j - 1];
+            int[] cur = new int[n - (1 << j) + 1];
+            for (int i = 0; i < cur.length; i++) {
+                int a = prev[i];
+                int b = prev[i + half];
+                cur[i] = ends[a] >= ends[b] ? a : b;
+            }
+            table[j] = cur;
+        }
+        return table;
+    }
+
+    /**
+     * 박싱 없이 long 을 모으는 가변 배열
+     */
+    private static final class LongBuffer {
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
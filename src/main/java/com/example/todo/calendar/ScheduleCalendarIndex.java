@@ -0,0 +1,211 @@
+package com.example.todo.calendar;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.event.UserChangedEvent;
+import com.example.todo.repository.ScheduleRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * 캘린더 구간 조회용 사용자별 메모리 색인 (GET /schedules/range)
+ * - 사용자를 처음 조회할 때 (user_id, start_at, end_at) 인덱스로 그 사용자의 구간만 읽어 IntervalIndex 를 만듦
+ * - 이후에는 ScheduleChangedEvent 를 커밋 후에 받아 해당 사용자 색인만 교체
+ * - 색인은 최대 max-tracked-users 명까지 보관하고, idle-timeout 동안 조회가 없으면 제거 (다음 조회 때 다시 만듦)
+ *
+ * 동시성
+ * - 색인 생성은 사용자 id 별 잠금(ReentrantLock, 64개를 나눠 씀) 안에서 "조회 → 맵에 넣기" 순서로 실행
+ *   ConcurrentHashMap.computeIfAbsent 안에서 조회하면 쿼리 동안 맵의 bin 모니터를 잡고 있어서
+ *   가상 스레드 모드(Java 21)에서 캐리어 스레드가 묶이고(pinning), 같은 bin 의 다른 사용자 조회도 기다림
+ * - 이벤트 반영은 잠금을 기다리지 않음. AFTER_COMMIT 리스너는 아직 그 트랜잭션의 커넥션을 쥐고 있어서,
+ *   커넥션을 기다리는 생성 스레드의 잠금을 기다리면 커넥션 풀이 바닥났을 때 서로를 기다리며 멈춤
+ *   → 생성 중인 사용자(loading 에 있음)의 변경은 목록에 쌓아 두고, 생성 쪽이 색인을 넣을 때 함께 반영
+ *   → 생성 전에 커밋된 변경은 생성 시 DB 에서 읽힘 (같은 변경을 두 번 반영해도 결과는 같음)
+ * - 생성 쿼리는 호출한 쪽 트랜잭션의 스냅샷을 쓰지 않도록 트랜잭션 밖에서 호출할 것
+ */
+@Component
+public class ScheduleCalendarIndex {
+
+    // encode 가 long 마이크로초로 표현할 수 있는 초 범위 (약 ±29만 년)
+    private static final long MAX_SECONDS = Long.MAX_VALUE / 1_000_000L - 1;
+    private static final long MIN_SECONDS = Long.MIN_VALUE / 1_000_000L + 1;
+
+    private static final int LOAD_LOCKS = 64;
+
+    private final ScheduleRepository scheduleRepository;
+
+    private final ConcurrentMap<Long, IntervalIndex> byUser;
+    // 색인을 만드는 중인 사용자 → 그동안 커밋된 변경 (이 맵의 compute 안에서만 읽고 씀)
+    private final ConcurrentMap<Long, PendingChanges> loading = new ConcurrentHashMap<>();
+    private final ReentrantLock[] loadLocks = IntStream.range(0, LOAD_LOCKS)
+            .mapToObj(i -> new ReentrantLock())
+            .toArray(ReentrantLock[]::new);
+
+    public ScheduleCalendarIndex(ScheduleRepository scheduleRepository,
+                                 @Value("${app.calendar.max-tracked-users:100000}") long maxTrackedUsers,
+                                 @Value("${app.calendar.idle-timeout:PT30M}") Duration idleTimeout) {
+        this.scheduleRepository = scheduleRepository;
+        this.byUser = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .expireAfterAccess(idleTimeout)
+                .<Long, IntervalIndex>build()
+                .asMap();
+    }
+
+    /**
+     * 사용자의 일정 중 [from, to) 와 겹치는 일정 id (시작 시각 순)
+     */
+    public long[] findOverlapping(Long userId, LocalDateTime from, LocalDateTime to) {
+        IntervalIndex index = byUser.get(userId);
+        if (index == null) {
+            ReentrantLock lock = loadLock(userId);
+            lock.lock();
+            try {
+                index = byUser.get(userId);
+                if (index == null) {
+                    loading.put(userId, new PendingChanges());
+                    IntervalIndex loaded;
+                    try {
+                        loaded = load(userId);
+                    } catch (RuntimeException e) {
+                        loading.remove(userId);
+                        throw e;
+                    }
+                    index = publish(userId, loaded);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (index == null) {
+            return new long[0];
+        }
+        return index.overlapping(encode(from), encode(to));
+    }
+
+    /**
+     * 일정 변경을 색인에 반영 (커밋된 변경만, 이미 색인이 만들어진 사용자만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        Schedule schedule = event.getSchedule();
+        // LAZY 프록시에서 id 만 꺼내는 것은 초기화를 일으키지 않음 (detach 상태여도 안전)
+        Long userId = schedule.getUser().getId();
+        UnaryOperator<IntervalIndex> change = index -> {
+            if (event.getType() == ScheduleChangedEvent.Type.DELETED || schedule.getStartAt() == null) {
+                return index.without(schedule.getId());
+            }
+            return index.with(schedule.getId(), encode(schedule.getStartAt()), encode(schedule.getEndAt()));
+        };
+        // 만드는 중이면 쌓아 두고 (그 쿼리가 이 변경을 못 봤을 수 있음), 아니면 이미 있는 색인에만 반영
+        // 순서: publish() 는 loading 의 compute 안에서 byUser 에 넣으므로, loading 에서 빠졌다면 byUser 에 이미 있음
+        if (loading.computeIfPresent(userId, (key, pending) -> pending.add(change)) == null) {
+            byUser.computeIfPresent(userId, (key, index) -> change.apply(index));
+        }
+    }
+
+    /**
+     * 삭제된 사용자의 색인 제거 (일정은 삭제 표시와 함께 조회에서 빠지므로 일정별 이벤트를 기다리지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            // 만드는 중인 색인이 삭제 뒤에 들어오지 않도록 표시해 둔 뒤 제거
+            Long userId = event.getUser().getId();
+            loading.computeIfPresent(userId, (key, pending) -> pending.userDeleted());
+            byUser.remove(userId);
+        }
+    }
+
+    /**
+     * 만든 색인에 그동안 쌓인 변경을 반영해서 넣음 (loading 에서 빼는 것과 한 번에)
+     *
+     * @return 넣은 색인 (일정이 없거나 사용자가 삭제됐으면 null)
+     */
+    private IntervalIndex publish(Long userId, IntervalIndex loaded) {
+        IntervalIndex[] published = new IntervalIndex[1];
+        loading.compute(userId, (key, pending) -> {
+            IntervalIndex index = loaded;
+            if (pending.deleted) {
+                index = null;
+            } else if (!pending.changes.isEmpty()) {
+                index = index == null ? IntervalIndex.EMPTY : index;
+                for (UnaryOperator<IntervalIndex> change : pending.changes) {
+                    index = change.apply(index);
+                }
+            }
+            if (index != null) {
+                byUser.put(userId, index);
+            }
+            published[0] = index;
+            return null;
+        });
+        return published[0];
+    }
+
+    private ReentrantLock loadLock(Long userId) {
+        return loadLocks[Long.hashCode(userId) & (LOAD_LOCKS - 1)];
+    }
+
+    // 일정이 없는 사용자는 저장하지 않음 (없는 userId 로 조회해서 메모리가 늘어나지 않도록)
+    private IntervalIndex load(Long userId) {
+        List<ScheduleInterval> intervals = scheduleRepository.findIntervalsByUserId(userId);
+        if (intervals.isEmpty()) {
+            return null;
+        }
+        int n = intervals.size();
+        long[] ids = new long[n];
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        for (int i = 0; i < n; i++) {
+            ScheduleInterval interval = intervals.get(i);
+            ids[i] = interval.getScheduleId();
+            starts[i] = encode(interval.getStartAt());
+            ends[i] = encode(interval.getEndAt());
+        }
+        return IntervalIndex.of(ids, starts, ends);
+    }
+
+    private static final class PendingChanges {
+        private final List<UnaryOperator<IntervalIndex>> changes = new ArrayList<>();
+        private boolean deleted;
+
+        PendingChanges add(UnaryOperator<IntervalIndex> change) {
+            changes.add(change);
+            return this;
+        }
+
+        PendingChanges userDeleted() {
+            deleted = true;
+            return this;
+        }
+    }
+
+    // LocalDateTime → long (UTC 기준 epoch 마이크로초, 서버 시간대와 무관하고 순서/동등 비교가 그대로 유지됨)
+    // - 마이크로초는 DB TIMESTAMP 정밀도와 같음 (나노초로 곱하면 2262년 이후 날짜에서 long 이 넘쳐 음수가 됨)
+    // - 그래도 넘치는 아주 먼 날짜(클라이언트가 보낸 값)는 범위 끝으로 고정해서 순서가 뒤집히지 않게 함
+    static long encode(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        if (seconds > MAX_SECONDS) {
+            return Long.MAX_VALUE;
+        }
+        if (seconds < MIN_SECONDS) {
+            return Long.MIN_VALUE;
+        }
+        return seconds * 1_000_000L + time.getNano() / 1_000;
+    }
+}
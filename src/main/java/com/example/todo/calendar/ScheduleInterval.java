@@ -0,0 +1,23 @@
+package com.example.todo.calendar;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 하나의 [startAt, endAt) 구간
+ * - ScheduleRepository 의 생성자 표현식으로 만들어짐 (엔티티를 로딩하지 않음)
+ */
+@Getter
+public class ScheduleInterval {
+
+    private final Long scheduleId;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+
+    public ScheduleInterval(Long scheduleId, LocalDateTime startAt, LocalDateTime endAt) {
+        this.scheduleId = scheduleId;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.todo.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 엔티티 2차 캐시 설정 (Hibernate Second-Level Cache + Caffeine)
+ * - findById(Schedule, User) 가 DB 대신 로컬 메모리 캐시에서 먼저 찾음 (read-through)
+ *   캐시에 없으면 DB 에서 읽어 캐시에 넣음
+ * - READ_WRITE 전략: 같은 엔티티를 JPA 로 수정/삭제하면 커밋 시점에 Hibernate 가 캐시 항목을 갱신/제거함
+ *   수정 중에는 항목을 잠가(soft lock) 다른 트랜잭션이 옛날 값을 읽어 다시 넣지 못하게 함
+ * - 영역(region)마다 최대 건수(max-size)와 쓰기 후 만료 시간(ttl)을 두어 메모리 사용량을 제한
+ * - 외부 캐시 서버 없이 단일 서버 메모리에서 동작 (서버가 여러 대면 서버마다 따로 캐시됨)
+ */
+
+@Configuration
+public class EntityCacheConfig {
+
+    // 엔티티의 @Cache(region = ...) 와 같은 이름
+    public static final String SCHEDULE_REGION = "schedule";
+    public static final String USER_REGION = "user";
+    public static final List<String> REGIONS = List.of(SCHEDULE_REGION, USER_REGION);
+
+    /**
+     * 캐시 영역을 미리 만들어 둔 JCache CacheManager (Caffeine 구현)
+     * - 통계(적중/실패/제거 건수)를 켜 두어 GET /stats/cache 에서 조회
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(@Value("${app.cache.entity.max-size:10000}") long maxSize,
+                                           @Value("${app.cache.entity.ttl:PT10M}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setNativeStatisticsEnabled(true);
+        for (String region : REGIONS) {
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, configuration);
+            }
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate 가 위 CacheManager 를 2차 캐시 저장소로 사용하도록 설정
+     * - 정의하지 않은 영역이 쓰이면 기본 설정(무제한) 캐시가 생기지 않도록 시작 시 실패시킴
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -1,11 +1,23 @@
 package com.example.todo.config;
 
+import com.example.todo.auth.AuthTokens;
+import com.example.todo.auth.RevokedUsers;
+import com.example.todo.filter.AuthThrottleFilter;
+import com.example.todo.filter.ConcurrencyLimitFilter;
 import com.example.todo.filter.LoginFilter;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.throttle.AuthThrottle;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * 웹 애플리케이션에서 서블릿 필터를 등록하고 설정하는 클래스
  * 스프링 컨텍스트에 필터 등록 Bean 생성
@@ -24,7 +36,8 @@ public class FilterConfig {
      * FilterRegistrationBean: 서블릿 필터를 등록하고 적용할 URL 패턴, 순서 등을 설정하는 객체
      *  - 특정 Filter를 등록하고, URL 패턴, 순서 등 세부 설정 가능
      *
-     *  - LoginFilter : 인스턴스를 필터로 등록
+     *  - LoginFilter : 인스턴스를 필터로 등록 (app.auth.mode 가 token 이면 서명 토큰 검증, 아니면 세션 확인)
+     *  - 토큰 모드에서는 토큰의 사용자가 삭제되지 않았는지도 RevokedUsers(메모리 목록)로 확인 (요청마다 DB 조회 없음)
      *  - 모든 URL("/*")에 대해 필터 적용
      *  - 필터 우선순위를 1로 설정 (숫자가 낮을수록 우선순위 높음)
      *
@@ -33,14 +46,65 @@ public class FilterConfig {
 
 
     @Bean
-    public FilterRegistrationBean<Filter> loginFilter() {
+    public FilterRegistrationBean<Filter> loginFilter(@Value("${app.auth.mode:session}") String authMode,
+                                                      AuthTokens authTokens,
+                                                      RevokedUsers revokedUsers) {
         FilterRegistrationBean<Filter> bean = new FilterRegistrationBean<>();
         // 직접 구현한 LoginFilter를 필터로 지정
-        bean.setFilter(new LoginFilter());
+        bean.setFilter("token".equals(authMode) ? new LoginFilter(authTokens, revokedUsers) : new LoginFilter());
         // 모든 요청 경로에 대해 필터가 실행되도록 설정
         bean.addUrlPatterns("/*");
         // 필터 체인 내 실행 우선순위 지정 (1번으로 가장 먼저 실행)
         bean.setOrder(1);
         return bean;
     }
-}
\ No newline at end of file
+
+    /**
+     * 삭제된 사용자 목록 (토큰 모드의 LoginFilter 가 사용, 사용자 삭제 이벤트로 채움)
+     * - 목록만으로 판단할 수 없는 토큰(서버 시작 전 발급 등)만 사용자 조회로 확인. findById 는 2차 캐시(User)를 먼저 보고,
+     *   삭제 커밋과 캐시 제거 사이에는 캐시에 삭제 표시된 사용자가 남아 있으므로 deletedAt 도 확인
+     */
+    @Bean
+    public RevokedUsers revokedUsers(UserRepository userRepository,
+                                     @Value("${app.auth.token.ttl:PT12H}") Duration ttl,
+                                     @Value("${app.auth.token.max-revoked:100000}") long maxRevoked) {
+        return new RevokedUsers(userId -> userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
+                .isPresent(), ttl, maxRevoked);
+    }
+
+    /**
+     * 가상 스레드 모드의 동시 요청 수 제한 필터 등록 (플랫폼 스레드 모드에서는 톰캣 스레드 수가 같은 역할이라 등록하지 않음)
+     * - LoginFilter 다음(2번)에 실행해서 인증되지 않은 요청은 기다리지 않고 바로 401
+     *
+     * @return FilterRegistrationBean<Filter> 등록된 필터 Bean
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public FilterRegistrationBean<Filter> concurrencyLimitFilter(
+            @Value("${app.virtual-threads.max-concurrent-requests:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${app.virtual-threads.max-concurrent-password-requests:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrentPassword,
+            @Value("${app.virtual-threads.queue-timeout:PT20S}") Duration queueTimeout) {
+        FilterRegistrationBean<Filter> bean = new FilterRegistrationBean<>();
+        bean.setFilter(new ConcurrencyLimitFilter(maxConcurrent, maxConcurrentPassword, queueTimeout));
+        bean.addUrlPatterns("/*");
+        bean.setOrder(2);
+        return bean;
+    }
+
+    /**
+     * 로그인/회원가입 요청 제한 필터 등록
+     * - POST /auth/login, POST /users 만 검사 (나머지 요청은 바로 통과)
+     * - LoginFilter 보다 먼저(0번) 실행해서, 거절할 요청은 DB 조회나 BCrypt 계산 전에 429 로 응답
+     *
+     * @return FilterRegistrationBean<Filter> 등록된 필터 Bean
+     */
+    @Bean
+    public FilterRegistrationBean<Filter> authThrottleFilter(AuthThrottle authThrottle, ObjectMapper objectMapper) {
+        FilterRegistrationBean<Filter> bean = new FilterRegistrationBean<>();
+        bean.setFilter(new AuthThrottleFilter(authThrottle, objectMapper));
+        bean.addUrlPatterns("/auth/login", "/users");
+        bean.setOrder(0);
+        return bean;
+    }
+}
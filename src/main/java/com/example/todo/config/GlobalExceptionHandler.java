@@ -1,7 +1,12 @@
 package com.example.todo.config;
 
+import com.example.todo.query.QueryBudgetExceededException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 전역 예외 처리 클래스
@@ -32,4 +37,45 @@ public class GlobalExceptionHandler {
          * 클라이언트에게 문자열로 된 메시지를 보냄.
          */
     }
-}
\ No newline at end of file
+
+    /**
+     * 상태 코드를 직접 지정한 예외 (예: 실시간 연결 수 초과 503)
+     * - RuntimeException 보다 구체적인 타입이라 이 메서드가 우선 적용됨
+     *
+     * @param e 발생한 ResponseStatusException 객체
+     * @return 예외에 지정된 상태 코드와 메시지
+     */
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<String> handleResponseStatusException(ResponseStatusException e) {
+        return ResponseEntity.status(e.getStatusCode()).body(e.getReason());
+    }
+
+    /**
+     * 처리 대기열이 가득 차서 요청을 받지 못한 경우 (예: 댓글 그룹 커밋 큐)
+     * - 일시적인 과부하이므로 503 으로 응답해서 클라이언트가 잠시 후 재시도하도록 함
+     *
+     * @param e 발생한 RejectedExecutionException 객체
+     * @return 예외 메시지
+     */
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleRejectedExecutionException(RejectedExecutionException e) {
+        return e.getMessage();
+    }
+
+    /**
+     * SQL 예산 초과 (app.query-budget.mode=fail)
+     * - 요청 내용이 아니라 서버 코드의 문제(N+1 등)이므로 500 으로 응답
+     *
+     * @param e 발생한 QueryBudgetExceededException 객체
+     * @return 예외 메시지 (어느 요청/메서드에서 어떤 SQL 이 한도를 넘었는지)
+     */
+
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public String handleQueryBudgetExceededException(QueryBudgetExceededException e) {
+        return e.getMessage();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo.config;
+
+import com.example.todo.metrics.RepositoryMetricsListener;
+import com.example.todo.metrics.RouteMetricsInterceptor;
+import com.example.todo.repository.CommentRepository;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 운영 지표(metrics 패키지) 수집기를 스프링 MVC / Spring Data 에 연결하는 설정 클래스
+ * - 경로별 응답 시간: RouteMetricsInterceptor 를 모든 요청에 등록
+ * - 리포지토리 메서드별 실행 시간: 일정/댓글/사용자 리포지토리를 만드는 팩토리에 RepositoryMetricsListener 를 붙임
+ * - Hibernate 세션 통계(쿼리, 엔티티 로딩, flush 수)는 hibernate.generate_statistics 를 켜면 스프링 부트가 자동으로 등록
+ * 모두 /actuator/prometheus (관리 포트, management.server.port) 로 노출됨
+ */
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final RouteMetricsInterceptor routeMetricsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(routeMetricsInterceptor);
+    }
+
+    /**
+     * 리포지토리 팩토리 빈이 초기화되기 전에 호출 리스너를 붙이는 후처리기
+     * - 다른 빈보다 먼저 만들어져야 하므로 static 메서드로 선언
+     * - MeterRegistry 는 리포지토리를 실제로 만들 때 처음 꺼냄 (후처리기가 만들어질 때는 아직 없을 수 있음)
+     */
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        SingletonSupplier<RepositoryMetricsListener> listener = SingletonSupplier.of(() -> new RepositoryMetricsListener(
+                meterRegistry.getObject(),
+                List.of(ScheduleRepository.class, CommentRepository.class, UserRepository.class)));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener.obtain()));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,17 +1,59 @@
 package com.example.todo.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 비밀번호 암호화 및 검증을 담당하는 클래스
  * - BCrypt 알고리즘을 사용하여 안전하게 비밀번호를 저장
  * - 스프링 빈(@Component)으로 등록되어 다른 클래스에서 주입 가능
+ *
+ * BCrypt 는 일부러 느리게 만든 해시라 (cost 10 기준 한 번에 수십 ms) 요청 스레드에서 바로 계산하면
+ * 로그인이 몰릴 때 톰캣 스레드와 CPU 를 모두 차지해서 다른 API 까지 멈춤.
+ * → 해시 계산은 크기가 정해진 전용 스레드 풀(app.password.pool-size)에서만 실행하고,
+ *   대기열(app.password.queue-capacity)이 가득 차면 기다리지 않고 바로 RejectedExecutionException(503)
  */
 
 @Component
 public class PasswordEncoder {
 
+    // BCrypt 비용(cost): 2^cost 번 반복. 1 올릴 때마다 계산 시간이 두 배
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordEncoder(@Value("${app.password.cost:10}") int cost,
+                           @Value("${app.password.pool-size:0}") int poolSize,
+                           @Value("${app.password.queue-capacity:64}") int queueCapacity) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("app.password.cost 는 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 이어야 합니다: " + cost);
+        }
+        this.cost = cost;
+        // 0 이면 CPU 코어의 절반 (나머지 절반은 다른 요청 처리용으로 남겨 둠)
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (r, pool) -> {
+                    throw new RejectedExecutionException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+                });
+    }
+
     /**
      * 비밀번호를 해시하여 암호화
      *
@@ -20,9 +62,8 @@ public class PasswordEncoder {
      */
 
     public String encode(String rawPassword) {
-        // BCrypt.MIN_COST: 최소 비용(cycle)으로 해시 생성 (빠르게 테스트 가능)
         // BCrypt.withDefaults(). 에 대해서는 개념 노트에서 개념 복습하도록.
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return run(() -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
     /**
@@ -34,8 +75,44 @@ public class PasswordEncoder {
      */
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        // BCrypt.verifyer()로 입력 비밀번호와 해시 비교
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified; // 일치하면 true, 아니면 false
+        // BCrypt.verifyer()로 입력 비밀번호와 해시 비교 (저장된 해시에 적힌 cost 로 계산)
+        return run(() -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정과 다른지 (로그인 성공 시 새 cost 로 다시 해시하기 위함)
+     * - 해시 형식: $2a$10$... (4~5번째 글자가 cost)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return true;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 전용 풀에서 실행하고 결과를 기다림 (대기열이 가득 차면 RejectedExecutionException 이 그대로 올라감)
+    private <T> T run(Callable<T> task) {
+        Future<T> future = executor.submit(task);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.example.todo.config;
+
+import com.example.todo.query.QueryBudgetEnforcer;
+import com.example.todo.query.QueryBudgetInterceptor;
+import com.example.todo.query.QueryCountingListener;
+import com.example.todo.query.TransactionQueryBudgetInterceptor;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 예산(query 패키지) 설정 클래스 (app.query-budget.enabled=false 면 전부 등록하지 않음)
+ * - DataSource 를 datasource-proxy 로 감싸서 실행되는 모든 JDBC 문장을 QueryCounter 에 기록
+ * - 요청마다(QueryBudgetInterceptor), @Transactional 서비스 메서드마다(TransactionQueryBudgetInterceptor) 문장 수 검사
+ */
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    private static final String SERVICE_PACKAGE = "com.example.todo.service";
+
+    private final QueryBudgetEnforcer queryBudgetEnforcer;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(queryBudgetEnforcer));
+    }
+
+    /**
+     * 만들어진 DataSource 를 문장 기록용 프록시로 교체 (커넥션 풀 자체는 그대로)
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryCountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * service 패키지의 @Transactional 메서드에 문장 수 검사를 붙이는 어드바이저
+     * - 인프라 역할로 등록해야 @Transactional 처리용 자동 프록시 생성기가 함께 적용함 (AspectJ 불필요)
+     * - 트랜잭션 어드바이저(가장 낮은 우선순위)보다 먼저 실행되도록 가장 높은 우선순위
+     * - 어드바이저는 다른 빈보다 먼저 만들어지므로 QueryBudgetEnforcer 는 처음 쓸 때 꺼냄(@Lazy)
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor transactionQueryBudgetAdvisor(@Lazy QueryBudgetEnforcer queryBudgetEnforcer) {
+        ComposablePointcut pointcut = new ComposablePointcut(type -> type.getPackageName().equals(SERVICE_PACKAGE))
+                .intersection(AnnotationMatchingPointcut.forMethodAnnotation(Transactional.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new TransactionQueryBudgetInterceptor(queryBudgetEnforcer));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.todo.config;
+
+import com.example.todo.reminder.LoggingReminderSink;
+import com.example.todo.reminder.ReminderSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 일정 알림 설정
+ * - ReminderSink 빈이 따로 없으면 로그로 남기는 기본 구현을 등록
+ *   (푸시/메일 등으로 보내려면 ReminderSink 를 구현한 빈을 등록하면 됨)
+ */
+@Configuration
+public class ReminderConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ReminderSink.class)
+    public ReminderSink loggingReminderSink() {
+        return new LoggingReminderSink();
+    }
+}
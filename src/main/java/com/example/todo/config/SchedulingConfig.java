@@ -0,0 +1,13 @@
+package com.example.todo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 로 선언한 주기 작업(알림 로더 등)을 활성화하는 설정 클래스
+ */
+
+@Configuration
+@EnableScheduling // @Scheduled 메서드를 찾아서 주기적으로 실행
+public class SchedulingConfig {
+}
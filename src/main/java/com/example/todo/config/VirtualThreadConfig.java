@@ -0,0 +1,40 @@
+package com.example.todo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * 요청 처리 스레드 방식 확인용 설정 클래스
+ * - spring.threads.virtual.enabled=true 이면 스프링 부트가 톰캣과 @Scheduled 실행기를 가상 스레드로 바꿈
+ * - 시작할 때 어느 쪽으로 실행 중인지 로그로 남김
+ *
+ * 가상 스레드 모드에서 주의할 점 (Java 21 기준)
+ * - synchronized 블록 안에서 JDBC 응답/커넥션을 기다리면 캐리어 스레드까지 묶임(pinning).
+ *   그래서 DB 작업을 감싸는 잠금은 ReentrantLock 을 씀 (CollectionETags, CommentCountBuffer, UserExistenceFilter)
+ * - ConcurrentHashMap.computeIfAbsent / Caffeine Cache.get(key, loader) 도 계산 중 bin 모니터(synchronized)를 잡음.
+ *   그 안에서 쿼리하지 않고, 키별 ReentrantLock 안에서 읽어 온 뒤 넣음 (ScheduleCalendarIndex, CollectionETags)
+ *   이 잠금은 트랜잭션 밖의 조회끼리만 잡음. AFTER_COMMIT 리스너는 커넥션을 쥔 채 실행되므로 기다리게 하면 풀이 바닥날 때 멈춤
+ * - JDBC 드라이버: MySQL Connector/J 9.x 와 HikariCP 는 내부 잠금이 ReentrantLock 이라 안전.
+ *   H2 는 세션 단위 synchronized 를 쓰지만 메모리 DB 라 I/O 대기가 없어 묶이는 시간이 짧음
+ * - 묶이는 곳 찾기: -Djdk.tracePinnedThreads=short 또는 JFR 의 jdk.VirtualThreadPinned 이벤트
+ * - 톰캣 스레드 수라는 상한이 없어지므로 동시 요청 수는 ConcurrencyLimitFilter 가 커넥션 풀 크기로 제한
+ */
+
+@Slf4j
+@Configuration
+public class VirtualThreadConfig {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("요청 처리: 가상 스레드 (Java {})", Runtime.version().feature());
+        } else {
+            log.info("요청 처리: 플랫폼 스레드 (톰캣 최대 {}개)", environment.getProperty("server.tomcat.threads.max", "200"));
+        }
+    }
+}
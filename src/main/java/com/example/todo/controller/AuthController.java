@@ -1,12 +1,15 @@
 package com.example.todo.controller;
 
+import com.example.todo.auth.AuthTokens;
 import com.example.todo.config.PasswordEncoder;
 import com.example.todo.domain.User;
 import com.example.todo.dto.LoginRequestDto;
 import com.example.todo.repository.UserRepository;
+import com.example.todo.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,7 +34,13 @@ public class AuthController {
      * Spring Data JPA에서는 인터페이스만 정의하면 실제 구현 클래스는 스프링이 자동으로 만들어줌.
      *  즉, 이렇게 선언만 해도, 스프링 컨테이너가 실제 구현 객체를 주입해줌
      */
-    private final PasswordEncoder passwordEncoder; // 비밀번호 암호화/검증 (BCrypt 라이브러리)
+    private final PasswordEncoder passwordEncoder; // 비밀번호 암호화/검증 (BCrypt 라이브러리, 전용 스레드 풀에서 계산)
+    private final UserService userService; // 로그인 성공 시 이전 cost 로 만든 비밀번호 해시 교체
+    private final AuthTokens authTokens; // 토큰 모드에서 로그인 결과로 내려줄 서명 토큰 발급
+
+    // session(기본): 세션 + JSESSIONID 쿠키, token: 서버에 상태를 두지 않는 서명 토큰 (LoginFilter 참고)
+    @Value("${app.auth.mode:session}")
+    private String authMode;
 
 
     /**
@@ -39,7 +48,7 @@ public class AuthController {
      *
      * @param dto 로그인 요청 데이터(email, password)
      * @param request HttpServletRequest로 세션 관리
-     * @return 로그인 성공 메시지
+     * @return 로그인 성공 메시지 (토큰 모드면 Authorization: Bearer 헤더에 넣을 토큰)
      * @throws RuntimeException 이메일이 없거나 비밀번호가 틀린 경우
      */
 
@@ -60,8 +69,14 @@ public class AuthController {
         if (!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
             throw new RuntimeException("이메일 또는 비밀번호가 일치하지 않습니다.");
         }
+        userService.rehashIfNeeded(user, dto.getPassword());
+
+        // 3-1. 토큰 모드: 세션을 만들지 않고 서명 토큰 반환
+        if ("token".equals(authMode)) {
+            return authTokens.issue(user.getId());
+        }
 
-        // 3. 세션 생성 및 사용자 ID 저장
+        // 3-2. 세션 생성 및 사용자 ID 저장
         HttpSession session = request.getSession();
         session.setAttribute("userId", user.getId());
 
@@ -71,6 +86,7 @@ public class AuthController {
 
     /**
      * 로그아웃 처리
+     * - 토큰 모드에서는 서버에 지울 상태가 없으므로 클라이언트가 토큰을 버리면 됨 (토큰은 만료 시각까지 유효)
      *
      * @param request HttpServletRequest로 세션 관리
      * @return 로그아웃 성공 메시지
@@ -3,10 +3,15 @@ package com.example.todo.controller;
 
 import com.example.todo.dto.CommentRequestDto;
 import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.dto.CursorPageResponseDto;
 import com.example.todo.service.CommentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 댓글(Comment) 관련 REST API 컨트롤러
@@ -21,21 +26,49 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    /**
+     * 댓글 생성
+     * - CompletableFuture 를 반환하면 스프링이 비동기 응답으로 처리 (그룹 커밋 모드에서 커밋을 기다리는 동안 요청 스레드를 반납)
+     */
     @PostMapping
-    public CommentResponseDto createComment(@RequestBody CommentRequestDto dto) {
+    public CompletableFuture<CommentResponseDto> createComment(@RequestBody CommentRequestDto dto) {
         // CommentService를 통해 DB에 댓글 생성
-        return commentService.createComment(dto);
+        return commentService.submitComment(dto);
     }
 
     /**
-     * 특정 일정(scheduleId)에 대한 댓글 조회
+     * 특정 일정(scheduleId)에 대한 댓글 조회 (커서 기반 페이지네이션, 작성순)
+     * - 예) GET /comments/schedule/1?size=50 → 응답의 next 값으로 GET /comments/schedule/1?cursor={next}
+     * - ETag 지원: If-None-Match 가 현재 ETag 와 같으면 댓글을 조회하지 않고 304 Not Modified
      * @param scheduleId 조회할 일정 ID
-     * @return 댓글 리스트
+     * @param cursor 이전 응답의 next 값 (첫 페이지면 생략)
+     * @param size 페이지 크기 (최대 app.comment.max-page-size)
+     * @return 이번 페이지의 댓글 목록과 다음 커서
      */
 
     @GetMapping("/schedule/{scheduleId}")
-    public List<CommentResponseDto> getCommentsBySchedule(@PathVariable Long scheduleId) {
-        return commentService.getCommentsBySchedule(scheduleId);
+    public CursorPageResponseDto<CommentResponseDto> getCommentsBySchedule(@PathVariable Long scheduleId,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size,
+                                                                          WebRequest request) {
+        if (request.checkNotModified(commentService.getCommentsETag(scheduleId, cursor, size))) {
+            return null;
+        }
+        return commentService.getCommentsBySchedule(scheduleId, cursor, size);
+    }
+
+    /**
+     * 특정 일정의 댓글 실시간 스트림 (Server-Sent Events)
+     * - 예) GET /comments/schedule/1/stream (Accept: text/event-stream)
+     * - 연결 이후 커밋된 댓글 변경만 전달: event: comment (생성/수정, CommentResponseDto), event: comment-deleted (댓글 id)
+     * - 목록을 주기적으로 다시 조회(polling)하지 않아도 됨. 처음 목록은 GET /comments/schedule/{scheduleId} 로 조회
+     * @param scheduleId 구독할 일정 ID
+     * @return 이벤트 스트림 (연결은 app.comment.stream.timeout 후 종료, 클라이언트가 재연결)
+     */
+
+    @GetMapping(path = "/schedule/{scheduleId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long scheduleId) {
+        return commentService.streamComments(scheduleId);
     }
 
     /**
@@ -1,10 +1,20 @@
 package com.example.todo.controller;
 
-import com.example.todo.domain.Schedule; // DB의 Schedule 엔티티 클래스
+import com.example.todo.dto.CursorPageResponseDto; // 커서 기반 목록 응답
 import com.example.todo.dto.ScheduleRequestDto; // 클라이언트 요청에서 전달받는 데이터 구조
+import com.example.todo.dto.ScheduleResponseDto; // 클라이언트에 내려주는 일정 응답 (엔티티 대신 사용)
+import com.example.todo.dto.ScheduleSearchResultDto; // 일정 검색 결과
+import com.example.todo.query.QueryBudget; // SQL 예산 지정
+import com.example.todo.service.ScheduleExportService; // 일정/댓글 NDJSON 내보내기
 import com.example.todo.service.ScheduleService; // 비즈니스 로직을 처리하는 서비스 계층
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -14,28 +24,91 @@ public class ScheduleController {
 
     // 컨트롤러는 직접 DB 접근을 하지 않고, 서비스 계층을 호출해 로직을 처리
     private final ScheduleService scheduleService;
+    private final ScheduleExportService scheduleExportService;
 
     /**
      * 일정 생성 API
      * - HTTP POST 요청으로 JSON 데이터를 받아 Schedule 객체를 생성
      * - @RequestBody: 요청 바디(JSON)를 ScheduleRequestDto로 변환해줌
-     * - 서비스 계층에서 생성 로직 처리 후, Schedule 엔티티 객체 반환
+     * - 서비스 계층에서 생성 로직 처리 후, ScheduleResponseDto 반환
      */
 
     @PostMapping
-    public Schedule createSchedule(@RequestBody ScheduleRequestDto dto) {
+    public ScheduleResponseDto createSchedule(@RequestBody ScheduleRequestDto dto) {
         return scheduleService.createSchedule(dto);
     }
 
     /**
-     * 전체 일정 조회 API
-     * - HTTP GET 요청
-     * - 서비스 계층에서 전체 Schedule 리스트를 반환
+     * 일정 일괄 생성 API
+     * - HTTP POST 요청, 바디는 ScheduleRequestDto 배열 (최대 app.schedule.max-batch-size 건)
+     * - 한 트랜잭션 안에서 JDBC 배치 INSERT 로 저장하고, 생성된 id 목록을 요청 순서대로 반환
+     */
+
+    @PostMapping("/batch")
+    // 건수에 비례해서 시퀀스 조회/배치 INSERT 가 반복되는 게 정상 → SQL 예산 검사 제외
+    @QueryBudget(statements = QueryBudget.UNLIMITED, repeats = QueryBudget.UNLIMITED)
+    public List<Long> createSchedules(@RequestBody List<ScheduleRequestDto> dtos) {
+        return scheduleService.createSchedules(dtos);
+    }
+
+    /**
+     * 일정 목록 조회 API (커서 기반 페이지네이션)
+     * - HTTP GET 요청, 예) GET /schedules?size=20 → 응답의 next 값으로 GET /schedules?cursor={next}
+     * - 전체를 한 번에 내려주지 않고 size(최대 app.schedule.max-page-size) 만큼씩 최신순으로 반환
+     * - 엔티티가 아닌 프로젝션 DTO(작성자 이름, 댓글 수 포함)를 SQL 한 번으로 조회해서 반환
+     * - ETag 지원: 요청의 If-None-Match 가 현재 ETag 와 같으면 목록을 조회/직렬화하지 않고 304 Not Modified
      */
 
     @GetMapping
-    public List<Schedule> getAllSchedules() {
-        return scheduleService.getAllSchedules();
+    public CursorPageResponseDto<ScheduleResponseDto> getSchedules(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size,
+                                                        WebRequest request) {
+        // checkNotModified: 응답에 ETag 헤더를 넣고, If-None-Match 와 같으면 true (스프링이 304 로 응답)
+        if (request.checkNotModified(scheduleService.getSchedulesETag(cursor, size))) {
+            return null;
+        }
+        return scheduleService.getSchedules(cursor, size);
+    }
+
+    /**
+     * 캘린더 구간 조회 API
+     * - HTTP GET 요청, 예) GET /schedules/range?userId=1&from=2025-08-01T00:00:00&to=2025-09-01T00:00:00
+     * - 사용자의 일정 중 [from, to) 와 겹치는 일정을 시작 시각 순으로 반환 (사용자별 메모리 구간 색인 사용)
+     */
+
+    @GetMapping("/range")
+    public List<ScheduleResponseDto> getSchedulesInRange(
+            @RequestParam Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return scheduleService.getSchedulesInRange(userId, from, to);
+    }
+
+    /**
+     * 일정 검색 API
+     * - HTTP GET 요청, 예) GET /schedules/search?q=주간 회의&limit=10
+     * - 제목/내용을 메모리 역색인으로 검색해서 관련도 순으로 반환 (DB 를 조회하지 않음)
+     */
+
+    @GetMapping("/search")
+    public List<ScheduleSearchResultDto> searchSchedules(@RequestParam String q,
+                                                         @RequestParam(defaultValue = "10") int limit) {
+        return scheduleService.searchSchedules(q, limit);
+    }
+
+    /**
+     * 일정 + 댓글 전체 내보내기 API (야간 리포트용)
+     * - HTTP GET 요청, 응답은 application/x-ndjson (한 줄에 JSON 하나)
+     * - StreamingResponseBody: 컨트롤러는 바로 반환하고, 바디는 별도 스레드에서 DB 스트림을 읽으며 조금씩 기록
+     *   → 전체 데이터를 메모리에 올리지 않고, 일정마다 댓글 API 를 따로 호출할 필요도 없음
+     */
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSchedules() {
+        StreamingResponseBody body = scheduleExportService::export;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -46,7 +119,7 @@ public class ScheduleController {
      */
 
     @PutMapping("/{id}")
-    public Schedule updateSchedule(@PathVariable Long id, @RequestBody ScheduleRequestDto dto) {
+    public ScheduleResponseDto updateSchedule(@PathVariable Long id, @RequestBody ScheduleRequestDto dto) {
         return scheduleService.updateSchedule(id, dto);
     }
 
@@ -58,6 +131,8 @@ public class ScheduleController {
      */
 
     @DeleteMapping("/{id}")
+    // 댓글/일정을 chunk-size 건씩 나눠 지우는 같은 SQL 이 반복되는 게 정상 → SQL 예산 검사 제외
+    @QueryBudget(statements = QueryBudget.UNLIMITED, repeats = QueryBudget.UNLIMITED)
     public void deleteSchedule(@PathVariable Long id) {
         scheduleService.deleteSchedule(id);
     }
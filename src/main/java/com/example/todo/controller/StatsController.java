@@ -0,0 +1,56 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.CacheStatsDto; // 캐시 영역별 통계
+import com.example.todo.dto.SignupFilterStatsDto; // 회원가입 블룸 필터 통계
+import com.example.todo.dto.ThrottleStatsDto; // 요청 제한 버킷 통계
+import com.example.todo.service.CacheStatsService; // 캐시 통계 조회
+import com.example.todo.signup.UserExistenceFilter; // 회원가입 중복 확인 블룸 필터
+import com.example.todo.throttle.AuthThrottle; // 로그인/회원가입 요청 제한
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/stats") // 운영 확인용 통계 API
+public class StatsController {
+
+    private final CacheStatsService cacheStatsService;
+    private final AuthThrottle authThrottle;
+    private final UserExistenceFilter userExistenceFilter;
+
+    /**
+     * 엔티티 캐시 통계 API
+     * - HTTP GET 요청, 예) GET /stats/cache
+     * - Schedule/User 캐시 영역별 항목 수, 적중/실패/제거 건수, 적중률 반환
+     */
+
+    @GetMapping("/cache")
+    public List<CacheStatsDto> getCacheStats() {
+        return cacheStatsService.getEntityCacheStats();
+    }
+
+    /**
+     * 로그인/회원가입 요청 제한 통계 API
+     * - HTTP GET 요청, 예) GET /stats/throttle
+     * - ip / identity(이메일·사용자명) 버킷별 보관 중인 버킷 수, 대략의 메모리 사용량, 통과/거절 건수 반환
+     */
+
+    @GetMapping("/throttle")
+    public List<ThrottleStatsDto> getThrottleStats() {
+        return authThrottle.stats();
+    }
+
+    /**
+     * 회원가입 중복 확인 블룸 필터 통계 API
+     * - HTTP GET 요청, 예) GET /stats/signup
+     * - 필터 크기, 설계/현재 거짓 양성률, DB 확인 없이 통과한 가입 수와 실제 거짓 양성 건수 반환
+     */
+
+    @GetMapping("/signup")
+    public SignupFilterStatsDto getSignupFilterStats() {
+        return userExistenceFilter.stats();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.SyncResponseDto; // 변경분 응답
+import com.example.todo.service.SyncService; // 증분 동기화 로직
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * 증분 동기화 API
+     * - HTTP GET 요청, 예) GET /sync?since={이전 응답의 next}
+     * - since 이후에 생성/수정/삭제된 일정과 댓글만 반환 (삭제는 id 만)
+     * - since 가 없거나 너무 오래됐으면 reset=true → 전체를 다시 받은 뒤 응답의 next 부터 동기화
+     * - hasMore=true 면 남은 변경이 있으므로 next 로 바로 다시 요청
+     */
+
+    @GetMapping
+    public SyncResponseDto sync(@RequestParam(required = false) String since,
+                                @RequestParam(defaultValue = "500") int size) {
+        return syncService.getChanges(since, size);
+    }
+}
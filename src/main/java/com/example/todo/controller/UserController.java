@@ -1,12 +1,13 @@
 package com.example.todo.controller;
 
 
-import com.example.todo.domain.User;
+import com.example.todo.dto.CursorPageResponseDto;
 import com.example.todo.dto.UserRequestDto;
+import com.example.todo.dto.UserResponseDto;
+import com.example.todo.query.QueryBudget;
 import com.example.todo.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 
 /**
@@ -37,25 +38,27 @@ public class UserController {
     }
 
     /**
-     * 전체 사용자 조회 API
-     * - GET /users
-     * - DB에 저장된 모든 사용자 정보를 리스트로 반환
+     * 사용자 목록 조회 API (커서 기반 페이지네이션)
+     * - HTTP GET 요청, 예) GET /users?size=50 → 응답의 next 값으로 GET /users?cursor={next}
+     * - 전체를 한 번에 내려주지 않고 size(최대 app.user.max-page-size) 만큼씩 가입순으로 반환
+     * - 엔티티 대신 UserResponseDto(id, username, createdAt, updatedAt)만 조회하므로 비밀번호 해시는 응답에 없음
      */
 
     @GetMapping
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public CursorPageResponseDto<UserResponseDto> getUsers(@RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        return userService.getUsers(cursor, size);
     }
 
     /**
      * 사용자 수정 API
      * - PUT /users/{id}
      * - PathVariable로 사용자 ID를 받고, RequestBody로 수정할 정보 전달
-     * - Service에서 사용자 정보 수정 후 수정된 User 객체 반환
+     * - Service에서 사용자 정보 수정 후 UserResponseDto(id, username, createdAt, updatedAt) 반환 (비밀번호 해시/이메일은 응답에 없음)
      */
 
     @PutMapping("/{id}")
-    public User updateUser(@PathVariable Long id, @RequestBody UserRequestDto dto) {
+    public UserResponseDto updateUser(@PathVariable Long id, @RequestBody UserRequestDto dto) {
         return userService.updateUser(id, dto);
     }
     /**
@@ -65,6 +68,8 @@ public class UserController {
      */
 
     @DeleteMapping("/{id}")
+    // 댓글/일정을 chunk-size 건씩 나눠 지우는 같은 SQL 이 반복되는 게 정상 → SQL 예산 검사 제외
+    @QueryBudget(statements = QueryBudget.UNLIMITED, repeats = QueryBudget.UNLIMITED)
     public void deleteUser(@PathVariable Long id) {
         userService.deleteUser(id);
     }
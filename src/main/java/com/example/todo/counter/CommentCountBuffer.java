@@ -0,0 +1,269 @@
+package com.example.todo.counter;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.event.CommentChangedEvent;
+import com.example.todo.event.CommentsPurgedEvent;
+import com.example.todo.event.CommentCountsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 일정별 댓글 수(schedule.comment_count) 쓰기 지연(write-behind) 버퍼
+ *
+ * 댓글을 쓸 때마다 같은 일정 행을 UPDATE 하면, 댓글이 몰리는 일정 하나에 행 잠금 대기가 줄을 섬.
+ * 대신
+ * - 커밋된 댓글 생성/삭제를 일정별 카운터에 +1/-1 로 모아 두고 (경합이 생기면 셀을 나눠 더하는 CAS, 잠금 없음)
+ * - flush-interval 마다 모인 증감분을 "comment_count = comment_count + ?" JDBC 배치 UPDATE 한 번으로 반영
+ *   → 일정 하나에 댓글이 초당 수천 개 달려도 DB 에는 주기당 UPDATE 한 번
+ * - 반영한 일정은 2차 캐시에서 제거 (JDBC 로 바꾼 값은 Hibernate 가 모르므로)
+ *
+ * 화면의 댓글 수는 최대 flush-interval 만큼 늦게 반영됨. 서버가 비정상 종료되면 반영 전 증감분은 사라지고,
+ * CommentCountReconciler 가 주기적으로 실제 댓글 수와 맞춤
+ */
+@Slf4j
+@Component
+public class CommentCountBuffer {
+
+    private static final String UPDATE_SQL = "update schedule set comment_count = comment_count + ? where id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 일정 id → 아직 DB 에 반영하지 않은 증감분
+    private final ConcurrentMap<Long, Counter> pending = new ConcurrentHashMap<>();
+    // flush 는 한 번에 하나만 (주기 작업과 종료 시 호출이 겹치지 않게)
+    // synchronized 대신 ReentrantLock: 가상 스레드 모드에서는 @Scheduled 도 가상 스레드로 돌고,
+    // synchronized 안에서 JDBC 응답을 기다리면 캐리어 스레드가 묶임(pinning)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public CommentCountBuffer(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              EntityManagerFactory entityManagerFactory,
+                              ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 커밋된 댓글 생성/삭제를 증감분에 더함 (롤백된 변경은 오지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> add(event.getScheduleId(), 1);
+            case DELETED -> add(event.getScheduleId(), -1);
+            case UPDATED -> { }
+        }
+    }
+
+    /**
+     * 일괄 삭제된 댓글만큼 각 일정의 댓글 수 감소 (삭제된 사용자가 다른 일정에 남긴 댓글)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentsPurged(CommentsPurgedEvent event) {
+        event.getScheduleIds().forEach(scheduleId -> add(scheduleId, -1));
+    }
+
+    /**
+     * 아직 반영하지 않은 증감분이 있는 일정인지 (정합성 보정 시 건너뛰기 위함)
+     */
+    public boolean hasPending(Long scheduleId) {
+        return pending.containsKey(scheduleId);
+    }
+
+    void add(Long scheduleId, long delta) {
+        while (!pending.computeIfAbsent(scheduleId, Counter::new).add(delta)) {
+            // flush 가 막 맵에서 뺀 카운터 → 더하지 않았으므로 새 카운터로 다시 시도
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 모인 증감분을 DB 에 반영 (flush-interval 마다, 종료 시 한 번 더)
+     * - 증감분이 0 인 카운터는 맵에서 빼서 한동안 댓글이 없는 일정이 메모리를 차지하지 않게 함
+     * - UPDATE 가 실패하면 증감분을 되돌려 놓고 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${app.comment.counter.flush-interval:PT1S}")
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Counter counter : pending.values()) {
+            long delta = counter.drain();
+            if (delta != 0) {
+                deltas.put(counter.scheduleId, delta);
+            } else if (counter.retire()) {
+                pending.remove(counter.scheduleId, counter);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((scheduleId, delta) -> rows.add(new Object[]{delta, scheduleId}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setLong(2, (Long) row[1]);
+                });
+                eventPublisher.publishEvent(new CommentCountsFlushedEvent(deltas.keySet()));
+            });
+        } catch (RuntimeException e) {
+            log.warn("댓글 수 반영 실패, 다음 주기에 재시도: {}건", deltas.size(), e);
+            deltas.forEach(this::add);
+            return;
+        }
+        // 이미 삭제된 일정이면 UPDATE 가 0건이라 그냥 버려짐
+        var cache = entityManagerFactory.getCache();
+        for (Long scheduleId : deltas.keySet()) {
+            cache.evict(Schedule.class, scheduleId);
+        }
+    }
+
+    /**
+     * 일정 하나의 증감분 (LongAdder 처럼 나눠 더하는 카운터)
+     * - 경합이 없으면 base 하나에 CAS. base 의 CAS 가 다른 스레드 때문에 실패하면 그때 셀 배열을 만들고,
+     *   이후에는 스레드마다 다른 셀에 더함 → 댓글이 몰리는 일정에서도 쓰는 스레드들이 같은 캐시 라인을 두고 경쟁하지 않음
+     * - 셀 사이에 STRIDE 칸씩 띄워 각 셀이 자기 캐시 라인을 씀 (false sharing 방지)
+     *
+     * 맵에서 빼기 (retire, flush 스레드만 호출)
+     * - base 와 모든 셀을 하나씩 0 → RETIRED 로 CAS 하고, 셀 배열이 아직 없으면 CLOSED 로 막음
+     * - 중간에 0 이 아닌 칸이 있으면 바꿔 둔 칸을 0 으로 되돌리고 실패
+     * - RETIRED 칸/CLOSED 를 만난 add 는 거절되고, 호출한 쪽은 맵에서 다시 꺼내 재시도
+     *   (되돌려진 경우 같은 카운터, 빠진 경우 새 카운터) → 맵에서 뺀 카운터에 늦게 더해져 사라지는 일이 없음
+     */
+    private static final class Counter {
+        private static final long RETIRED = Long.MIN_VALUE;
+        // long 16개 = 128바이트 (인접 캐시 라인을 함께 가져오는 CPU 도 고려)
+        private static final int STRIDE = 16;
+        private static final int STRIPES = Math.max(2, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+        private static final AtomicLongArray CLOSED = new AtomicLongArray(0);
+
+        final Long scheduleId;
+        private final AtomicLong base = new AtomicLong();
+        private final AtomicReference<AtomicLongArray> cells = new AtomicReference<>();
+
+        Counter(Long scheduleId) {
+            this.scheduleId = scheduleId;
+        }
+
+        boolean add(long delta) {
+            AtomicLongArray current = cells.get();
+            if (current == null) {
+                long value = base.get();
+                if (value == RETIRED) {
+                    return false;
+                }
+                if (base.compareAndSet(value, value + delta)) {
+                    return true;
+                }
+                // 경합 → 셀로 나눔 (이미 다른 스레드가 만들었거나 retire 가 CLOSED 로 막았으면 그 값을 씀, 한 번 정해지면 null 로 돌아가지 않음)
+                cells.compareAndSet(null, new AtomicLongArray((STRIPES + 1) * STRIDE));
+                current = cells.get();
+            }
+            if (current == CLOSED) {
+                return false;
+            }
+            int slot = slot();
+            long value;
+            do {
+                value = current.get(slot);
+                if (value == RETIRED) {
+                    return false;
+                }
+            } while (!current.compareAndSet(slot, value, value + delta));
+            return true;
+        }
+
+        long drain() {
+            long sum = take(base);
+            AtomicLongArray current = cells.get();
+            if (current != null && current != CLOSED) {
+                for (int slot = STRIDE; slot < current.length(); slot += STRIDE) {
+                    long value;
+                    do {
+                        value = current.get(slot);
+                        if (value == RETIRED || value == 0) {
+                            break;
+                        }
+                    } while (!current.compareAndSet(slot, value, 0));
+                    if (value != RETIRED) {
+                        sum += value;
+                    }
+                }
+            }
+            return sum;
+        }
+
+        boolean retire() {
+            if (!base.compareAndSet(0, RETIRED)) {
+                return false;
+            }
+            if (cells.compareAndSet(null, CLOSED)) {
+                return true;
+            }
+            AtomicLongArray current = cells.get();
+            for (int slot = STRIDE; slot < current.length(); slot += STRIDE) {
+                if (!current.compareAndSet(slot, 0, RETIRED)) {
+                    for (int retired = STRIDE; retired < slot; retired += STRIDE) {
+                        current.set(retired, 0);
+                    }
+                    base.set(0);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long take(AtomicLong cell) {
+            long value;
+            do {
+                value = cell.get();
+                if (value == RETIRED || value == 0) {
+                    return 0;
+                }
+            } while (!cell.compareAndSet(value, 0));
+            return value;
+        }
+
+        // 스레드마다 고정된 셀 (가상 스레드도 id 가 다르므로 고르게 퍼짐)
+        private static int slot() {
+            long mixed = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+            return ((int) (mixed >>> 32) & (STRIPES - 1)) * STRIDE + STRIDE;
+        }
+    }
+}
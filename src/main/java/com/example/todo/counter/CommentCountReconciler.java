@@ -0,0 +1,104 @@
+package com.example.todo.counter;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.event.CommentCountsFlushedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * schedule.comment_count 정합성 보정 (reconcile-interval 마다)
+ * - 일정 id 를 chunk-size 구간씩 나눠서, 저장된 댓글 수와 실제 댓글 수(count)가 다른 일정만 찾아 고침
+ *   실제 댓글 수는 (schedule_id, id) 인덱스만 읽어서 셈
+ * - CommentCountBuffer 에 아직 반영 안 된 증감분이 있는 일정은 건너뜀 (다음 주기에 다시 확인)
+ * - 조회한 값과 그대로일 때만 바꿈 (조회 후 flush 가 먼저 반영했으면 건드리지 않음)
+ *
+ * 댓글 커밋 직후 ~ 증감분이 버퍼에 들어가기 직전 사이에 보정되면 1 만큼 어긋날 수 있지만 다음 주기에 다시 맞춰짐
+ */
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private static final String DRIFT_SQL =
+            "select s.id, s.comment_count, (select count(*) from comment c where c.schedule_id = s.id) " +
+            "from schedule s where s.id > ? and s.id <= ? " +
+            "and s.comment_count <> (select count(*) from comment c where c.schedule_id = s.id)";
+    private static final String FIX_SQL = "update schedule set comment_count = ? where id = ? and comment_count = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentCountBuffer buffer;
+    private final int chunkSize;
+
+    public CommentCountReconciler(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  EntityManagerFactory entityManagerFactory,
+                                  ApplicationEventPublisher eventPublisher,
+                                  CommentCountBuffer buffer,
+                                  @Value("${app.comment.counter.reconcile-chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+        this.buffer = buffer;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(initialDelayString = "${app.comment.counter.reconcile-interval:PT1H}",
+            fixedDelayString = "${app.comment.counter.reconcile-interval:PT1H}")
+    public void reconcile() {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from schedule", Long.class);
+        if (maxId == null) {
+            return;
+        }
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            fixed += reconcileChunk(from, from + chunkSize);
+        }
+        if (fixed > 0) {
+            log.info("댓글 수 보정: {}건", fixed);
+        }
+    }
+
+    /**
+     * id 가 (from, to] 인 일정 보정
+     */
+    private int reconcileChunk(long from, long to) {
+        List<long[]> drifts = jdbcTemplate.query(DRIFT_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)}, from, to);
+        if (drifts.isEmpty()) {
+            return 0;
+        }
+        Set<Long> fixedIds = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long[] drift : drifts) {
+                long scheduleId = drift[0];
+                if (buffer.hasPending(scheduleId)) {
+                    continue;
+                }
+                if (jdbcTemplate.update(FIX_SQL, drift[2], scheduleId, drift[1]) == 1) {
+                    fixedIds.add(scheduleId);
+                }
+            }
+            if (!fixedIds.isEmpty()) {
+                eventPublisher.publishEvent(new CommentCountsFlushedEvent(fixedIds));
+            }
+        });
+        var cache = entityManagerFactory.getCache();
+        for (Long scheduleId : fixedIds) {
+            cache.evict(Schedule.class, scheduleId);
+        }
+        return fixedIds.size();
+    }
+}
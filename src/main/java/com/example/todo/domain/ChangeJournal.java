@@ -0,0 +1,50 @@
+package com.example.todo.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 기록(change journal) 한 건 - 추가만 하고 수정하지 않는 로그 테이블
+ * - 일정/댓글이 생성·수정·삭제될 때마다 같은 트랜잭션 안에서 한 줄씩 추가됨 (ChangeJournalWriter)
+ * - GET /sync 는 클라이언트가 마지막으로 받은 id 이후의 기록만 읽으므로 비용이 전체 데이터가 아닌 변경 건수에 비례
+ * - 보관 기간(app.sync.retention)이 지난 기록은 주기적으로 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "change_journal", indexes = {
+        // 보관 기간이 지난 기록 삭제용
+        @Index(name = "idx_change_journal_recorded_at", columnList = "recorded_at")
+})
+public class ChangeJournal {
+
+    public enum EntityType { SCHEDULE, COMMENT }
+
+    public enum Operation { UPSERT, DELETE }
+
+    @Id
+    // IDENTITY: 커밋 순서대로 증가하는 번호가 곧 동기화 커서 (INSERT 는 JDBC 배치로 직접 하므로 Hibernate 배치 제약과 무관)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // DB enum 타입 대신 문자열 컬럼 (값이 늘어나도 스키마 변경 불필요)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 10)
+    private Operation operation;
+
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+}
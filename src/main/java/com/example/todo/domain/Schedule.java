@@ -1,7 +1,13 @@
 package com.example.todo.domain;
 
+import com.example.todo.config.EntityCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 @Entity // JPA 엔티티 클래스임을 명시 → DB 테이블과 매핑됨
 @Getter // 모든 필드에 대한 Getter 자동 생성
@@ -9,11 +15,29 @@ import lombok.*;
 @NoArgsConstructor // 기본 생성자 자동 생성
 @AllArgsConstructor // 모든 필드를 매개변수로 받는 생성자 자동 생성
 @Builder // 빌더 패턴 자동 생성
+@Table(indexes = {
+        // 목록 조회(키셋 페이지네이션)용 복합 인덱스: ORDER BY created_at DESC, id DESC 를 인덱스 순서 그대로 읽음
+        @Index(name = "idx_schedule_created_at_id", columnList = "created_at, id"),
+        // 알림 로더가 "곧 울릴 알림"을 시간 구간 단위로 읽을 때 사용 (remind_at 범위 + id 키셋)
+        @Index(name = "idx_schedule_remind_at_id", columnList = "remind_at, id"),
+        // 캘린더 구간 조회용: user_id 일치 + start_at 범위를 인덱스로 좁히고 end_at 은 인덱스 안에서 바로 비교
+        // (사용자별 메모리 색인을 처음 만들 때 이 인덱스만 읽음)
+        @Index(name = "idx_schedule_user_start_end", columnList = "user_id, start_at, end_at"),
+        // 백그라운드 삭제 작업이 삭제 표시된 일정만 찾을 때 사용 (대부분 NULL 이라 작음)
+        @Index(name = "idx_schedule_deleted_at", columnList = "deleted_at")
+})
+// 삭제 표시(deleted_at)된 일정은 모든 엔티티 조회/JPQL 에서 제외 (실제 행은 CascadePurger 가 나중에 지움)
+@SQLRestriction("deleted_at is null")
+@Cacheable // findById 를 2차 캐시에서 먼저 찾음 (EntityCacheConfig 참고)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.SCHEDULE_REGION)
 public class Schedule extends BaseEntity {
 
     @Id // PK(기본 키) 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    // DB에서 자동 증가(AUTO_INCREMENT) 전략 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
+    // 시퀀스(pooled) 전략 사용: id 를 50개씩 미리 할당받아 INSERT 전에 id 를 알 수 있음 → JDBC 배치 INSERT 가능
+    // (IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어서 Hibernate 가 배치를 쓰지 못함)
+    // 시퀀스를 지원하지 않는 MySQL 에서는 Hibernate 가 schedule_seq 테이블로 대신 구현함
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -32,4 +56,22 @@ public class Schedule extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false) // 유저 고유 식별자
     // 외래키(FK) 컬럼 이름을 user_id로 지정, not null
     private User user;
-}
\ No newline at end of file
+
+    // 알림 시각 (null 이면 알림 없음)
+    // ReminderEngine 이 이 시각에 알림을 발송함
+    private LocalDateTime remindAt;
+
+    // 일정 시작/종료 시각 (둘 다 null 이거나 둘 다 있어야 함, startAt < endAt)
+    // 캘린더 구간 조회(GET /schedules/range)는 [startAt, endAt) 가 요청 구간과 겹치는 일정을 찾음
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    // 댓글 수 (목록 화면용 비정규화 값)
+    // 댓글 생성/삭제 때마다 이 행을 UPDATE 하지 않고 CommentCountBuffer 가 모아서 주기적으로 JDBC 로 반영
+    // updatable = false: 일정 수정 시 Hibernate 가 엔티티에 들고 있던 (오래된) 값으로 덮어쓰지 않도록 UPDATE 에서 제외
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
+    // 삭제 표시 시각 (null 이면 정상). 삭제 요청 즉시 표시만 하고, 댓글과 행은 CascadePurger 가 묶음 단위로 지움
+    private LocalDateTime deletedAt;
+}
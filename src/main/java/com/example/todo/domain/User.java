@@ -1,11 +1,16 @@
 package com.example.todo.domain;
 
+import com.example.todo.config.EntityCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
@@ -18,16 +23,29 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 백그라운드 삭제 작업이 삭제 표시된 사용자만 찾을 때 사용
+        @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+})
+// 삭제 표시(deleted_at)된 사용자는 모든 엔티티 조회/JPQL 에서 제외 (실제 행은 CascadePurger 가 나중에 지움)
+@SQLRestriction("deleted_at is null")
+@EntityListeners(AuditingEntityListener.class) // createdAt/updatedAt 자동 기록 (JpaConfig 의 @EnableJpaAuditing)
+@Cacheable // findById 를 2차 캐시에서 먼저 찾음 (EntityCacheConfig 참고)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.USER_REGION)
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 20)
     private String username;
 
+    // 로그인 아이디 (AuthController 가 이메일로 사용자를 찾음)
+    @Column(nullable = false, unique = true)
+    private String email;
+
     @Column(nullable = false)
     private String password;
 
@@ -37,8 +55,12 @@ public class User {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    public User(String username, String password) {
+    // 삭제 표시 시각 (null 이면 정상). 사용자의 일정/댓글과 행은 CascadePurger 가 묶음 단위로 지움
+    private LocalDateTime deletedAt;
+
+    public User(String username, String email, String password) {
         this.username = username;
+        this.email = email;
         this.password = password;
     }
 }
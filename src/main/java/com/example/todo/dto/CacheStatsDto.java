@@ -0,0 +1,26 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+/**
+ * 캐시 영역 하나의 통계 (서버 시작 이후 누적)
+ */
+@Getter
+public class CacheStatsDto {
+
+    private final String region;
+    private final long size;           // 현재 항목 수 (근사치)
+    private final long hitCount;       // 캐시에서 찾은 횟수
+    private final long missCount;      // 캐시에 없어서 DB 를 조회한 횟수
+    private final long evictionCount;  // 최대 건수/만료로 제거된 항목 수
+    private final double hitRate;      // hitCount / (hitCount + missCount)
+
+    public CacheStatsDto(String region, long size, long hitCount, long missCount, long evictionCount, double hitRate) {
+        this.region = region;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.hitRate = hitRate;
+    }
+}
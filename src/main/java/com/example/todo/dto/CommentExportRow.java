@@ -0,0 +1,30 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기(NDJSON)용 댓글 한 행
+ * - CommentRepository 의 생성자 표현식으로 만들어짐 (엔티티/연관 프록시를 만들지 않음)
+ */
+@Getter
+public class CommentExportRow {
+
+    private final Long id;
+    private final Long scheduleId;
+    private final Long userId;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public CommentExportRow(Long id, Long scheduleId, Long userId, String content,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -13,6 +13,19 @@ public class CommentResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * 목록 조회용 프로젝션 생성자 (JPQL 생성자 표현식에서 사용, CommentRepository.RESPONSE_SELECT 참고)
+     */
+    public CommentResponseDto(Long id, String content, Long userId, Long scheduleId,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.content = content;
+        this.userId = userId;
+        this.scheduleId = scheduleId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public CommentResponseDto(Comment comment) {
         this.id = comment.getId();
         this.content = comment.getContent();
@@ -0,0 +1,24 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답
+ * - items : 이번 페이지의 데이터
+ * - next  : 다음 페이지를 요청할 때 cursor 파라미터로 넘길 값 (마지막 페이지면 null)
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+public class CursorPageResponseDto<T> {
+
+    private final List<T> items;
+    private final String next;
+
+    public CursorPageResponseDto(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+}
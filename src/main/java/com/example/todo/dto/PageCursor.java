@@ -0,0 +1,61 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(keyset) 페이지네이션에 사용하는 커서
+ * - 마지막으로 내려준 행의 정렬 키(createdAt, id)를 담음.
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 인코딩한 불투명(opaque) 값으로 전달.
+ *   클라이언트는 값을 해석하지 않고 다음 요청의 cursor 파라미터로 그대로 돌려주기만 하면 됨.
+ *
+ * OFFSET 방식은 앞쪽 행을 모두 읽고 버려야 해서 뒤 페이지로 갈수록 느려지지만,
+ * 키셋 방식은 "마지막 키 다음부터" 인덱스를 바로 타기 때문에 페이지 깊이와 관계없이 일정한 속도를 가짐.
+ */
+@Getter
+public class PageCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt; // id 만으로 정렬하는 목록에서는 null
+    private final Long id;
+
+    public PageCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 커서를 클라이언트에 내려줄 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = (createdAt == null ? "" : createdAt.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석
+     *
+     * @param token 이전 응답의 next 값 (첫 페이지 요청이면 null 또는 빈 문자열)
+     * @return 해석된 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우 (GlobalExceptionHandler 에서 400 처리)
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            String createdAt = raw.substring(0, sep);
+            Long id = Long.valueOf(raw.substring(sep + 1));
+            return new PageCursor(createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
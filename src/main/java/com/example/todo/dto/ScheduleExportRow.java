@@ -0,0 +1,36 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기(NDJSON)용 일정 한 행
+ * - ScheduleRepository 의 생성자 표현식으로 만들어짐 (엔티티/연관 프록시를 만들지 않음)
+ */
+@Getter
+public class ScheduleExportRow {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final Long userId;
+    private final LocalDateTime remindAt;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ScheduleExportRow(Long id, String title, String content, Long userId, LocalDateTime remindAt,
+                             LocalDateTime startAt, LocalDateTime endAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.userId = userId;
+        this.remindAt = remindAt;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -2,6 +2,8 @@ package com.example.todo.dto;
 
 import lombok.Getter; // Lombok이 모든 필드에 대한 Getter 메서드 자동 생성
 
+import java.time.LocalDateTime;
+
 @Getter
 public class ScheduleRequestDto {
 
@@ -16,4 +18,11 @@ public class ScheduleRequestDto {
     // - 이 값으로 어떤 사용자가 작성했는지 매핑
 
     private Long userId; // 작성자 ID
+
+    // 알림 시각 (선택, 없으면 알림 없음)
+    private LocalDateTime remindAt;
+
+    // 일정 시작/종료 시각 (선택, 지정하면 둘 다 지정해야 함)
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
 }
@@ -1,4 +1,54 @@
 package com.example.todo.dto;
 
+import com.example.todo.domain.Schedule;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 응답 DTO
+ * - 엔티티를 그대로 내보내면 Jackson 이 LAZY user 프록시를 건드려 추가 쿼리(N+1)나 LazyInitializationException 이 발생함
+ * - 목록 조회는 ScheduleRepository 의 생성자 표현식(select new ...)으로 이 DTO 를 바로 만들어
+ *   일정 + 작성자 이름 + 댓글 수를 SQL 한 번으로 가져옴
+ */
+@Getter
 public class ScheduleResponseDto {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final Long userId;
+    private final String username;     // 작성자 이름
+    private final Long commentCount;   // 댓글 수
+    private final LocalDateTime remindAt; // 알림 시각
+    private final LocalDateTime startAt;  // 일정 시작
+    private final LocalDateTime endAt;    // 일정 종료
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // JPQL 생성자 표현식용 (파라미터 순서/타입이 쿼리의 select 절과 일치해야 함)
+    public ScheduleResponseDto(Long id, String title, String content, Long userId, String username,
+                               Long commentCount, LocalDateTime remindAt,
+                               LocalDateTime startAt, LocalDateTime endAt,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.userId = userId;
+        this.username = username;
+        this.commentCount = commentCount;
+        this.remindAt = remindAt;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // 방금 저장한 엔티티를 응답으로 변환할 때 사용 (user 가 이미 로딩된 상태여야 함)
+    public ScheduleResponseDto(Schedule schedule, long commentCount) {
+        this(schedule.getId(), schedule.getTitle(), schedule.getContent(),
+                schedule.getUser().getId(), schedule.getUser().getUsername(),
+                commentCount, schedule.getRemindAt(), schedule.getStartAt(), schedule.getEndAt(),
+                schedule.getCreatedAt(), schedule.getUpdatedAt());
+    }
 }
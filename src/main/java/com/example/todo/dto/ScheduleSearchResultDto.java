@@ -0,0 +1,21 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+/**
+ * 일정 검색 결과 한 건
+ * - 메모리 색인에서 바로 만들어지므로 DB 를 조회하지 않음 (상세 내용은 id 로 따로 조회)
+ */
+@Getter
+public class ScheduleSearchResultDto {
+
+    private final Long id;
+    private final String title;
+    private final float score; // 관련도 점수 (BM25), 클수록 관련도가 높음
+
+    public ScheduleSearchResultDto(Long id, String title, float score) {
+        this.id = id;
+        this.title = title;
+        this.score = score;
+    }
+}
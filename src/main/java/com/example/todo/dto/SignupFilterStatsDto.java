@@ -0,0 +1,38 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+/**
+ * 회원가입 중복 확인 블룸 필터 통계 (건수는 서버 시작 이후 누적)
+ */
+@Getter
+public class SignupFilterStatsDto {
+
+    private final long entries;          // 넣은 값 수 (사용자명 + 이메일, 근사치)
+    private final long bits;             // 비트 배열 크기
+    private final int hashFunctions;     // 값 하나당 켜는 비트 수
+    private final long estimatedBytes;   // 비트 배열이 차지하는 힙 크기
+    private final double configuredFpp;  // 설계 거짓 양성률 (app.signup-filter.fpp)
+    private final double expectedFpp;    // 현재 채워진 비트로 계산한 거짓 양성률
+    private final long staleEntries;     // 삭제/변경으로 쓸모없어졌지만 남아 있는 값 수
+    private final long definitelyNew;    // DB 확인 없이 통과시킨 가입 시도 수
+    private final long databaseChecks;   // DB 로 중복을 확인한 가입 시도 수
+    private final long falsePositives;   // DB 확인 결과 실제로는 없던 경우
+    private final double observedFpp;    // 거짓 양성 / (거짓 양성 + DB 확인 없이 통과)
+
+    public SignupFilterStatsDto(long entries, long bits, int hashFunctions, long estimatedBytes,
+                                double configuredFpp, double expectedFpp, long staleEntries,
+                                long definitelyNew, long databaseChecks, long falsePositives, double observedFpp) {
+        this.entries = entries;
+        this.bits = bits;
+        this.hashFunctions = hashFunctions;
+        this.estimatedBytes = estimatedBytes;
+        this.configuredFpp = configuredFpp;
+        this.expectedFpp = expectedFpp;
+        this.staleEntries = staleEntries;
+        this.definitelyNew = definitelyNew;
+        this.databaseChecks = databaseChecks;
+        this.falsePositives = falsePositives;
+        this.observedFpp = observedFpp;
+    }
+}
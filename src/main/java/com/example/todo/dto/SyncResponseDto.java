@@ -0,0 +1,42 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GET /sync 응답 (커서 이후의 변경분)
+ * - schedules / comments : 생성·수정된 항목의 현재 상태
+ * - deletedScheduleIds / deletedCommentIds : 삭제된 항목 id (tombstone)
+ * - next    : 다음 요청의 since 로 넘길 커서
+ * - hasMore : true 면 아직 남은 변경이 있으므로 바로 next 로 다시 요청
+ * - reset   : true 면 커서가 없거나 너무 오래되어 변경분을 알 수 없음 → 전체를 다시 받은 뒤 next 부터 동기화
+ */
+@Getter
+public class SyncResponseDto {
+
+    private final List<ScheduleResponseDto> schedules;
+    private final List<CommentResponseDto> comments;
+    private final List<Long> deletedScheduleIds;
+    private final List<Long> deletedCommentIds;
+    private final String next;
+    private final boolean hasMore;
+    private final boolean reset;
+
+    public SyncResponseDto(List<ScheduleResponseDto> schedules, List<CommentResponseDto> comments,
+                           List<Long> deletedScheduleIds, List<Long> deletedCommentIds,
+                           String next, boolean hasMore, boolean reset) {
+        this.schedules = schedules;
+        this.comments = comments;
+        this.deletedScheduleIds = deletedScheduleIds;
+        this.deletedCommentIds = deletedCommentIds;
+        this.next = next;
+        this.hasMore = hasMore;
+        this.reset = reset;
+    }
+
+    // 전체 재동기화 안내 (변경분 없이 시작 커서만)
+    public static SyncResponseDto reset(String next) {
+        return new SyncResponseDto(List.of(), List.of(), List.of(), List.of(), next, false, true);
+    }
+}
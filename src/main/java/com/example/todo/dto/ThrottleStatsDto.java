@@ -0,0 +1,24 @@
+package com.example.todo.dto;
+
+import lombok.Getter;
+
+/**
+ * 요청 제한 버킷 종류(ip / identity) 하나의 통계 (서버 시작 이후 누적)
+ */
+@Getter
+public class ThrottleStatsDto {
+
+    private final String name;
+    private final long buckets;         // 현재 보관 중인 버킷 수 (근사치)
+    private final long estimatedBytes;  // 버킷들이 차지하는 대략의 힙 크기
+    private final long allowedCount;    // 통과시킨 요청 수
+    private final long rejectedCount;   // 429 로 거절한 요청 수
+
+    public ThrottleStatsDto(String name, long buckets, long estimatedBytes, long allowedCount, long rejectedCount) {
+        this.name = name;
+        this.buckets = buckets;
+        this.estimatedBytes = estimatedBytes;
+        this.allowedCount = allowedCount;
+        this.rejectedCount = rejectedCount;
+    }
+}
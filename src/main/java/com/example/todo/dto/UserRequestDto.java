@@ -12,5 +12,6 @@ import lombok.Setter;
 public class UserRequestDto {
 
     private String username;
+    private String email;
     private String password;
 }
@@ -1,5 +1,6 @@
 package com.example.todo.dto;
 
+import com.example.todo.domain.User;
 import lombok.Getter;
 import lombok.Setter;
 import java.time.LocalDateTime;
@@ -20,4 +21,8 @@ public class UserResponseDto {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
+
+    public UserResponseDto(User user) {
+        this(user.getId(), user.getUsername(), user.getCreatedAt(), user.getUpdatedAt());
+    }
 }
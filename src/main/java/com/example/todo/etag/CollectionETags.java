@@ -0,0 +1,227 @@
+package com.example.todo.etag;
+
+import com.example.todo.event.CommentChangedEvent;
+import com.example.todo.event.CommentCountsFlushedEvent;
+import com.example.todo.event.CommentsPurgedEvent;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.event.SchedulesPurgedEvent;
+import com.example.todo.event.UserChangedEvent;
+import com.example.todo.repository.CommentRepository;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * 목록 응답의 ETag 계산 (GET /schedules, GET /comments/schedule/{id})
+ * - 컬렉션마다 지문(집계 시드 + 변경 버전)을 메모리에 두고, 커밋된 변경 이벤트마다 버전을 올림
+ *   → ETag 를 만들 때 DB 를 조회하지 않음 (처음 한 번만 count/max 집계 쿼리)
+ * - 일정 목록 응답에는 작성자 이름과 댓글 수가 들어 있으므로 일정/댓글/사용자 지문을 모두 합쳐서 사용
+ * - 일정별 댓글 지문은 조회된 일정만 최대 max-tracked-schedules 개까지 보관 (오래 안 쓰면 제거, 다시 집계)
+ *   집계 쿼리는 일정 id 별 잠금(ReentrantLock) 안에서 실행하고 결과만 캐시에 넣음.
+ *   Cache.get(key, loader) 는 로더를 ConcurrentHashMap.compute 안에서 실행해서, 쿼리 동안 bin 모니터를 잡고 있게 됨
+ *   (가상 스레드 모드에서 캐리어 스레드가 묶임)
+ *
+ * 이벤트 리스너는 잠금을 기다리지 않음
+ * - AFTER_COMMIT 리스너는 아직 그 트랜잭션의 커넥션을 쥐고 있음. 집계 중인 스레드는 커넥션을 기다리고 있을 수 있어서,
+ *   리스너가 집계 잠금을 기다리면 커넥션 풀이 바닥났을 때 서로를 기다리며 멈춤
+ * - 기다릴 필요도 없음: 지문은 시드마다 순번이 달라서, 변경 커밋 뒤에 만들어진 지문의 ETag 는 그 변경 전 응답에 쓰인 적이 없고
+ *   응답 본문은 ETag 를 만든 뒤에 조회하므로 그 변경이 들어 있음
+ *   → 집계 전/집계 중이면 변경을 무시하고, 이미 집계된 지문만 버전을 올림
+ *
+ * 단일 서버 기준. 서버가 여러 대면 다른 서버의 변경을 알 수 없으므로 집계 쿼리 방식으로 바꿔야 함
+ */
+@Component
+public class CollectionETags {
+
+    private static final int SCHEDULE_LOCKS = 64;
+
+    private final CommentRepository commentRepository;
+
+    // 전체 컬렉션 지문 (처음 사용할 때 집계 쿼리로 생성)
+    private final LazyFingerprint schedules;
+    private final LazyFingerprint comments;
+    private final LazyFingerprint users;
+
+    // 일정 id → 그 일정의 댓글 지문
+    private final Cache<Long, Fingerprint> commentsBySchedule;
+    // 일정별 댓글 지문 집계/무효화 잠금 (일정 id 로 나눠 씀)
+    private final ReentrantLock[] scheduleLocks = IntStream.range(0, SCHEDULE_LOCKS)
+            .mapToObj(i -> new ReentrantLock())
+            .toArray(ReentrantLock[]::new);
+
+    public CollectionETags(ScheduleRepository scheduleRepository,
+                           CommentRepository commentRepository,
+                           UserRepository userRepository,
+                           @Value("${app.etag.max-tracked-schedules:10000}") long maxTrackedSchedules,
+                           @Value("${app.etag.idle-timeout:PT10M}") Duration idleTimeout) {
+        this.commentRepository = commentRepository;
+        this.schedules = new LazyFingerprint(scheduleRepository::findFingerprint);
+        this.comments = new LazyFingerprint(commentRepository::findFingerprint);
+        this.users = new LazyFingerprint(userRepository::findFingerprint);
+        this.commentsBySchedule = Caffeine.newBuilder()
+                .maximumSize(maxTrackedSchedules)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * GET /schedules 응답의 ETag (페이지마다 내용이 다르므로 cursor, size 포함)
+     */
+    public String schedules(String cursor, int size) {
+        return hash("schedules", schedules.get().value(), comments.get().value(), users.get().value(),
+                cursor, String.valueOf(size));
+    }
+
+    /**
+     * GET /comments/schedule/{scheduleId} 응답의 ETag (페이지마다 내용이 다르므로 cursor, size 포함)
+     */
+    public String comments(Long scheduleId, String cursor, int size) {
+        Fingerprint fingerprint = commentsBySchedule.getIfPresent(scheduleId);
+        if (fingerprint == null) {
+            ReentrantLock lock = scheduleLock(scheduleId);
+            lock.lock();
+            try {
+                fingerprint = commentsBySchedule.getIfPresent(scheduleId);
+                if (fingerprint == null) {
+                    fingerprint = commentRepository.findFingerprintByScheduleId(scheduleId);
+                    commentsBySchedule.put(scheduleId, fingerprint);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return hash("comments", String.valueOf(scheduleId), fingerprint.value(), cursor, String.valueOf(size));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        schedules.ifSeeded(Fingerprint::onChanged);
+        if (event.getType() == ScheduleChangedEvent.Type.DELETED) {
+            forget(List.of(event.getScheduleId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        comments.ifSeeded(Fingerprint::onChanged);
+        // 이미 추적 중인 일정만 갱신 (없으면 다음 조회 때 집계)
+        Fingerprint fingerprint = commentsBySchedule.getIfPresent(event.getScheduleId());
+        if (fingerprint != null) {
+            fingerprint.onChanged();
+        }
+    }
+
+    /**
+     * 일정 목록 응답에 들어가는 댓글 수는 댓글 커밋보다 늦게 DB 에 반영되므로, 반영될 때 한 번 더 일정 지문을 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCountsFlushed(CommentCountsFlushedEvent event) {
+        schedules.ifSeeded(Fingerprint::onChanged);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        users.ifSeeded(Fingerprint::onChanged);
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            // 그 사용자의 일정이 UPDATE 한 문장으로 함께 빠졌으므로 일정 목록 지문은 다시 집계
+            schedules.reset();
+        }
+    }
+
+    /**
+     * 일괄 삭제는 몇 건이 빠졌는지만 알 수 있으므로 해당 지문을 버리고 다음 조회 때 다시 집계
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSchedulesPurged(SchedulesPurgedEvent event) {
+        schedules.reset();
+        comments.reset();
+        forget(event.getScheduleIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentsPurged(CommentsPurgedEvent event) {
+        comments.reset();
+        forget(event.getScheduleIds());
+    }
+
+    /**
+     * 일정별 댓글 지문을 버림 (집계 중이던 지문이 뒤늦게 들어와도 새 순번의 시드라 예전 ETag 와 겹치지 않음)
+     */
+    private void forget(Collection<Long> scheduleIds) {
+        commentsBySchedule.invalidateAll(new HashSet<>(scheduleIds));
+    }
+
+    private ReentrantLock scheduleLock(Long scheduleId) {
+        return scheduleLocks[Long.hashCode(scheduleId) & (SCHEDULE_LOCKS - 1)];
+    }
+
+    private static String hash(String... parts) {
+        return DigestUtils.md5DigestAsHex(String.join("|", parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 처음 사용할 때 한 번만 집계 쿼리를 실행하는 지문 (동시에 여러 요청이 와도 쿼리는 한 번)
+     * - 쿼리를 감싸는 잠금은 synchronized 대신 ReentrantLock: 가상 스레드 모드(Java 21)에서 synchronized 안에서
+     *   DB 응답이나 커넥션을 기다리면 캐리어 스레드까지 묶여(pinning) 다른 가상 스레드가 실행되지 못함
+     * - 잠금은 get() 끼리만 잡음 (트랜잭션 밖에서 호출되는 ETag 계산). 이벤트 쪽 ifSeeded() / reset() 은 잠그지 않음
+     */
+    private static final class LazyFingerprint {
+        private final Supplier<Fingerprint> query;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Fingerprint value;
+
+        LazyFingerprint(Supplier<Fingerprint> query) {
+            this.query = query;
+        }
+
+        Fingerprint get() {
+            Fingerprint fingerprint = value;
+            if (fingerprint == null) {
+                lock.lock();
+                try {
+                    fingerprint = value;
+                    if (fingerprint == null) {
+                        fingerprint = query.get();
+                        value = fingerprint;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return fingerprint;
+        }
+
+        /**
+         * 이미 집계된 경우에만 변경 반영 (집계 전이거나 집계 중이면 무시, 클래스 설명 참고)
+         */
+        void ifSeeded(Consumer<Fingerprint> action) {
+            Fingerprint fingerprint = value;
+            if (fingerprint != null) {
+                action.accept(fingerprint);
+            }
+        }
+
+        /**
+         * 지문을 버림 (다음 get() 에서 다시 집계)
+         */
+        void reset() {
+            value = null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.todo.etag;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 컬렉션 하나의 지문 = 시드 + 변경 버전
+ * - 시드: 처음 만들 때의 count(*), max(updated_at) 집계 쿼리 결과 (ScheduleRepository 등의 생성자 표현식)
+ * - 버전: 커밋된 변경 이벤트마다 1씩 증가하는 카운터
+ *   → 변경이 한 건이라도 있으면 값이 반드시 달라짐
+ *
+ * 시각을 비교해서 갱신하지 않는 이유
+ * - 트랜잭션 A(updated_at=t1), B(t2, t1 < t2) 가 B → A 순서로 커밋되면 A 의 시각이 이미 본 값보다 과거라서
+ *   (행 수, 최대 시각) 이 그대로 → A 의 변경이 빠진 응답에 304 를 보내게 됨
+ *
+ * 시드에는 생성 순번도 붙임
+ * - 캐시에서 밀려났거나 reset() 뒤에 다시 집계하면 버전이 0 부터 다시 시작하는데,
+ *   위 경우처럼 집계 결과가 예전과 같으면 예전 ETag 와 겹칠 수 있으므로
+ * - 순번은 서버 시작 시각(ms) × 1000 부터 시작 → 재시작 후에도 이전 값과 겹치지 않음
+ */
+public class Fingerprint {
+
+    private static final AtomicLong SEEDS = new AtomicLong(System.currentTimeMillis() * 1000L);
+
+    private final String seed;
+    private final AtomicLong version = new AtomicLong();
+
+    public Fingerprint(Long count, LocalDateTime lastModified) {
+        this.seed = (count == null ? 0 : count) + "@" + lastModified + "#" + SEEDS.incrementAndGet();
+    }
+
+    /**
+     * 커밋된 변경(생성/수정/삭제) 한 건 반영
+     */
+    public void onChanged() {
+        version.incrementAndGet();
+    }
+
+    public String value() {
+        return seed + "." + version.get();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todo.event;
+
+import com.example.todo.domain.Comment;
+import lombok.Getter;
+
+/**
+ * 댓글이 생성/수정/삭제되었음을 알리는 이벤트
+ * - CommentService 가 트랜잭션 안에서 발행하고, 부가 기능은 커밋 후(AFTER_COMMIT)에 받아서 반영
+ */
+@Getter
+public class CommentChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Comment comment; // 커밋 이후에는 detach 상태. 이미 로딩된 필드와 연관 엔티티 id 만 사용할 것
+
+    public CommentChangedEvent(Type type, Comment comment) {
+        this.type = type;
+        this.comment = comment;
+    }
+
+    public Long getScheduleId() {
+        return comment.getSchedule().getId();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.event;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 일정의 댓글 수(comment_count)가 DB 에 반영되었음을 알리는 이벤트
+ * - CommentCountBuffer 가 모아 둔 증감분을 한 번에 UPDATE 한 트랜잭션 안에서 발행
+ * - 일정 엔티티를 거치지 않은 변경이라 ScheduleChangedEvent 는 발행하지 않음 (목록 ETag 등만 갱신하면 됨)
+ */
+@Getter
+public class CommentCountsFlushedEvent {
+
+    private final Set<Long> scheduleIds;
+
+    public CommentCountsFlushedEvent(Set<Long> scheduleIds) {
+        this.scheduleIds = scheduleIds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.todo.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 행들이 일괄 삭제되었음을 알리는 이벤트 (삭제된 사용자가 남긴 댓글, 삭제되는 일정에 달린 댓글)
+ * - CascadePurger 가 삭제 트랜잭션 안에서 발행
+ * - commentIds[i] 는 scheduleIds[i] 일정에 달려 있던 댓글 (댓글 수 보정, 실시간 스트림 삭제 알림에 사용)
+ */
+@Getter
+public class CommentsPurgedEvent {
+
+    private final List<Long> commentIds;
+    private final List<Long> scheduleIds;
+
+    public CommentsPurgedEvent(List<Long> commentIds, List<Long> scheduleIds) {
+        this.commentIds = commentIds;
+        this.scheduleIds = scheduleIds;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.todo.event;
+
+import com.example.todo.domain.Schedule;
+import lombok.Getter;
+
+/**
+ * 일정이 생성/수정/삭제되었음을 알리는 이벤트
+ * - ScheduleService 가 트랜잭션 안에서 발행(ApplicationEventPublisher)
+ * - 메모리 색인 등 부가 기능은 @TransactionalEventListener(AFTER_COMMIT) 로 받아서
+ *   커밋이 확정된 변경만 반영함 (롤백된 변경이 색인에 남지 않도록)
+ */
+@Getter
+public class ScheduleChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Schedule schedule; // 커밋 이후에는 detach 상태. 이미 로딩된 필드와 user id 만 사용할 것
+
+    public ScheduleChangedEvent(Type type, Schedule schedule) {
+        this.type = type;
+        this.schedule = schedule;
+    }
+
+    public Long getScheduleId() {
+        return schedule.getId();
+    }
+}
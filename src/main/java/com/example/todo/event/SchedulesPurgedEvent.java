@@ -0,0 +1,20 @@
+package com.example.todo.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 행들이 일괄 삭제(DELETE ... WHERE id IN)되었음을 알리는 이벤트
+ * - 사용자 삭제 시 그 사용자의 일정을 묶음 단위로 지울 때 CascadePurger 가 삭제 트랜잭션 안에서 발행
+ * - 엔티티를 읽지 않고 지우므로 ScheduleChangedEvent 대신 id 목록만 전달
+ */
+@Getter
+public class SchedulesPurgedEvent {
+
+    private final List<Long> scheduleIds;
+
+    public SchedulesPurgedEvent(List<Long> scheduleIds) {
+        this.scheduleIds = scheduleIds;
+    }
+}
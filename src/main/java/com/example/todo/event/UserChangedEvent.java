@@ -0,0 +1,22 @@
+package com.example.todo.event;
+
+import com.example.todo.domain.User;
+import lombok.Getter;
+
+/**
+ * 사용자가 수정/삭제되었음을 알리는 이벤트
+ * - UserService 가 트랜잭션 안에서 발행하고, 부가 기능은 커밋 후(AFTER_COMMIT)에 받아서 반영
+ */
+@Getter
+public class UserChangedEvent {
+
+    public enum Type { UPDATED, DELETED }
+
+    private final Type type;
+    private final User user;
+
+    public UserChangedEvent(Type type, User user) {
+        this.type = type;
+        this.user = user;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.todo.filter;
+
+import com.example.todo.throttle.AuthThrottle;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/회원가입 요청 제한 필터 (POST /auth/login, POST /users)
+ * - 본문(JSON)을 먼저 읽어 email 또는 username 을 꺼낸 뒤 AuthThrottle 에 IP 와 함께 물어봄
+ * - 거절되면 컨트롤러까지 가지 않고 바로 429 + Retry-After (DB 조회, BCrypt 계산 없음)
+ * - 통과하면 읽어 둔 본문을 그대로 다시 읽을 수 있게 감싸서 넘김
+ */
+public class AuthThrottleFilter implements Filter {
+
+    // 로그인/회원가입 본문은 작으므로 이보다 크면 읽지 않고 거절
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final AuthThrottle authThrottle;
+    private final ObjectMapper objectMapper;
+
+    public AuthThrottleFilter(AuthThrottle authThrottle, ObjectMapper objectMapper) {
+        this.authThrottle = authThrottle;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpReq = (HttpServletRequest) request;
+        HttpServletResponse httpRes = (HttpServletResponse) response;
+
+        if (!authThrottle.isEnabled() || !isThrottled(httpReq)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = httpReq.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            httpRes.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE); // 413
+            httpRes.getWriter().write("요청 본문이 너무 큽니다.");
+            return;
+        }
+
+        long waitNanos = authThrottle.tryAcquire(httpReq.getRemoteAddr(), identity(body));
+        if (waitNanos > 0) {
+            httpRes.setStatus(429); // Too Many Requests
+            httpRes.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+            httpRes.setContentType("text/plain;charset=UTF-8");
+            httpRes.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        chain.doFilter(new CachedBodyRequest(httpReq, body), response);
+    }
+
+    private static boolean isThrottled(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        return path.equals("/auth/login") || path.equals("/users");
+    }
+
+    // 로그인은 email, 회원가입은 username. JSON 이 아니면 null (IP 버킷만 적용, 본문 오류는 컨트롤러가 400 으로 처리)
+    private String identity(byte[] body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            if (node == null) {
+                return null;
+            }
+            String email = node.path("email").asText(null);
+            return email != null ? email : node.path("username").asText(null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 먼저 읽은 본문을 컨트롤러가 다시 읽을 수 있게 돌려주는 요청 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 메모리에 있으므로 바로 읽을 수 있다고 알리고, 다 읽었으면 끝났다고 알림
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.todo.filter;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드에서 동시에 처리하는 요청 수 제한 (FilterConfig 에서 가상 스레드 모드일 때만 등록)
+ * - 플랫폼 스레드 모드에서는 톰캣 스레드 수가 상한이고, 나머지 요청은 연결 대기열에서 순서대로 기다림
+ * - 가상 스레드 모드에는 그 상한이 없어서 모든 요청이 한꺼번에 커넥션 풀(Hikari) 대기로 몰림.
+ *   풀 대기는 먼저 온 순서를 보장하지 않아서(새로 온 요청이 먼저 가져갈 수 있음) 일부 요청은
+ *   connectionTimeout(30초)까지 기다리다 실패함
+ * - 그래서 maxConcurrent(기본 풀 크기)개만 동시에 처리하고, 나머지는 공정한(FIFO) Semaphore 에서 기다리게 함.
+ *   queueTimeout 안에 차례가 오지 않으면 503 + Retry-After
+ * - 로그인/회원가입은 따로 maxConcurrentPassword 개 (비밀번호 해시를 기다리는 동안 자리를 차지하므로,
+ *   같은 자리를 쓰면 로그인 폭주 때 다른 요청이 처리되지 못함)
+ * - 비동기 요청(SSE 구독, 내보내기)은 요청 스레드가 필터를 빠져나올 때 반납 (스트림을 보내는 동안은 차지하지 않음)
+ */
+public class ConcurrencyLimitFilter implements Filter {
+
+    private final Semaphore permits;
+    private final Semaphore passwordPermits;
+    private final long queueTimeoutNanos;
+
+    public ConcurrencyLimitFilter(int maxConcurrent, int maxConcurrentPassword, Duration queueTimeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.passwordPermits = new Semaphore(maxConcurrentPassword, true);
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpReq = (HttpServletRequest) request;
+        HttpServletResponse httpRes = (HttpServletResponse) response;
+
+        Semaphore compartment = isPasswordRequest(httpReq) ? passwordPermits : permits;
+        boolean acquired;
+        try {
+            acquired = compartment.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            httpRes.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE); // 503
+            httpRes.setHeader("Retry-After", "1");
+            httpRes.setContentType("text/plain;charset=UTF-8");
+            httpRes.getWriter().write("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            compartment.release();
+        }
+    }
+
+    private static boolean isPasswordRequest(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        return path.equals("/auth/login") || path.equals("/users");
+    }
+}
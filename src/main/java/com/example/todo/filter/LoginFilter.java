@@ -1,13 +1,38 @@
 package com.example.todo.filter;
 
+import com.example.todo.auth.AuthTokens;
+import com.example.todo.auth.RevokedUsers;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 
+/**
+ * 로그인 여부 확인 필터
+ * - 세션 모드(기본): 로그인할 때 만든 HttpSession 에 userId 가 있어야 통과
+ * - 토큰 모드(app.auth.mode=token): Authorization: Bearer {토큰} 의 서명과 만료를 확인하고 (서버에 저장하는 상태 없음)
+ *   토큰의 사용자가 삭제되었으면 거절 (만료 전이라도 탈퇴/삭제된 사용자의 토큰은 바로 쓸 수 없게)
+ * 두 모드 모두 통과한 요청에는 userId 를 요청 속성으로 넣어 둠
+ */
 public class LoginFilter implements Filter {
 
+    private static final String BEARER = "Bearer ";
+
+    // null 이면 세션 모드
+    private final AuthTokens authTokens;
+    // 토큰의 사용자가 삭제되지 않았는지 (토큰 모드에서만 사용)
+    private final RevokedUsers revokedUsers;
+
+    public LoginFilter() {
+        this(null, null);
+    }
+
+    public LoginFilter(AuthTokens authTokens, RevokedUsers revokedUsers) {
+        this.authTokens = authTokens;
+        this.revokedUsers = revokedUsers;
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -17,20 +42,39 @@ public class LoginFilter implements Filter {
 
         String path = httpReq.getRequestURI();
 
-        // 회원가입, 로그인 요청은 필터에서 제외
-        if (path.startsWith("/auth/login") || path.startsWith("/users")) {
+        // 회원가입(POST /users), 로그인 요청은 필터에서 제외 (사용자 목록/수정/삭제는 로그인 필요)
+        if (path.startsWith("/auth/login") || (path.equals("/users") && "POST".equals(httpReq.getMethod()))) {
             chain.doFilter(request, response);
             return;
         }
 
-        HttpSession session = httpReq.getSession(false);
+        Object userId = authTokens != null ? verifyToken(httpReq) : sessionUserId(httpReq);
 
-        if (session == null || session.getAttribute("userId") == null) {
+        if (userId == null) {
             httpRes.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401
             httpRes.getWriter().write("인증되지 않은 사용자입니다.");
             return;
         }
 
+        httpReq.setAttribute("userId", userId);
         chain.doFilter(request, response);
     }
+
+    private static Object sessionUserId(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session == null ? null : session.getAttribute("userId");
+    }
+
+    // 헤더 문자열을 자르지 않고 "Bearer " 뒤부터 바로 검증
+    private Long verifyToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith(BEARER)) {
+            return null;
+        }
+        long userId = authTokens.verify(header, BEARER.length());
+        if (userId < 0 || !revokedUsers.isActive(userId, authTokens.issuedAt(header, BEARER.length()))) {
+            return null;
+        }
+        return userId;
+    }
 }
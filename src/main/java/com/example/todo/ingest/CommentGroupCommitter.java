@@ -0,0 +1,234 @@
+package com.example.todo.ingest;
+
+import com.example.todo.domain.Comment;
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.event.CommentChangedEvent;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 생성 그룹 커밋(group commit) (app.comment.ingest.enabled=true 일 때만 사용)
+ *
+ * 요청마다 "User 조회 + Schedule 조회 + INSERT + 커밋" 을 하면, 몰리는 순간 커밋(로그 flush) 횟수가 곧 처리량 한계가 됨.
+ * 대신
+ * - 요청 스레드는 댓글을 큐에 넣고 CompletableFuture 를 받아 바로 반환 (서블릿 스레드를 잡지 않는 비동기 응답)
+ * - 작성 스레드 1개가 batch-size 건이 모이거나 첫 건이 들어온 뒤 max-delay 가 지나면 한 묶음으로 꺼내서
+ *   User/Schedule 을 IN 조회 한 번씩으로 확인하고, 시퀀스 id 로 JDBC 배치 INSERT 후 커밋 한 번
+ * - 커밋이 끝나면 각 요청의 future 를 생성된 댓글(id 포함)로 완료
+ *
+ * 배압(backpressure)
+ * - 큐는 락 없는 ConcurrentLinkedQueue + 원자적 카운터로 capacity 건까지만 받음
+ * - 가득 차면 RejectedExecutionException → 503 (클라이언트가 잠시 후 재시도)
+ *
+ * 묶음 중 한 건 때문에 커밋이 실패하면, 그 묶음은 한 건씩 다시 처리해서 문제 있는 요청만 실패시킴
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.comment.ingest.enabled", havingValue = "true")
+public class CommentGroupCommitter {
+
+    private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final int capacity;
+    private final Duration shutdownTimeout;
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    // 큐에 들어 있는 건수 (ConcurrentLinkedQueue.size() 는 O(n) 이라 따로 셈)
+    private final AtomicInteger size = new AtomicInteger();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public CommentGroupCommitter(UserRepository userRepository,
+                                 ScheduleRepository scheduleRepository,
+                                 EntityManager entityManager,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.comment.ingest.batch-size:200}") int batchSize,
+                                 @Value("${app.comment.ingest.max-delay:PT0.005S}") Duration maxDelay,
+                                 @Value("${app.comment.ingest.capacity:10000}") int capacity,
+                                 @Value("${app.comment.ingest.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.userRepository = userRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.capacity = capacity;
+        this.shutdownTimeout = shutdownTimeout;
+        this.writer = new Thread(this::runWriter, "comment-group-commit");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 댓글 생성 요청을 큐에 넣음
+     *
+     * @return 커밋 후 생성된 댓글로 완료되는 future (존재하지 않는 사용자/일정이면 IllegalArgumentException 으로 실패)
+     * @throws RejectedExecutionException 큐가 가득 찬 경우 (503)
+     */
+    public CompletableFuture<CommentResponseDto> submit(CommentRequestDto dto) {
+        int reserved;
+        do {
+            reserved = size.get();
+            if (reserved >= capacity || !running) {
+                throw new RejectedExecutionException("댓글 요청이 밀려 있습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } while (!size.compareAndSet(reserved, reserved + 1));
+
+        Pending pending = new Pending(dto, new CompletableFuture<>());
+        queue.add(pending);
+        // 작성 스레드는 "비어 있음 → 첫 건" 과 "묶음이 가득 참" 때만 깨움 (매 건 unpark 하지 않음)
+        if (reserved == 0 || reserved + 1 == batchSize) {
+            LockSupport.unpark(writer);
+        }
+        return pending.future;
+    }
+
+    public int queued() {
+        return size.get();
+    }
+
+    /**
+     * 종료 시 새 요청은 거절하고, 이미 받은 요청은 모두 커밋한 뒤 작성 스레드 종료
+     * - shutdown-timeout 안에 끝나지 않으면 큐에 남은 요청을 503 으로 실패시킴
+     *   (그대로 두면 그 요청들의 비동기 응답이 MVC 비동기 타임아웃까지 대기)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(shutdownTimeout.toMillis());
+
+        int abandoned = 0;
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            size.decrementAndGet();
+            pending.future.completeExceptionally(
+                    new RejectedExecutionException("서버가 종료 중이라 댓글을 저장하지 못했습니다. 잠시 후 다시 시도해 주세요."));
+            abandoned++;
+        }
+        if (abandoned > 0) {
+            log.warn("종료 대기 시간({}) 안에 커밋하지 못한 댓글 요청 {}건을 실패 처리", shutdownTimeout, abandoned);
+        }
+    }
+
+    private void runWriter() {
+        List<Pending> group = new ArrayList<>(batchSize);
+        while (running || size.get() > 0) {
+            if (size.get() == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+                continue;
+            }
+            // 첫 건이 들어온 뒤 batch-size 가 찰 때까지 최대 max-delay 기다림
+            long deadline = System.nanoTime() + maxDelayNanos;
+            long remaining;
+            while (running && size.get() < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+
+            Pending pending;
+            while (group.size() < batchSize && (pending = queue.poll()) != null) {
+                group.add(pending);
+            }
+            size.addAndGet(-group.size());
+            if (group.isEmpty()) {
+                continue; // 카운터는 올라갔지만 아직 큐에 들어오지 않은 경우
+            }
+            try {
+                commit(group);
+            } catch (RuntimeException e) {
+                log.warn("댓글 그룹 커밋 실패, 한 건씩 재시도: {}건", group.size(), e);
+                for (Pending one : group) {
+                    try {
+                        commit(List.of(one));
+                    } catch (RuntimeException single) {
+                        one.future.completeExceptionally(single);
+                    }
+                }
+            }
+            group.clear();
+        }
+    }
+
+    /**
+     * 한 묶음을 트랜잭션 하나로 저장하고, 커밋 후 각 future 완료
+     */
+    private void commit(List<Pending> group) {
+        List<Pending> accepted = new ArrayList<>(group.size());
+        List<Comment> comments = new ArrayList<>(group.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, User> users = findAll(group, CommentRequestDto::getUserId, userRepository::findAllById, User::getId);
+            Map<Long, Schedule> schedules = findAll(group, CommentRequestDto::getScheduleId,
+                    scheduleRepository::findAllById, Schedule::getId);
+
+            for (Pending pending : group) {
+                CommentRequestDto dto = pending.dto;
+                User user = users.get(dto.getUserId());
+                Schedule schedule = schedules.get(dto.getScheduleId());
+                if (user == null || schedule == null || dto.getContent() == null) {
+                    pending.future.completeExceptionally(new IllegalArgumentException(
+                            user == null ? "존재하지 않는 사용자입니다."
+                                    : schedule == null ? "존재하지 않는 일정입니다." : "댓글 내용을 입력해 주세요."));
+                    continue;
+                }
+                Comment comment = Comment.builder()
+                        .content(dto.getContent())
+                        .user(user)
+                        .schedule(schedule)
+                        .build();
+                entityManager.persist(comment); // 시퀀스 id 라서 INSERT 는 flush 때 JDBC 배치로 묶임
+                eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, comment));
+                accepted.add(pending);
+                comments.add(comment);
+            }
+            entityManager.flush(); // 커밋 전에 createdAt/updatedAt 까지 채워진 상태로 응답을 만들기 위해
+        });
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).future.complete(new CommentResponseDto(comments.get(i)));
+        }
+    }
+
+    private static <T> Map<Long, T> findAll(List<Pending> group, Function<CommentRequestDto, Long> key,
+                                            Function<Set<Long>, List<T>> query, Function<T, Long> id) {
+        Set<Long> ids = group.stream().map(p -> key.apply(p.dto))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return query.apply(ids).stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private record Pending(CommentRequestDto dto, CompletableFuture<CommentResponseDto> future) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.todo.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포지토리 메서드별 실행 시간 히스토그램 (app.repository.invocations)
+ * - 태그: repository(ScheduleRepository ...), method(findById, findPage ...), state(success / error)
+ * - Spring Data 가 리포지토리 호출마다 걸린 시간을 재서 넘겨주면 (리포지토리, 메서드)별 Timer 에 기록만 함
+ *   Timer 는 메서드가 처음 불릴 때 한 번 등록하고 이후에는 표에서 꺼냄
+ * - Stream 을 돌려주는 메서드(streamAllIdentities)는 스트림을 여는 시간까지만 잼
+ * - 등록은 config.MetricsConfig (리포지토리 팩토리에 리스너를 붙임)
+ */
+public class RepositoryMetricsListener implements RepositoryMethodInvocationListener {
+
+    static final String METRIC_NAME = "app.repository.invocations";
+
+    private final MeterRegistry meterRegistry;
+    // 측정할 리포지토리 → (메서드 → [성공, 실패] Timer). 바깥 표는 만든 뒤 바뀌지 않음
+    private final Map<Class<?>, Map<Method, Timer[]>> timers = new HashMap<>();
+
+    public RepositoryMetricsListener(MeterRegistry meterRegistry, Collection<Class<?>> repositories) {
+        this.meterRegistry = meterRegistry;
+        for (Class<?> repository : repositories) {
+            timers.put(repository, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        Map<Method, Timer[]> methods = timers.get(invocation.getRepositoryInterface());
+        if (methods == null) {
+            return;
+        }
+        Method method = invocation.getMethod();
+        Timer[] pair = methods.get(method);
+        if (pair == null) {
+            pair = methods.computeIfAbsent(method, m -> register(invocation.getRepositoryInterface(), m));
+        }
+        RepositoryMethodInvocationResult result = invocation.getResult();
+        boolean success = result == null || result.getState() == RepositoryMethodInvocationResult.State.SUCCESS;
+        pair[success ? 0 : 1].record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] register(Class<?> repository, Method method) {
+        return new Timer[]{timer(repository, method, "success"), timer(repository, method, "error")};
+    }
+
+    private Timer timer(Class<?> repository, Method method, String state) {
+        return Timer.builder(METRIC_NAME)
+                .description("리포지토리 메서드별 실행 시간")
+                .tags("repository", repository.getSimpleName(), "method", method.getName(), "state", state)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.todo.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 컨트롤러(com.example.todo.controller) 경로별 응답 시간 히스토그램 (app.http.requests)
+ * - 태그: method(GET, POST ...), uri(매핑 패턴, 예: /schedules/{id}), outcome(SUCCESS, CLIENT_ERROR, SERVER_ERROR ...)
+ * - 컨트롤러 메서드 → Timer 표를 시작할 때 한 번 만들어 두고, 요청마다 표에서 꺼내 기록만 함
+ *   (요청마다 태그 문자열을 만들거나 MeterRegistry 에서 찾지 않음. 기록 비용은 metrics.RouteMetricsBenchmark 참고)
+ * - 시간은 디스패처가 컨트롤러를 찾은 뒤부터 응답 작성이 끝날 때까지 (앞단 필터 시간은 빠짐)
+ * - 비동기 응답(SSE 구독, 일정 내보내기)은 스트림이 끝날 때 한 번 기록됨
+ */
+@Component
+public class RouteMetricsInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
+
+    static final String METRIC_NAME = "app.http.requests";
+    private static final String CONTROLLER_PACKAGE = "com.example.todo.controller";
+    private static final String START = RouteMetricsInterceptor.class.getName() + ".start";
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final MeterRegistry meterRegistry;
+    private final ApplicationContext applicationContext;
+
+    // 시작 후에는 읽기만 함
+    private volatile Map<Method, Route> routes = Map.of();
+
+    public RouteMetricsInterceptor(MeterRegistry meterRegistry, ApplicationContext applicationContext) {
+        this.meterRegistry = meterRegistry;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * 모든 빈이 만들어진 뒤(서버가 요청을 받기 전) 컨트롤러 매핑을 읽어 경로 표를 만듦
+     * - 요청 처리 중에는 매핑이 바뀌지 않으므로 다시 만들 필요 없음
+     * - 매핑 빈은 인터셉터를 등록하는 쪽이라 생성자로 받으면 순환 참조가 생김 → 여기서 꺼냄
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 웹 서버 없이 띄운 경우(WebApplicationType.NONE, 서비스 벤치마크 등)에는 매핑 빈이 없음 → 기록할 요청도 없음
+        if (!applicationContext.containsBean("requestMappingHandlerMapping")) {
+            return;
+        }
+        RequestMappingHandlerMapping mapping = applicationContext.getBean(
+                "requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        registerRoutes(mapping.getHandlerMethods());
+    }
+
+    /**
+     * 매핑 정보로 경로 표 생성 (컨트롤러 패키지 밖의 핸들러는 제외)
+     */
+    void registerRoutes(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        Map<Method, Route> table = new HashMap<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMethods.entrySet()) {
+            HandlerMethod handlerMethod = entry.getValue();
+            if (!handlerMethod.getBeanType().getPackageName().equals(CONTROLLER_PACKAGE)) {
+                continue;
+            }
+            RequestMappingInfo info = entry.getKey();
+            String method = info.getMethodsCondition().getMethods().isEmpty() ? "ANY"
+                    : String.join(",", new TreeSet<>(info.getMethodsCondition().getMethods().stream().map(Enum::name).toList()));
+            String uri = String.join("|", new TreeSet<>(info.getPatternValues()));
+            table.put(handlerMethod.getMethod(), new Route(method, uri));
+        }
+        routes = table;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답은 끝날 때 한 번 더 디스패치되며 다시 호출됨 → 처음 시각을 유지
+        if (handler instanceof HandlerMethod && request.getAttribute(START) == null) {
+            request.setAttribute(START, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Route route = routes.get(handlerMethod.getMethod());
+        Object start = request.getAttribute(START);
+        if (route == null || start == null) {
+            return;
+        }
+        // 처리되지 않은 예외는 아직 상태 코드가 정해지지 않았으므로 500 으로 봄
+        int status = response.getStatus();
+        if (ex != null && status < 400) {
+            status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        }
+        route.timer(Outcome.forStatus(status)).record(System.nanoTime() - (Long) start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 경로 하나의 결과(outcome)별 Timer
+     * - 정상 응답(SUCCESS) Timer 는 미리 등록해서 요청이 없던 경로도 0 으로 보이게 함. 나머지는 처음 생길 때 등록
+     */
+    private final class Route {
+        private final String method;
+        private final String uri;
+        private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(OUTCOMES.length);
+
+        Route(String method, String uri) {
+            this.method = method;
+            this.uri = uri;
+            timer(Outcome.SUCCESS);
+        }
+
+        Timer timer(Outcome outcome) {
+            Timer timer = timers.get(outcome.ordinal());
+            if (timer == null) {
+                // 동시에 처음 등록해도 MeterRegistry 가 같은 Timer 를 돌려줌
+                timer = Timer.builder(METRIC_NAME)
+                        .description("컨트롤러 경로별 응답 시간")
+                        .tags("method", method, "uri", uri, "outcome", outcome.name())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(meterRegistry);
+                timers.set(outcome.ordinal(), timer);
+            }
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.todo.purge;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.event.CommentsPurgedEvent;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.event.SchedulesPurgedEvent;
+import com.example.todo.event.UserChangedEvent;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일정/사용자 삭제 (삭제 표시 + 묶음 단위 일괄 삭제)
+ *
+ * 1) 삭제 표시: 요청 즉시 deleted_at 을 채움 → @SQLRestriction 때문에 모든 조회에서 바로 사라짐
+ *    사용자는 그 사용자의 일정까지 UPDATE 한 문장으로 함께 표시 (user_id 인덱스 범위만 잠금)
+ * 2) 실제 삭제: 댓글 → 일정 → 사용자 순서로 chunk-size 건씩 "id 조회 → DELETE ... WHERE id IN" 을 짧은 트랜잭션으로 반복
+ *    → 엔티티를 한 건씩 읽어 지우지 않고, 한 트랜잭션이 잡는 잠금도 chunk-size 행으로 제한됨
+ *
+ * app.purge.async=false(기본)면 2) 를 요청 스레드에서 바로 실행,
+ * true 면 요청은 1) 만 하고 응답, 2) 는 interval 마다 도는 백그라운드 작업이 묶음 사이에 throttle 만큼 쉬면서 처리.
+ * 백그라운드 작업은 동기 모드에서도 돌면서, 중간에 실패하거나 서버가 멈춰 남은 삭제 표시 행을 마저 지움
+ */
+@Slf4j
+@Component
+public class CascadePurger {
+
+    private static final String SOFT_DELETE_SCHEDULES_OF_USER =
+            "update schedule set deleted_at = :now where user_id = :userId and deleted_at is null";
+    private static final String COMMENTS_BY_AUTHOR = "select id, schedule_id from comment where user_id = :id limit :limit";
+    // distinct: H2 는 앞 묶음을 지운 뒤 schedule_id IN (...) + limit 조회에서 같은 행을 두 번 돌려줌
+    // (묶음이 작아지고, 이벤트에 같은 댓글이 두 번 들어가 댓글 수를 두 번 빼게 됨. CascadePurgerTest 에서 재현)
+    static final String COMMENTS_BY_SCHEDULES =
+            "select distinct id, schedule_id from comment where schedule_id in (:ids) limit :limit";
+    private static final String SCHEDULES_BY_USER = "select id from schedule where user_id = :id limit :limit";
+    private static final String DELETE_COMMENTS = "delete from comment where id in (:ids)";
+    private static final String DELETE_SCHEDULES = "delete from schedule where id in (:ids)";
+    private static final String DELETE_USER = "delete from users where id = :id";
+    private static final String PENDING_USERS = "select id from users where deleted_at is not null limit :limit";
+    private static final String PENDING_SCHEDULES = "select id from schedule where deleted_at is not null limit :limit";
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean async;
+    private final int chunkSize;
+    private final Duration throttle;
+
+    // 지금 지우고 있는 대상 ("user:1", "schedule:2"). 요청 스레드와 백그라운드 작업이 같은 대상을 겹쳐 지우지 않도록
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+    public CascadePurger(ScheduleRepository scheduleRepository,
+                         UserRepository userRepository,
+                         NamedParameterJdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         EntityManagerFactory entityManagerFactory,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${app.purge.async:false}") boolean async,
+                         @Value("${app.purge.chunk-size:1000}") int chunkSize,
+                         @Value("${app.purge.throttle:PT0.05S}") Duration throttle) {
+        this.scheduleRepository = scheduleRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+        this.async = async;
+        this.chunkSize = chunkSize;
+        this.throttle = throttle;
+    }
+
+    /**
+     * 일정 삭제 (없는 id 면 아무 일도 하지 않음)
+     */
+    public void deleteSchedule(Long id) {
+        Boolean marked = transactionTemplate.execute(status -> scheduleRepository.findById(id)
+                .map(schedule -> {
+                    schedule.setDeletedAt(LocalDateTime.now());
+                    eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.DELETED, schedule));
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(marked)) {
+            return;
+        }
+        // 2차 캐시에는 삭제 표시된 상태가 남으므로 제거 (캐시 조회에는 @SQLRestriction 이 적용되지 않음)
+        entityManagerFactory.getCache().evict(Schedule.class, id);
+        if (!async) {
+            purgeSchedule(id, Duration.ZERO);
+        }
+    }
+
+    /**
+     * 사용자 삭제 (없는 id 면 아무 일도 하지 않음)
+     */
+    public void deleteUser(Long id) {
+        Boolean marked = transactionTemplate.execute(status -> userRepository.findById(id)
+                .map(user -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    user.setDeletedAt(now);
+                    jdbcTemplate.update(SOFT_DELETE_SCHEDULES_OF_USER, Map.of("now", now, "userId", id));
+                    eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED, user));
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(marked)) {
+            return;
+        }
+        var cache = entityManagerFactory.getCache();
+        cache.evict(User.class, id);
+        cache.evict(Schedule.class); // 일정은 JDBC 로 한꺼번에 표시했으므로 영역 전체 제거
+        if (!async) {
+            purgeUser(id, Duration.ZERO);
+        }
+    }
+
+    /**
+     * 삭제 표시된 사용자/일정을 실제로 지움 (interval 마다)
+     */
+    @Scheduled(initialDelayString = "${app.purge.interval:PT10S}", fixedDelayString = "${app.purge.interval:PT10S}")
+    public void purgePending() {
+        try {
+            for (Long userId : jdbcTemplate.queryForList(PENDING_USERS, Map.of("limit", chunkSize), Long.class)) {
+                purgeUser(userId, throttle);
+            }
+            for (Long scheduleId : jdbcTemplate.queryForList(PENDING_SCHEDULES, Map.of("limit", chunkSize), Long.class)) {
+                purgeSchedule(scheduleId, throttle);
+            }
+        } catch (RuntimeException e) {
+            log.warn("삭제 표시 행 정리 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 일정 하나의 댓글과 행 삭제 (일정 자체의 삭제 이벤트는 삭제 표시 때 이미 발행됨)
+     */
+    private void purgeSchedule(Long id, Duration pause) {
+        String key = "schedule:" + id;
+        if (!inProgress.add(key)) {
+            return;
+        }
+        try {
+            List<Long> ids = List.of(id);
+            deleteCommentsOf(ids, pause);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_SCHEDULES, Map.of("ids", ids)));
+        } finally {
+            inProgress.remove(key);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 댓글 → 일정(과 그 댓글) → 사용자 행 순서로 삭제
+     */
+    private void purgeUser(Long id, Duration pause) {
+        String key = "user:" + id;
+        if (!inProgress.add(key)) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            int comments = 0;
+            int schedules = 0;
+
+            // 1) 이 사용자가 다른 일정에 남긴 댓글
+            int deleted;
+            while ((deleted = deleteComments(COMMENTS_BY_AUTHOR, Map.of("id", id, "limit", chunkSize))) > 0) {
+                comments += deleted;
+                pause(pause);
+            }
+
+            // 2) 이 사용자의 일정: 그 일정들에 달린 댓글을 먼저 지우고 일정 행 삭제
+            while (true) {
+                List<Long> scheduleIds = jdbcTemplate.queryForList(SCHEDULES_BY_USER,
+                        Map.of("id", id, "limit", chunkSize), Long.class);
+                if (scheduleIds.isEmpty()) {
+                    break;
+                }
+                comments += deleteCommentsOf(scheduleIds, pause);
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(DELETE_SCHEDULES, Map.of("ids", scheduleIds));
+                    eventPublisher.publishEvent(new SchedulesPurgedEvent(scheduleIds));
+                });
+                schedules += scheduleIds.size();
+                pause(pause);
+            }
+
+            // 3) 사용자 행
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_USER, Map.of("id", id)));
+            log.info("사용자 {} 삭제 완료: 일정 {}건, 댓글 {}건, {}ms", id, schedules, comments,
+                    System.currentTimeMillis() - started);
+        } finally {
+            inProgress.remove(key);
+        }
+    }
+
+    /**
+     * 주어진 일정들에 달린 댓글을 chunk-size 건씩 삭제
+     *
+     * @return 삭제한 댓글 수
+     */
+    private int deleteCommentsOf(List<Long> scheduleIds, Duration pause) {
+        int total = 0;
+        int deleted;
+        while ((deleted = deleteComments(COMMENTS_BY_SCHEDULES, Map.of("ids", scheduleIds, "limit", chunkSize))) > 0) {
+            total += deleted;
+            pause(pause);
+        }
+        return total;
+    }
+
+    /**
+     * (댓글 id, 일정 id) 를 돌려주는 조회로 한 묶음을 찾아 삭제
+     * - 같은 트랜잭션 안에서 CommentsPurgedEvent 발행 → 댓글 수 보정, 변경 기록(삭제 표시), ETag, 실시간 스트림에 반영
+     *
+     * @return 삭제한 댓글 수 (0 이면 더 지울 것이 없음)
+     */
+    private int deleteComments(String select, Map<String, ?> params) {
+        List<long[]> rows = jdbcTemplate.query(select, params, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> commentIds = new ArrayList<>(rows.size());
+        List<Long> scheduleIds = new ArrayList<>(rows.size());
+        for (long[] row : rows) {
+            commentIds.add(row[0]);
+            scheduleIds.add(row[1]);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_COMMENTS, Map.of("ids", commentIds));
+            eventPublisher.publishEvent(new CommentsPurgedEvent(commentIds, scheduleIds));
+        });
+        return commentIds.size();
+    }
+
+    // 묶음 사이에 쉬어서 다른 요청이 DB 를 쓸 틈을 줌 (백그라운드 삭제일 때만)
+    private static void pause(Duration pause) {
+        if (pause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("삭제 작업이 중단되었습니다.", e);
+        }
+    }
+}
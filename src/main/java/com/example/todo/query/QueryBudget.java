@@ -0,0 +1,33 @@
+package com.example.todo.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드(요청 단위) 또는 @Transactional 서비스 메서드(트랜잭션 단위)의 SQL 예산을 설정값 대신 직접 지정
+ * - 예) 일괄 등록처럼 건수에 비례해서 문장이 늘어나는 게 정상인 메서드
+ *   @QueryBudget(statements = QueryBudget.UNLIMITED, repeats = QueryBudget.UNLIMITED)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    // app.query-budget 설정값 사용
+    int DEFAULT = -1;
+    // 검사하지 않음
+    int UNLIMITED = 0;
+
+    /**
+     * 실행할 수 있는 최대 SQL 문장 수 (JDBC 배치 한 번은 1문장)
+     */
+    int statements() default DEFAULT;
+
+    /**
+     * 같은 SQL(파라미터만 다른)을 이 횟수만큼 실행하면 N+1 로 봄
+     */
+    int repeats() default DEFAULT;
+}
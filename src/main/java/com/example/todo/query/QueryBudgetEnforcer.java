@@ -0,0 +1,63 @@
+package com.example.todo.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청/트랜잭션 단위 SQL 예산 적용
+ * - 요청(QueryBudgetInterceptor)과 @Transactional 서비스 메서드(TransactionQueryBudgetInterceptor)마다 구간을 열고,
+ *   닫을 때 예산 초과나 같은 SQL 반복(N+1 의심)이 있었으면 경고 로그를 남김
+ * - mode=fail 이면 한도를 넘는 문장을 실행하기 전에 QueryBudgetExceededException (개발/테스트 환경용)
+ * - 메서드에 @QueryBudget 이 있으면 그 값을 우선 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetEnforcer {
+
+    private final boolean failFast;
+    private final int perRequest;
+    private final int perTransaction;
+    private final int repeatThreshold;
+
+    public QueryBudgetEnforcer(@Value("${app.query-budget.mode:log}") String mode,
+                               @Value("${app.query-budget.per-request:20}") int perRequest,
+                               @Value("${app.query-budget.per-transaction:10}") int perTransaction,
+                               @Value("${app.query-budget.repeat-threshold:5}") int repeatThreshold) {
+        if (!mode.equals("log") && !mode.equals("fail")) {
+            throw new IllegalArgumentException("app.query-budget.mode 는 log 또는 fail 이어야 합니다: " + mode);
+        }
+        this.failFast = mode.equals("fail");
+        this.perRequest = perRequest;
+        this.perTransaction = perTransaction;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    public QueryScope openRequest(String name, QueryBudget override) {
+        return open(name, override, perRequest);
+    }
+
+    public QueryScope openTransaction(String name, QueryBudget override) {
+        return open(name, override, perTransaction);
+    }
+
+    private QueryScope open(String name, QueryBudget override, int defaultBudget) {
+        int budget = override == null || override.statements() == QueryBudget.DEFAULT ? defaultBudget : override.statements();
+        int repeats = override == null || override.repeats() == QueryBudget.DEFAULT ? repeatThreshold : override.repeats();
+        return QueryCounter.open(name, budget, repeats, failFast);
+    }
+
+    /**
+     * 구간을 닫고 한도를 넘었으면 경고 로그 (실행된 SQL 목록 포함)
+     */
+    public void close(QueryScope scope) {
+        scope.close();
+        if (scope.isOverBudget()) {
+            log.warn("SQL 예산 초과: {} {}건 (예산 {}건)\n{}", scope.getName(), scope.statements(), scope.getBudget(), scope.describe());
+        } else if (scope.hasRepeatedStatements()) {
+            log.warn("같은 SQL 반복 실행 (N+1 의심): {}\n{}", scope.getName(), scope.describe());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.todo.query;
+
+/**
+ * app.query-budget.mode=fail 에서 예산을 넘는 SQL 을 실행하려 할 때 발생 (그 문장은 실행되지 않음)
+ * - 트랜잭션 안이면 롤백되고, 요청은 500 으로 끝남 (GlobalExceptionHandler)
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
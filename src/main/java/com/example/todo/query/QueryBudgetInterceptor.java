@@ -0,0 +1,50 @@
+package com.example.todo.query;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나(컨트롤러 메서드 호출 ~ 응답 작성)의 SQL 문장 수 검사
+ * - 구간 이름은 "GET /schedules/{id}" 처럼 매핑 패턴으로 (로그에서 엔드포인트별로 모아 보기 쉽게)
+ * - 비동기 응답(SSE, 내보내기)은 요청 스레드가 끝날 때 한 번 닫고, 나머지는 비동기 디스패치에서 새 구간으로 셈
+ */
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE = QueryBudgetInterceptor.class.getName() + ".scope";
+
+    private final QueryBudgetEnforcer enforcer;
+
+    public QueryBudgetInterceptor(QueryBudgetEnforcer enforcer) {
+        this.enforcer = enforcer;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String name = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+            request.setAttribute(SCOPE, enforcer.openRequest(name, handlerMethod.getMethodAnnotation(QueryBudget.class)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        close(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        close(request);
+    }
+
+    private void close(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE) instanceof QueryScope scope) {
+            request.removeAttribute(SCOPE);
+            enforcer.close(scope);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.todo.query;
+
+/**
+ * 스레드별로 열려 있는 SQL 계측 구간(QueryScope) 관리
+ * - 구간은 스택처럼 쌓임 (요청 → 서비스 메서드 → 안에서 부른 다른 서비스 메서드 ...)
+ * - QueryCountingListener 가 JDBC 문장을 실행하기 직전에 record 를 호출함
+ * - 다른 스레드에서 실행되는 문장(댓글 그룹 커밋, 백그라운드 삭제 등)은 요청 구간에 들어가지 않음
+ */
+public final class QueryCounter {
+
+    // 가장 안쪽 구간 (바깥 구간은 parent 로 연결)
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 테스트용 구간 열기 (예산 없음, 실행된 문장만 셈). try-with-resources 로 닫을 것
+     */
+    public static QueryScope capture(String name) {
+        return open(name, 0, 0, false);
+    }
+
+    static QueryScope open(String name, int budget, int repeatThreshold, boolean failFast) {
+        QueryScope scope = new QueryScope(name, budget, repeatThreshold, failFast, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 구간 닫기
+     * - 안쪽 구간이 닫히지 않고 남아 있으면 함께 정리 (예외로 빠져나온 경우 등)
+     * - 이 스레드에 열려 있지 않은 구간이면 무시
+     */
+    static void close(QueryScope scope) {
+        for (QueryScope open = CURRENT.get(); open != null; open = open.parent) {
+            if (open == scope) {
+                if (scope.parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(scope.parent);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 가장 안쪽 구간 (없으면 null)
+     */
+    public static QueryScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 문장 하나를 열려 있는 모든 구간에 기록
+     *
+     * @throws QueryBudgetExceededException 한도를 넘은 구간이 mode=fail 이면
+     */
+    public static void record(String sql) {
+        String violation = null;
+        for (QueryScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            String message = scope.record(sql);
+            if (violation == null) {
+                violation = message;
+            }
+        }
+        if (violation != null) {
+            throw new QueryBudgetExceededException(violation);
+        }
+    }
+}
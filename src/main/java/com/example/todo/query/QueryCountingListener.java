@@ -0,0 +1,30 @@
+package com.example.todo.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * JDBC 문장 실행 직전에 QueryCounter 에 기록하는 datasource-proxy 리스너
+ * - Hibernate, JdbcTemplate 등 DataSource 를 거치는 모든 문장이 대상
+ * - PreparedStatement 배치(executeBatch)는 파라미터 묶음 수와 관계없이 1문장 (DB 왕복 1번)
+ * - 열려 있는 구간이 없으면(백그라운드 작업 등) 아무것도 하지 않음
+ */
+public class QueryCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (QueryCounter.current() == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            QueryCounter.record(queryInfo.getQuery());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+}
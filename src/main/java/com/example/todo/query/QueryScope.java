@@ -0,0 +1,176 @@
+package com.example.todo.query;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL 문장 수를 세는 구간 하나 (요청 하나, 서비스 메서드 하나, 또는 테스트에서 연 구간)
+ * - 구간이 열려 있는 동안 같은 스레드에서 실행된 문장을 셈. 안쪽 구간의 문장은 바깥 구간에도 함께 셈
+ * - SQL 문자열(파라미터 자리는 ?)별 실행 횟수도 세어서, 같은 문장이 반복되면 N+1 로 알려 줌
+ * - 한 스레드에서만 쓰므로 동기화하지 않음
+ *
+ * 테스트에서 엔드포인트별 문장 수를 고정할 때:
+ * <pre>
+ * try (QueryScope scope = QueryCounter.capture("GET /schedules")) {
+ *     mockMvc.perform(get("/schedules"));
+ *     scope.assertStatements(2).assertNoRepeatedStatements();
+ * }
+ * </pre>
+ */
+public class QueryScope implements AutoCloseable {
+
+    // 로그/오류 메시지에 넣는 SQL 최대 길이
+    private static final int SQL_PREVIEW = 200;
+
+    private final String name;
+    private final int budget;
+    private final int repeatThreshold;
+    private final boolean failFast;
+    final QueryScope parent;
+
+    private int statements;
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    /**
+     * @param budget 최대 문장 수 (0 이하면 제한 없음)
+     * @param repeatThreshold 같은 SQL 이 이 횟수 이상이면 반복으로 봄 (0 이하면 검사 안 함)
+     * @param failFast true 면 예산/반복 한도를 넘는 문장을 실행하기 전에 예외
+     */
+    QueryScope(String name, int budget, int repeatThreshold, boolean failFast, QueryScope parent) {
+        this.name = name;
+        this.budget = budget;
+        this.repeatThreshold = repeatThreshold;
+        this.failFast = failFast;
+        this.parent = parent;
+    }
+
+    /**
+     * 문장 하나 기록
+     *
+     * @return failFast 이고 한도를 넘었으면 그 설명, 아니면 null
+     */
+    String record(String sql) {
+        statements++;
+        int repeated = counts.merge(sql, 1, Integer::sum);
+        if (!failFast) {
+            return null;
+        }
+        if (budget > 0 && statements > budget) {
+            return String.format("%s: SQL 예산 %d건 초과 (%d번째: %s)", name, budget, statements, preview(sql));
+        }
+        if (repeatThreshold > 0 && repeated == repeatThreshold) {
+            return String.format("%s: 같은 SQL %d번 실행 (N+1 의심: %s)", name, repeated, preview(sql));
+        }
+        return null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * 지금까지 실행한 문장 수
+     */
+    public int statements() {
+        return statements;
+    }
+
+    public boolean isOverBudget() {
+        return budget > 0 && statements > budget;
+    }
+
+    /**
+     * SQL 별 실행 횟수
+     */
+    public Map<String, Integer> statementCounts() {
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * 반복 한도 이상 실행된 SQL 이 있는지 (반복 검사를 끈 구간은 항상 false)
+     */
+    public boolean hasRepeatedStatements() {
+        if (repeatThreshold <= 0) {
+            return false;
+        }
+        for (int count : counts.values()) {
+            if (count >= repeatThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 반복 한도 이상 실행된 SQL (한도를 정하지 않은 구간은 2번 이상). 많이 실행된 순서
+     */
+    public Map<String, Integer> repeatedStatements() {
+        int threshold = repeatThreshold > 0 ? repeatThreshold : 2;
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    /**
+     * 문장 수가 정확히 expected 인지 확인 (아니면 AssertionError, 실행된 SQL 목록 포함)
+     */
+    public QueryScope assertStatements(int expected) {
+        if (statements != expected) {
+            throw new AssertionError(String.format("%s: SQL %d건 예상, 실제 %d건%n%s", name, expected, statements, describe()));
+        }
+        return this;
+    }
+
+    /**
+     * 문장 수가 max 이하인지 확인
+     */
+    public QueryScope assertAtMost(int max) {
+        if (statements > max) {
+            throw new AssertionError(String.format("%s: SQL 최대 %d건, 실제 %d건%n%s", name, max, statements, describe()));
+        }
+        return this;
+    }
+
+    /**
+     * 반복 실행된 SQL 이 없는지 확인 (N+1)
+     */
+    public QueryScope assertNoRepeatedStatements() {
+        if (!repeatedStatements().isEmpty()) {
+            throw new AssertionError(String.format("%s: 같은 SQL 반복 실행%n%s", name, describe()));
+        }
+        return this;
+    }
+
+    /**
+     * SQL 별 실행 횟수 목록 (많은 순서)
+     */
+    public String describe() {
+        StringBuilder out = new StringBuilder();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> out.append(String.format("  %4d × %s%n", entry.getValue(), preview(entry.getKey()))));
+        return out.toString();
+    }
+
+    /**
+     * 구간 닫기 (열었던 스레드에서 호출)
+     */
+    @Override
+    public void close() {
+        QueryCounter.close(this);
+    }
+
+    static String preview(String sql) {
+        String line = sql.replaceAll("\\s+", " ").trim();
+        return line.length() <= SQL_PREVIEW ? line : line.substring(0, SQL_PREVIEW) + "...";
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.todo.query;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @Transactional 서비스 메서드 하나의 SQL 문장 수 검사
+ * - 트랜잭션 프록시보다 바깥에서 실행되므로 커밋 시 flush 되는 INSERT/UPDATE 도 포함됨
+ * - 구간 이름은 "ScheduleService.updateSchedule" (메서드별로 한 번만 만듦)
+ * - 등록은 config.QueryBudgetConfig
+ */
+public class TransactionQueryBudgetInterceptor implements MethodInterceptor {
+
+    private final QueryBudgetEnforcer enforcer;
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    public TransactionQueryBudgetInterceptor(QueryBudgetEnforcer enforcer) {
+        this.enforcer = enforcer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        String name = names.computeIfAbsent(method, m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+        QueryScope scope = enforcer.openTransaction(name, method.getAnnotation(QueryBudget.class));
+        try {
+            return invocation.proceed();
+        } finally {
+            enforcer.close(scope);
+        }
+    }
+}
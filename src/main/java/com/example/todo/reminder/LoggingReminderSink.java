@@ -0,0 +1,19 @@
+package com.example.todo.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 기본 알림 발송 대상: 로그로만 남김
+ */
+@Slf4j
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void deliver(List<Reminder> reminders) {
+        for (Reminder reminder : reminders) {
+            log.info("일정 알림: scheduleId={}, remindAt={}", reminder.getScheduleId(), reminder.getRemindAt());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.todo.reminder;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 알림 한 건 (일정 id + 알림 시각)
+ * - ScheduleRepository 의 생성자 표현식으로도 만들어짐 (엔티티를 로딩하지 않음)
+ */
+@Getter
+public class Reminder {
+
+    private final Long scheduleId;
+    private final LocalDateTime remindAt;
+
+    public Reminder(Long scheduleId, LocalDateTime remindAt) {
+        this.scheduleId = scheduleId;
+        this.remindAt = remindAt;
+    }
+}
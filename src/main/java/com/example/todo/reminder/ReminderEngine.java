@@ -0,0 +1,285 @@
+package com.example.todo.reminder;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.event.SchedulesPurgedEvent;
+import com.example.todo.repository.ScheduleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 일정 알림 엔진 (Schedule.remindAt 도래 시 ReminderSink 로 발송)
+ *
+ * 구조
+ * - 휠 스레드 1개가 TimingWheel 을 소유하고 tickMillis 마다 만료 항목을 꺼냄
+ *   다른 스레드(로더, 커밋 후 이벤트)는 휠을 직접 건드리지 않고 명령 큐에 넣기만 함 → 휠에는 락이 없음
+ * - 휠에는 "지금부터 horizon 이내" 의 알림만 올림. 로더가 load-interval 마다
+ *   (remind_at, id) 인덱스를 키셋 페이지로 읽어 다음 구간을 채우므로 수백만 건이 대기해도 메모리는 구간 크기만큼만 사용
+ * - 일정 생성/수정/삭제는 커밋 후 이벤트로 받아 O(1) 재등록/취소
+ *   (이미 로딩한 구간 밖의 시각이면 휠에서 빼고 로더에 맡김)
+ * - 만료된 알림은 batch-size 단위로 묶어, DB 에서 아직 유효한지 한 번의 IN 조회로 확인한 뒤 발송 스레드에서 sink 로 전달
+ *
+ * 보장: 최소 remindAt 이후에 발송(일찍 울리지 않음). 재시작 시 catch-up 구간 안에서 놓친 알림은 다시 발송될 수 있음(at-least-once)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reminder.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderEngine {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    // 한 tick 에 처리할 명령 수 상한 (폭주 시에도 tick 이 밀리지 않도록)
+    private static final int MAX_COMMANDS_PER_TICK = 100_000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ReminderSink sink;
+    private final long tickMillis;
+    private final int wheelSize;
+    private final Duration horizon;
+    private final Duration catchUp;
+    private final int loadPageSize;
+    private final int batchSize;
+
+    private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+    private final ExecutorService deliveryExecutor;
+    private final Thread wheelThread;
+    private volatile boolean running = true;
+
+    // 휠에 올라가 있는 알림의 상한 시각(epoch millis). 이 시각 이전의 변경만 휠에 반영
+    private volatile long loadedUntil;
+    // 다음 로딩 구간의 시작 (로더 스레드만 사용)
+    private volatile LocalDateTime loadedFrom;
+
+    public ReminderEngine(ScheduleRepository scheduleRepository,
+                          ReminderSink sink,
+                          @Value("${app.reminder.tick-millis:100}") long tickMillis,
+                          @Value("${app.reminder.wheel-size:512}") int wheelSize,
+                          @Value("${app.reminder.horizon:PT10M}") Duration horizon,
+                          @Value("${app.reminder.catch-up:PT5M}") Duration catchUp,
+                          @Value("${app.reminder.load-page-size:5000}") int loadPageSize,
+                          @Value("${app.reminder.batch-size:1000}") int batchSize) {
+        this.scheduleRepository = scheduleRepository;
+        this.sink = sink;
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.horizon = horizon;
+        this.catchUp = catchUp;
+        this.loadPageSize = loadPageSize;
+        this.batchSize = batchSize;
+
+        // 발송은 한 스레드에서 순서대로. 큐가 차면 휠 스레드가 직접 발송(CallerRuns)하며 자연스럽게 속도 조절
+        this.deliveryExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(64), r -> daemon(r, "reminder-delivery"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.wheelThread = daemon(this::runWheel, "reminder-wheel");
+    }
+
+    /**
+     * 시작 시 catch-up 구간(재시작 동안 놓친 알림)부터 horizon 까지 로딩하고 휠 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loadedFrom = LocalDateTime.now().minus(catchUp);
+        load();
+        wheelThread.start();
+    }
+
+    /**
+     * 다음 구간 로딩 (load-interval 마다)
+     * - load-interval 은 horizon 보다 충분히 짧아야 구간 사이에 빈틈이 생기지 않음
+     */
+    @Scheduled(initialDelayString = "${app.reminder.load-interval:PT1M}",
+            fixedDelayString = "${app.reminder.load-interval:PT1M}")
+    public void load() {
+        if (loadedFrom == null) {
+            return; // 아직 start() 전
+        }
+        LocalDateTime to = LocalDateTime.now().plus(horizon);
+        // 조회 전에 상한을 먼저 올려 둠: 조회 도중 커밋된 변경도 이벤트 쪽에서 휠에 반영되도록
+        // (같은 일정이 조회 결과와 이벤트 양쪽에서 들어와도 schedule() 이 교체하므로 중복되지 않음)
+        loadedUntil = toMillis(to);
+
+        LocalDateTime afterTime = loadedFrom;
+        long afterId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<Reminder> page = scheduleRepository.findReminders(afterTime, afterId, to, Limit.of(loadPageSize));
+            for (Reminder reminder : page) {
+                commands.add(Command.schedule(reminder.getScheduleId(), toMillis(reminder.getRemindAt())));
+            }
+            loaded += page.size();
+            if (page.size() < loadPageSize) {
+                break;
+            }
+            Reminder last = page.get(page.size() - 1);
+            afterTime = last.getRemindAt();
+            afterId = last.getScheduleId();
+        }
+        // 다음 구간은 remindAt == to 인 행부터 (findReminders 는 afterTime 초과 + 같은 시각이면 id 초과)
+        loadedFrom = to.minusNanos(1);
+        if (loaded > 0) {
+            log.debug("알림 로딩: {}건 (~{})", loaded, to);
+        }
+    }
+
+    /**
+     * 일정 변경을 휠에 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        Schedule schedule = event.getSchedule();
+        LocalDateTime remindAt = schedule.getRemindAt();
+        if (event.getType() == ScheduleChangedEvent.Type.DELETED || remindAt == null) {
+            commands.add(Command.cancel(schedule.getId()));
+            return;
+        }
+        long deadline = toMillis(remindAt);
+        if (deadline < loadedUntil) {
+            commands.add(Command.schedule(schedule.getId(), deadline));
+        } else {
+            // 로딩 구간 밖으로 미뤄진 경우: 휠에서 빼고 나중에 로더가 다시 올림
+            commands.add(Command.cancel(schedule.getId()));
+        }
+    }
+
+    /**
+     * 사용자 삭제로 한꺼번에 지워진 일정들의 알림 취소
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSchedulesPurged(SchedulesPurgedEvent event) {
+        event.getScheduleIds().forEach(id -> commands.add(Command.cancel(id)));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        wheelThread.interrupt();
+        wheelThread.join(TimeUnit.SECONDS.toMillis(5));
+        deliveryExecutor.shutdown();
+        deliveryExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void runWheel() {
+        TimingWheel wheel = new TimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+        List<Long> expired = new ArrayList<>();
+        TimingWheel.ExpiryHandler collector = (id, deadline) -> {
+            expired.add(id);
+            if (expired.size() >= batchSize) {
+                submit(new ArrayList<>(expired));
+                expired.clear();
+            }
+        };
+
+        long nextTick = System.currentTimeMillis() + tickMillis;
+        while (running) {
+            try {
+                Command command;
+                for (int i = 0; i < MAX_COMMANDS_PER_TICK && (command = commands.poll()) != null; i++) {
+                    if (command.deadline < 0) {
+                        wheel.cancel(command.id);
+                    } else {
+                        wheel.schedule(command.id, command.deadline);
+                    }
+                }
+                wheel.advance(System.currentTimeMillis(), collector);
+                if (!expired.isEmpty()) {
+                    submit(new ArrayList<>(expired));
+                    expired.clear();
+                }
+            } catch (RuntimeException e) {
+                log.error("알림 휠 처리 중 오류", e);
+            }
+
+            long sleep = nextTick - System.currentTimeMillis();
+            if (sleep > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleep));
+            }
+            nextTick = Math.max(nextTick + tickMillis, System.currentTimeMillis());
+        }
+    }
+
+    private void submit(List<Long> ids) {
+        deliveryExecutor.execute(() -> deliver(ids));
+    }
+
+    /**
+     * 만료된 알림을 DB 기준으로 확인한 뒤 발송
+     * - 삭제됐거나 remindAt 이 지워진 일정: 버림
+     * - remindAt 이 미래로 바뀐 일정(이벤트보다 먼저 울린 경우): 휠에 다시 등록
+     */
+    private void deliver(List<Long> ids) {
+        try {
+            long now = System.currentTimeMillis();
+            Map<Long, Reminder> current = new HashMap<>();
+            for (Reminder reminder : scheduleRepository.findRemindersByIdIn(ids)) {
+                current.put(reminder.getScheduleId(), reminder);
+            }
+            List<Reminder> due = new ArrayList<>(current.size());
+            for (Long id : ids) {
+                Reminder reminder = current.get(id);
+                if (reminder == null) {
+                    continue;
+                }
+                long deadline = toMillis(reminder.getRemindAt());
+                if (deadline > now) {
+                    if (deadline < loadedUntil) {
+                        commands.add(Command.schedule(id, deadline));
+                    }
+                    continue;
+                }
+                due.add(reminder);
+            }
+            if (!due.isEmpty()) {
+                sink.deliver(due);
+            }
+        } catch (RuntimeException e) {
+            log.error("알림 발송 실패: {}건", ids.size(), e);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static Thread daemon(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * 휠 스레드로 넘기는 명령 (deadline < 0 이면 취소)
+     */
+    private record Command(long id, long deadline) {
+        static Command schedule(long id, long deadline) {
+            return new Command(id, Math.max(deadline, 0L));
+        }
+
+        static Command cancel(long id) {
+            return new Command(id, -1L);
+        }
+    }
+}
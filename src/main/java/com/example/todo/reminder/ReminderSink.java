@@ -0,0 +1,16 @@
+package com.example.todo.reminder;
+
+import java.util.List;
+
+/**
+ * 알림 발송 대상 (푸시, 메일, 메시지 큐 등)
+ * - 구현체를 빈으로 등록하면 기본 LoggingReminderSink 대신 사용됨 (ReminderConfig 참고)
+ * - 알림 전용 발송 스레드에서 배치 단위로 호출됨. 오래 걸리는 작업이면 내부에서 비동기로 넘길 것
+ */
+public interface ReminderSink {
+
+    /**
+     * @param reminders 같은 시점에 만료된 알림 묶음 (최대 app.reminder.batch-size 건)
+     */
+    void deliver(List<Reminder> reminders);
+}
@@ -0,0 +1,238 @@
+package com.example.todo.reminder;
+
+/**
+ * 해시드 타이밍 휠 (Hashed Timing Wheel)
+ * - wheelSize 개의 버킷을 가진 원형 배열. 한 칸이 tickMillis 를 나타냄
+ * - 만료 시각을 tick 번호로 바꾼 뒤 (tick % wheelSize) 버킷의 이중 연결 리스트에 넣고,
+ *   휠 한 바퀴보다 먼 항목은 남은 바퀴 수(rounds)를 같이 기록
+ * - 매 tick 마다 해당 버킷 하나만 훑으면서 rounds 가 0 인 항목은 만료, 나머지는 rounds 를 1 줄임
+ *   → 등록/취소/재등록 O(1), tick 처리 비용은 버킷 크기에 비례 (전체 항목 수와 무관)
+ *
+ * 메모리: 항목당 Entry 객체 1개 + id 인덱스 슬롯 (박싱 없는 long 키 오픈 어드레싱 해시)
+ * 스레드 안전하지 않음. ReminderEngine 의 휠 전용 스레드 하나에서만 사용할 것
+ */
+public class TimingWheel {
+
+    /**
+     * 만료된 항목을 받는 콜백
+     */
+    public interface ExpiryHandler {
+        void onExpired(long id, long deadlineMillis);
+    }
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Entry[] buckets;
+    private final int mask;
+    private final EntryIndex index = new EntryIndex();
+
+    private long currentTick; // 다음에 처리할 tick
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize 는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.buckets = new Entry[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    /**
+     * 등록 (같은 id 가 이미 있으면 새 시각으로 교체)
+     * - 이미 지난 시각이면 다음 tick 에 바로 만료됨
+     */
+    public void schedule(long id, long deadlineMillis) {
+        Entry entry = index.get(id);
+        if (entry == null) {
+            entry = new Entry(id);
+            index.put(id, entry);
+        } else {
+            unlink(entry);
+        }
+        entry.deadline = deadlineMillis;
+
+        long deadlineTick = Math.max((deadlineMillis - startMillis) / tickMillis, currentTick);
+        entry.rounds = (deadlineTick - currentTick) / buckets.length;
+        entry.bucket = (int) (deadlineTick & mask);
+        link(entry);
+    }
+
+    /**
+     * 취소 (없으면 무시)
+     */
+    public boolean cancel(long id) {
+        Entry entry = index.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * nowMillis 까지 끝난 tick 들을 처리하고 만료된 항목을 handler 로 넘김
+     *
+     * @return 만료된 항목 수
+     */
+    public int advance(long nowMillis, ExpiryHandler handler) {
+        int expired = 0;
+        // tick t 는 [start + t*tick, start + (t+1)*tick) 구간을 담당 → 구간이 끝난 뒤에 처리 (일찍 울리지 않음)
+        while (startMillis + (currentTick + 1) * tickMillis <= nowMillis) {
+            Entry entry = buckets[(int) (currentTick & mask)];
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.rounds <= 0) {
+                    unlink(entry);
+                    index.remove(entry.id);
+                    handler.onExpired(entry.id, entry.deadline);
+                    expired++;
+                } else {
+                    entry.rounds--;
+                }
+                entry = next;
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * 대기 중인 항목 수
+     */
+    public int size() {
+        return index.size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    private void link(Entry entry) {
+        Entry head = buckets[entry.bucket];
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        buckets[entry.bucket] = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else if (buckets[entry.bucket] == entry) {
+            buckets[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /**
+     * 휠에 걸린 항목 (버킷 내 이중 연결 리스트 노드)
+     */
+    private static final class Entry {
+        final long id;
+        long deadline;
+        long rounds;
+        int bucket;
+        Entry prev;
+        Entry next;
+
+        Entry(long id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * id → Entry 인덱스
+     * - long 키를 박싱하지 않는 오픈 어드레싱(선형 탐사) 해시 테이블
+     * - 삭제 시 뒤쪽 항목을 당겨와서(backward shift) 삭제 표시(tombstone) 없이 유지
+     */
+    private static final class EntryIndex {
+        private long[] keys = new long[1024];
+        private Entry[] values = new Entry[1024];
+        private int size;
+
+        Entry get(long key) {
+            int m = keys.length - 1;
+            for (int i = hash(key) & m; values[i] != null; i = (i + 1) & m) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        void put(long key, Entry value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int m = keys.length - 1;
+            int i = hash(key) & m;
+            while (values[i] != null) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & m;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        Entry remove(long key) {
+            int m = keys.length - 1;
+            int i = hash(key) & m;
+            while (values[i] != null) {
+                if (keys[i] == key) {
+                    Entry removed = values[i];
+                    shiftBack(i, m);
+                    size--;
+                    return removed;
+                }
+                i = (i + 1) & m;
+            }
+            return null;
+        }
+
+        private void shiftBack(int gap, int m) {
+            int i = (gap + 1) & m;
+            while (values[i] != null) {
+                int home = hash(keys[i]) & m;
+                // i 에 있는 항목이 gap 위치로 당겨와도 탐사 경로가 유지되면 이동
+                if (((i - home) & m) >= ((i - gap) & m)) {
+                    keys[gap] = keys[i];
+                    values[gap] = values[i];
+                    gap = i;
+                }
+                i = (i + 1) & m;
+            }
+            values[gap] = null;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Entry[] oldValues = values;
+            keys = new long[capacity];
+            values = new Entry[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            key ^= key >>> 33;
+            key *= 0xff51afd7ed558ccdL;
+            key ^= key >>> 33;
+            return (int) key;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.todo.repository;
+
+import com.example.todo.domain.ChangeJournal;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeJournalRepository extends JpaRepository<ChangeJournal, Long> {
+
+    /**
+     * afterId 이후의 변경 기록 (id 순)
+     * - PK 범위 스캔이라 테이블 크기와 관계없이 읽은 건수만큼만 비용이 듦
+     * - settledBefore 이후에 기록된 것은 제외: 아직 커밋 중인 앞 번호가 있을 수 있으므로 잠시 기다렸다가 내려줌
+     */
+    @Query("select j from ChangeJournal j where j.id > :afterId and j.recordedAt < :settledBefore order by j.id")
+    List<ChangeJournal> findChangesAfter(Long afterId, LocalDateTime settledBefore, Limit limit);
+
+    /**
+     * settledBefore 이전에 기록된 마지막 id (전체 재동기화 후 시작 위치)
+     */
+    @Query("select max(j.id) from ChangeJournal j where j.recordedAt < :settledBefore")
+    Long findHeadId(LocalDateTime settledBefore);
+
+    /**
+     * 보관 기간이 지난 기록 삭제
+     */
+    @Modifying
+    @Query("delete from ChangeJournal j where j.recordedAt < :cutoff")
+    int deleteRecordedBefore(LocalDateTime cutoff);
+}
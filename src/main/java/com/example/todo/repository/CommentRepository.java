@@ -1,9 +1,73 @@
 package com.example.todo.repository;
 
 import com.example.todo.domain.Comment;
+import com.example.todo.dto.CommentExportRow;
+import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.etag.Fingerprint;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByScheduleId(Long scheduleId);
-}
\ No newline at end of file
+
+    /**
+     * 목록 응답용 프로젝션
+     * - 엔티티 대신 CommentResponseDto 를 바로 생성 (필요한 컬럼만 SELECT)
+     * - c.user.id, c.schedule.id 는 외래키 컬럼을 그대로 읽으므로 users/schedules 조인이 생기지 않음
+     * - 영속성 컨텍스트에 엔티티/프록시를 올리지 않음 (스냅샷, 더티 체킹 비용 없음)
+     */
+    String RESPONSE_SELECT = "select new com.example.todo.dto.CommentResponseDto(" +
+            "c.id, c.content, c.user.id, c.schedule.id, c.createdAt, c.updatedAt) " +
+            "from Comment c ";
+
+    /**
+     * 일정별 댓글 키셋 페이지네이션 (작성순 = id 오름차순)
+     * - (schedule_id, id) 복합 인덱스에서 afterId 다음 위치부터 limit 개만 읽음 (첫 페이지는 afterId = 0)
+     * - OFFSET 을 쓰지 않으므로 몇 번째 페이지든 비용이 같음
+     */
+    @Query(RESPONSE_SELECT + "where c.schedule.id = :scheduleId and c.id > :afterId order by c.id")
+    List<CommentResponseDto> findPageByScheduleId(Long scheduleId, Long afterId, Limit limit);
+
+    /**
+     * 여러 댓글을 응답 DTO 로 조회 (동기화 등, 순서는 보장하지 않음)
+     */
+    @Query(RESPONSE_SELECT + "where c.id in :ids")
+    List<CommentResponseDto> findResponsesByIdIn(Collection<Long> ids);
+
+    /**
+     * 전체 댓글을 (일정 id, 댓글 id) 순으로 스트리밍 조회 (내보내기용)
+     * - ScheduleRepository.streamAllOrderById() 와 같은 순서로 정렬되어 있어서 두 스트림을 병합하며 읽을 수 있음
+     * - 일정 쪽과 마찬가지로 생성자 표현식이라 엔티티/연관 프록시가 영속성 컨텍스트에 쌓이지 않음
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select new com.example.todo.dto.CommentExportRow(c.id, c.schedule.id, c.user.id, c.content, c.createdAt, c.updatedAt) " +
+            "from Comment c order by c.schedule.id, c.id")
+    Stream<CommentExportRow> streamAllOrderByScheduleId();
+
+    /**
+     * 전체 댓글의 (행 수, 최근 수정 시각) 집계 (ETag 지문 초기값)
+     */
+    @Query("select new com.example.todo.etag.Fingerprint(count(c), max(c.updatedAt)) from Comment c")
+    Fingerprint findFingerprint();
+
+    /**
+     * 일정 하나에 달린 댓글의 (행 수, 최근 수정 시각) 집계
+     * - schedule_id 외래키 인덱스 범위만 읽음
+     */
+    @Query("select new com.example.todo.etag.Fingerprint(count(c), max(c.updatedAt)) from Comment c " +
+            "where c.schedule.id = :scheduleId")
+    Fingerprint findFingerprintByScheduleId(Long scheduleId);
+}
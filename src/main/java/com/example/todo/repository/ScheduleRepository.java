@@ -1,10 +1,123 @@
 package com.example.todo.repository;
 
+import com.example.todo.calendar.ScheduleInterval;
 import com.example.todo.domain.Schedule;
+import com.example.todo.dto.ScheduleExportRow;
+import com.example.todo.dto.ScheduleResponseDto;
+import com.example.todo.etag.Fingerprint;
+import com.example.todo.reminder.Reminder;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 // ★ JpaRepository를 상속할 때는 interface로 선언해야 함
 // JpaRepository<엔티티, PK 타입> 형태
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // ★ 기본 CRUD 메서드는 JpaRepository가 제공
+
+    /**
+     * 목록 응답용 프로젝션
+     * - 엔티티 대신 ScheduleResponseDto 를 바로 생성 (생성자 표현식)
+     * - 작성자 이름은 조인, 댓글 수는 일정 행에 저장된 값(comment_count)을 그대로 읽어서 SQL 한 번에 끝남
+     * - 엔티티를 영속성 컨텍스트에 올리지 않으므로 LAZY 프록시 초기화(N+1)가 생기지 않음
+     */
+    String RESPONSE_SELECT = "select new com.example.todo.dto.ScheduleResponseDto(" +
+            "s.id, s.title, s.content, u.id, u.username, " +
+            "s.commentCount, " +
+            "s.remindAt, s.startAt, s.endAt, s.createdAt, s.updatedAt) " +
+            "from Schedule s join s.user u ";
+
+    /**
+     * 키셋 페이지네이션 첫 페이지 (최신순)
+     * - (created_at, id) 복합 인덱스를 역순으로 읽고 limit 개수만큼만 가져옴
+     */
+    @Query(RESPONSE_SELECT + "order by s.createdAt desc, s.id desc")
+    List<ScheduleResponseDto> findFirstPage(Limit limit);
+
+    /**
+     * 키셋 페이지네이션 다음 페이지
+     * - 커서 (createdAt, id) 보다 "뒤"에 있는 행만 조회
+     * - createdAt 이 같은 행이 여러 개일 수 있으므로 id 로 순서를 확정
+     * - OFFSET 을 쓰지 않으므로 몇 번째 페이지든 인덱스 탐색 비용이 같음
+     */
+    @Query(RESPONSE_SELECT +
+            "where s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id) " +
+            "order by s.createdAt desc, s.id desc")
+    List<ScheduleResponseDto> findPageAfter(LocalDateTime createdAt, Long id, Limit limit);
+
+    /**
+     * 일정 하나를 응답 DTO 로 조회 (수정 후 응답 등)
+     */
+    @Query(RESPONSE_SELECT + "where s.id = :id")
+    Optional<ScheduleResponseDto> findResponseById(Long id);
+
+    /**
+     * 여러 일정을 응답 DTO 로 조회 (캘린더 구간 조회에서 메모리 색인이 찾은 id 들)
+     * - 순서는 보장하지 않으므로 호출하는 쪽에서 정렬
+     */
+    @Query(RESPONSE_SELECT + "where s.id in :ids")
+    List<ScheduleResponseDto> findResponsesByIdIn(Collection<Long> ids);
+
+    /**
+     * 사용자 한 명의 일정 시작/종료 시각 전체 (캘린더 메모리 색인 생성용)
+     * - (user_id, start_at, end_at) 인덱스만으로 처리됨 (커버링 인덱스, 테이블 본문을 읽지 않음)
+     */
+    @Query("select new com.example.todo.calendar.ScheduleInterval(s.id, s.startAt, s.endAt) from Schedule s " +
+            "where s.user.id = :userId and s.startAt is not null")
+    List<ScheduleInterval> findIntervalsByUserId(Long userId);
+
+    /**
+     * 전체 일정을 id 순으로 스트리밍 조회 (내보내기용)
+     * - List 로 한 번에 올리지 않고 JDBC fetch size 단위로 DB 에서 끌어옴
+     * - 엔티티가 아닌 생성자 표현식으로 읽으므로 영속성 컨텍스트에 엔티티도, 작성자 User 프록시도 쌓이지 않음
+     *   (엔티티로 읽으면 detach 해도 LAZY 연관 프록시는 행마다 남아서 테이블 크기만큼 늘어남)
+     * - 2차 캐시는 조회도 적재도 하지 않음 (전체를 한 번 훑는 작업이 자주 쓰는 항목을 밀어내지 않도록)
+     * - 반드시 트랜잭션 안에서 사용하고, 다 쓴 뒤 close 해야 함 (try-with-resources)
+     * - MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 가 적용됨 (없으면 드라이버가 결과 전체를 메모리에 올림)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select new com.example.todo.dto.ScheduleExportRow(s.id, s.title, s.content, s.user.id, " +
+            "s.remindAt, s.startAt, s.endAt, s.createdAt, s.updatedAt) from Schedule s order by s.id")
+    Stream<ScheduleExportRow> streamAllOrderById();
+
+    /**
+     * 알림 시각이 [afterTime, to) 구간인 일정의 (id, remindAt) 을 remindAt, id 순으로 조회 (알림 로더용)
+     * - (remind_at, id) 인덱스 범위 스캔 + 키셋 페이지네이션
+     * - 첫 페이지는 afterTime = 구간 시작, afterId = 0 으로 호출하고,
+     *   다음 페이지는 이전 페이지 마지막 행의 (remindAt, id) 로 호출
+     */
+    @Query("select new com.example.todo.reminder.Reminder(s.id, s.remindAt) from Schedule s " +
+            "where s.remindAt < :to " +
+            "and (s.remindAt > :afterTime or (s.remindAt = :afterTime and s.id > :afterId)) " +
+            "order by s.remindAt, s.id")
+    List<Reminder> findReminders(LocalDateTime afterTime, Long afterId, LocalDateTime to, Limit limit);
+
+    /**
+     * 발송 직전에 알림이 아직 유효한지(삭제/시각 변경 여부) 확인하기 위한 조회
+     */
+    @Query("select new com.example.todo.reminder.Reminder(s.id, s.remindAt) from Schedule s " +
+            "where s.id in :ids and s.remindAt is not null")
+    List<Reminder> findRemindersByIdIn(Collection<Long> ids);
+
+    /**
+     * 전체 일정의 (행 수, 최근 수정 시각) 집계 (ETag 지문 초기값)
+     */
+    @Query("select new com.example.todo.etag.Fingerprint(count(s), max(s.updatedAt)) from Schedule s")
+    Fingerprint findFingerprint();
 }
@@ -1,11 +1,58 @@
 package com.example.todo.repository;
 
 import com.example.todo.domain.User;
+import com.example.todo.etag.Fingerprint;
+import com.example.todo.signup.UserIdentity;
+import com.example.todo.dto.UserResponseDto;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
+
+    // 회원가입 중복 확인 (블룸 필터가 "있을 수도 있음" 이라고 답한 경우에만 실행)
+    boolean existsByUsernameOrEmail(String username, String email);
+
+    /**
+     * 전체 사용자의 (사용자명, 이메일) 스트리밍 조회 (회원가입 블룸 필터 생성용)
+     * - 삭제 표시된 사용자도 행이 지워질 때까지는 unique 제약에 걸리므로 네이티브 쿼리로 함께 읽음
+     * - 반드시 트랜잭션 안에서 사용하고, 다 쓴 뒤 close 해야 함 (try-with-resources)
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "select username, email from users", nativeQuery = true)
+    Stream<UserIdentity> streamAllIdentities();
+
+    /**
+     * 사용자 목록 한 페이지 (id 순, afterId 다음부터)
+     * - 응답에 필요한 컬럼(id, username, createdAt, updatedAt)만 읽어서 UserResponseDto 를 바로 생성 (비밀번호 해시는 읽지 않음)
+     * - 기본 키 범위 스캔 + limit 이므로 사용자가 수백만 명이어도 몇 번째 페이지든 비용이 같음
+     */
+    @Query("select new com.example.todo.dto.UserResponseDto(u.id, u.username, u.createdAt, u.updatedAt) " +
+            "from User u where u.id > :afterId order by u.id")
+    List<UserResponseDto> findPage(Long afterId, Limit limit);
+
+    /**
+     * 비밀번호 해시 교체 (그 사이에 다른 요청이 비밀번호를 바꿨으면 0건)
+     * - JPQL 일괄 UPDATE 이므로 Hibernate 가 User 2차 캐시 영역을 함께 비움
+     */
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(Long id, String oldPassword, String newPassword);
+
+    /**
+     * 전체 사용자의 (행 수, 최근 수정 시각) 집계 (ETag 지문 초기값)
+     */
+    @Query("select new com.example.todo.etag.Fingerprint(count(u), max(u.updatedAt)) from User u")
+    Fingerprint findFingerprint();
 }
\ No newline at end of file
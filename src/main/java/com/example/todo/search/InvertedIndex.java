@@ -0,0 +1,400 @@
+package com.example.todo.search;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (제목 + 내용 전문 검색)
+ *
+ * 구조
+ * - 문서마다 내부 번호(ord)를 0 부터 순서대로 부여하고, 외부 id(schedule id) ↔ ord 를 매핑
+ * - 단어(term)마다 포스팅 리스트 = 그 단어가 나온 문서 ord 목록(int[]) + 빈도(int[])
+ *   ord 는 항상 증가하는 순서로 추가되므로 포스팅 리스트는 별도 정렬 없이 오름차순 유지
+ * - 수정은 "이전 ord 삭제 표시 + 새 ord 추가", 삭제는 삭제 표시(BitSet)만 함
+ *   삭제 표시가 전체의 1/4 을 넘으면 압축(compact)해서 죽은 문서를 포스팅에서 제거
+ * - 단어마다 살아있는 문서 수(live)를 따로 셈 → 압축 전이라도 죽은 문서가 df(idf) 에 섞이지 않음
+ *   (ord 마다 그 문서가 들어간 포스팅 목록을 들고 있다가 삭제 표시할 때 하나씩 줄임)
+ *
+ * 검색
+ * - 검색어를 같은 토크나이저로 자른 뒤 각 단어의 포스팅 리스트를 ord 순으로 동시에 훑으며(document-at-a-time)
+ *   BM25 점수를 계산하고, 크기 k 의 최소 힙으로 상위 k 개만 유지
+ * - 제목에 나온 단어는 TITLE_WEIGHT 배 가중치
+ *
+ * 동시성: 읽기(검색)는 동시에, 쓰기(추가/삭제)는 배타적으로 (ReentrantReadWriteLock)
+ */
+public class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> terms = new HashMap<>();
+    private final Map<Long, Integer> ordById = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private long[] ids = new long[1024];        // ord → schedule id
+    private int[] lengths = new int[1024];      // ord → 문서 길이(가중치 반영 토큰 수)
+    private String[] titles = new String[1024]; // ord → 제목 (검색 결과를 DB 조회 없이 내려주기 위함)
+    private Postings[][] postingsByOrd = new Postings[1024][]; // ord → 그 문서가 들어간 포스팅들 (삭제 시 df 감소용)
+    private int maxOrd;                         // 다음에 부여할 ord
+    private int deletedCount;
+    private long totalLength;                   // 살아있는 문서 길이 합 (평균 길이 계산용)
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void upsert(long id, String title, String content) {
+        Map<String, int[]> freqs = new HashMap<>();
+        int length = 0;
+        for (String token : SearchTokenizer.tokenizeDocument(title)) {
+            freqs.computeIfAbsent(token, t -> new int[1])[0] += TITLE_WEIGHT;
+            length += TITLE_WEIGHT;
+        }
+        for (String token : SearchTokenizer.tokenizeDocument(content)) {
+            freqs.computeIfAbsent(token, t -> new int[1])[0]++;
+            length++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = ordById.get(id);
+            if (previous != null) {
+                markDeleted(previous);
+            }
+            int ord = maxOrd++;
+            ensureCapacity(maxOrd);
+            ids[ord] = id;
+            lengths[ord] = length;
+            titles[ord] = title;
+            totalLength += length;
+            ordById.put(id, ord);
+            Postings[] docPostings = new Postings[freqs.size()];
+            int t = 0;
+            for (Map.Entry<String, int[]> e : freqs.entrySet()) {
+                Postings postings = terms.computeIfAbsent(e.getKey(), key -> new Postings());
+                postings.add(ord, e.getValue()[0]);
+                docPostings[t++] = postings;
+            }
+            postingsByOrd[ord] = docPostings;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제 (없는 id 면 무시)
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ord = ordById.remove(id);
+            if (ord != null) {
+                markDeleted(ord);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 k 개 검색
+     *
+     * @param query 검색어
+     * @param k 최대 결과 수
+     * @return 점수 내림차순 결과
+     */
+    public List<Hit> search(String query, int k) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (queryTerms.isEmpty() || k <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int live = maxOrd - deletedCount;
+            if (live == 0) {
+                return List.of();
+            }
+            float avgLength = Math.max(1f, (float) totalLength / live);
+
+            List<Postings> lists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Postings p = terms.get(term);
+                if (p != null && p.live > 0) {
+                    lists.add(p);
+                }
+            }
+            int n = lists.size();
+            if (n == 0) {
+                return List.of();
+            }
+            float[] idf = new float[n];
+            for (int t = 0; t < n; t++) {
+                int df = lists.get(t).live;
+                idf[t] = (float) Math.log(1 + (live - df + 0.5) / (df + 0.5));
+            }
+
+            // document-at-a-time: 각 포스팅 리스트의 커서 중 가장 작은 ord 를 골라 점수 합산
+            int[] cursor = new int[n];
+            TopK top = new TopK(k);
+            while (true) {
+                int doc = Integer.MAX_VALUE;
+                for (int t = 0; t < n; t++) {
+                    Postings p = lists.get(t);
+                    if (cursor[t] < p.size && p.docs[cursor[t]] < doc) {
+                        doc = p.docs[cursor[t]];
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+                float score = 0f;
+                float norm = K1 * (1 - B + B * lengths[doc] / avgLength);
+                for (int t = 0; t < n; t++) {
+                    Postings p = lists.get(t);
+                    if (cursor[t] < p.size && p.docs[cursor[t]] == doc) {
+                        int tf = p.freqs[cursor[t]];
+                        score += idf[t] * tf * (K1 + 1) / (tf + norm);
+                        cursor[t]++;
+                    }
+                }
+                if (!deleted.get(doc)) {
+                    top.offer(doc, score);
+                }
+            }
+
+            int[] docs = top.sortedDocs();
+            float[] scores = top.sortedScores();
+            List<Hit> hits = new ArrayList<>(docs.length);
+            for (int i = 0; i < docs.length; i++) {
+                hits.add(new Hit(ids[docs[i]], titles[docs[i]], scores[i]));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된(살아있는) 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return maxOrd - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markDeleted(int ord) {
+        deleted.set(ord);
+        deletedCount++;
+        totalLength -= lengths[ord];
+        titles[ord] = null;
+        for (Postings postings : postingsByOrd[ord]) {
+            postings.live--;
+        }
+        postingsByOrd[ord] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int newLength = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+            titles = Arrays.copyOf(titles, newLength);
+            postingsByOrd = Arrays.copyOf(postingsByOrd, newLength);
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서가 많아지면 ord 를 다시 매기고 포스팅 리스트에서 제거
+     * - 검색 시 죽은 문서를 훑는 비용과 메모리 낭비를 막기 위함 (쓰기 락 안에서 호출)
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < COMPACT_MIN_DELETED || deletedCount * 4 < maxOrd) {
+            return;
+        }
+        int[] remap = new int[maxOrd];
+        int next = 0;
+        for (int ord = 0; ord < maxOrd; ord++) {
+            if (deleted.get(ord)) {
+                remap[ord] = -1;
+            } else {
+                remap[ord] = next;
+                ids[next] = ids[ord];
+                lengths[next] = lengths[ord];
+                titles[next] = titles[ord];
+                postingsByOrd[next] = postingsByOrd[ord];
+                next++;
+            }
+        }
+        Arrays.fill(titles, next, maxOrd, null);
+        Arrays.fill(postingsByOrd, next, maxOrd, null);
+
+        terms.values().removeIf(p -> p.remap(remap) == 0);
+        ordById.clear();
+        for (int ord = 0; ord < next; ord++) {
+            ordById.put(ids[ord], ord);
+        }
+        deleted.clear();
+        deletedCount = 0;
+        maxOrd = next;
+    }
+
+    /**
+     * 단어 하나의 포스팅 리스트 (ord 오름차순)
+     * - size 는 삭제 표시된 문서까지 포함한 길이, live 는 살아있는 문서 수(df)
+     */
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+        int live;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+
+        int remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int ord = remap[docs[i]];
+                if (ord >= 0) {
+                    docs[kept] = ord;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (kept > 0 && kept < docs.length / 4) {
+                docs = Arrays.copyOf(docs, kept);
+                freqs = Arrays.copyOf(freqs, kept);
+            }
+            return kept;
+        }
+    }
+
+    /**
+     * 점수 상위 k 개를 유지하는 최소 힙 (객체 생성 없이 배열로 구현)
+     */
+    private static final class TopK {
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+        private boolean sorted;
+
+        TopK(int k) {
+            docs = new int[k];
+            scores = new float[k];
+        }
+
+        void offer(int doc, float score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        // 힙을 비우면서 점수 내림차순 배열을 만듦
+        int[] sortedDocs() {
+            sort();
+            return Arrays.copyOf(docs, size);
+        }
+
+        float[] sortedScores() {
+            return Arrays.copyOf(scores, size);
+        }
+
+        private void sort() {
+            if (sorted) {
+                return;
+            }
+            int n = size;
+            for (int end = n - 1; end > 0; end--) {
+                swap(0, end);
+                size = end;
+                siftDown(0);
+            }
+            size = n;
+            sorted = true;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= scores[i]) {
+                    break;
+                }
+                swap(parent, i);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+                if (scores[i] <= scores[smallest]) {
+                    break;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int d = docs[a];
+            docs[a] = docs[b];
+            docs[b] = d;
+            float s = scores[a];
+            scores[a] = scores[b];
+            scores[b] = s;
+        }
+    }
+
+    /**
+     * 검색 결과 한 건
+     */
+    @Getter
+    public static final class Hit {
+        private final long id;
+        private final String title;
+        private final float score;
+
+        public Hit(long id, String title, float score) {
+            this.id = id;
+            this.title = title;
+            this.score = score;
+        }
+    }
+}
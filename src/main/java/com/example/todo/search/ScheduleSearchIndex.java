@@ -0,0 +1,130 @@
+package com.example.todo.search;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.dto.ScheduleExportRow;
+import com.example.todo.dto.ScheduleSearchResultDto;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.event.SchedulesPurgedEvent;
+import com.example.todo.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 일정 제목/내용 전문 검색 색인 (GET /schedules/search)
+ * - 애플리케이션 시작 시 ScheduleRepository 를 스트리밍으로 읽어 InvertedIndex 를 새로 만듦
+ * - 이후에는 ScheduleService 가 발행하는 ScheduleChangedEvent 를 커밋 후에 받아 증분 반영
+ * - 검색은 메모리에서만 수행하므로 DB 를 조회하지 않음 (MySQL LIKE '%x%' 전체 스캔 대체)
+ *
+ * 재구성 도중 들어온 변경은 큐에 모아 두었다가, 새 색인으로 교체한 직후 순서대로 다시 적용함
+ * (스트림이 읽은 값보다 나중에 커밋된 변경이 덮어써지지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleSearchIndex {
+
+    private final ScheduleRepository scheduleRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 검색 결과 최대 건수
+    @Value("${app.search.max-results:100}")
+    private int maxResults;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    // 재구성 중에 들어온 변경 (this 로 동기화)
+    private final Queue<Consumer<InvertedIndex>> pending = new ArrayDeque<>();
+    private boolean rebuilding;
+
+    /**
+     * 시작 시 전체 일정으로 색인 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+        }
+        long started = System.currentTimeMillis();
+        InvertedIndex fresh = new InvertedIndex();
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(status -> {
+            // 엔티티가 아닌 행 단위 DTO 로 읽으므로 영속성 컨텍스트에 쌓이는 것이 없음
+            try (Stream<ScheduleExportRow> schedules = scheduleRepository.streamAllOrderById()) {
+                schedules.forEach(schedule -> fresh.upsert(schedule.getId(), schedule.getTitle(), schedule.getContent()));
+            }
+        });
+
+        synchronized (this) {
+            Consumer<InvertedIndex> change;
+            while ((change = pending.poll()) != null) {
+                change.accept(fresh);
+            }
+            index = fresh;
+            rebuilding = false;
+        }
+        log.info("일정 검색 색인 재구성 완료: {}건, {}ms", fresh.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 일정 변경을 색인에 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        change(target -> apply(target, event));
+    }
+
+    /**
+     * 사용자 삭제로 한꺼번에 지워진 일정들을 색인에서 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSchedulesPurged(SchedulesPurgedEvent event) {
+        change(target -> event.getScheduleIds().forEach(target::remove));
+    }
+
+    /**
+     * 검색
+     *
+     * @param query 검색어 (한국어/영어)
+     * @param limit 최대 결과 수 (1 ~ app.search.max-results)
+     * @return 관련도 순 결과
+     */
+    public List<ScheduleSearchResultDto> search(String query, int limit) {
+        int k = Math.min(Math.max(limit, 1), maxResults);
+        return index.search(query, k).stream()
+                .map(hit -> new ScheduleSearchResultDto(hit.getId(), hit.getTitle(), hit.getScore()))
+                .toList();
+    }
+
+    private synchronized void change(Consumer<InvertedIndex> change) {
+        if (rebuilding) {
+            pending.add(change);
+            return;
+        }
+        change.accept(index);
+    }
+
+    private void apply(InvertedIndex target, ScheduleChangedEvent event) {
+        Schedule schedule = event.getSchedule();
+        if (event.getType() == ScheduleChangedEvent.Type.DELETED) {
+            target.remove(schedule.getId());
+        } else {
+            target.upsert(schedule.getId(), schedule.getTitle(), schedule.getContent());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.todo.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저 (한국어 + 영어)
+ * - 영어/숫자 : 글자·숫자가 이어진 구간을 소문자 단어 하나로 (예: "Spring Boot3" → spring, boot3)
+ * - 한글(및 한자/가나) : 띄어쓰기가 불규칙하고 조사가 붙기 때문에 형태소 분석 대신 2글자씩 겹쳐 자름(bigram)
+ *   예: "주간회의를" → 주간, 간회, 회의, 의를  /  "회의" → 회의
+ *   한 글자짜리 구간은 그 글자 하나를 토큰으로 사용
+ * - 문서와 검색어를 같은 규칙으로 자르므로 "회의" 로 검색하면 "주간회의를" 이 포함된 일정이 매칭됨
+ * - 문서(tokenizeDocument)는 bigram 에 더해 글자 하나씩(unigram)도 넣음
+ *   → 한 글자 검색어("회")도 "주간회의를" 에 매칭됨. 두 글자 이상 검색어는 bigram 만 써서 정확도 유지
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 검색어 토큰 (한글 등은 bigram, 한 글자 구간만 unigram)
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /**
+     * 색인할 문서 토큰 (한글 등은 bigram + 글자마다 unigram)
+     */
+    public static List<String> tokenizeDocument(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            int cp = text.codePointAt(i);
+            if (isCjk(cp)) {
+                int start = i;
+                while (i < length && isCjk(text.codePointAt(i))) {
+                    i += Character.charCount(text.codePointAt(i));
+                }
+                addNgrams(text.substring(start, i), unigrams, tokens);
+            } else if (Character.isLetterOrDigit(cp)) {
+                int start = i;
+                while (i < length) {
+                    int c = text.codePointAt(i);
+                    if (!Character.isLetterOrDigit(c) || isCjk(c)) {
+                        break;
+                    }
+                    i += Character.charCount(c);
+                }
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+            } else {
+                i += Character.charCount(cp);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addNgrams(String run, boolean unigrams, List<String> tokens) {
+        int[] cps = run.codePoints().toArray();
+        if (cps.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int j = 0; j + 1 < cps.length; j++) {
+            tokens.add(new String(cps, j, 2));
+        }
+        if (unigrams) {
+            for (int j = 0; j < cps.length; j++) {
+                tokens.add(new String(cps, j, 1));
+            }
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
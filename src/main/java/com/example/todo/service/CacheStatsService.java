@@ -0,0 +1,33 @@
+package com.example.todo.service;
+
+import com.example.todo.config.EntityCacheConfig;
+import com.example.todo.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.cache.CacheManager;
+import java.util.List;
+
+/**
+ * 엔티티 2차 캐시 통계 조회
+ * - JCache 영역 안쪽의 Caffeine 캐시를 꺼내서(unwrap) 적중/실패/제거 건수를 읽음
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final CacheManager entityCacheManager;
+
+    public List<CacheStatsDto> getEntityCacheStats() {
+        return EntityCacheConfig.REGIONS.stream()
+                .map(region -> {
+                    Cache<?, ?> cache = entityCacheManager.getCache(region).unwrap(Cache.class);
+                    CacheStats stats = cache.stats();
+                    return new CacheStatsDto(region, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                            stats.evictionCount(), stats.hitRate());
+                })
+                .toList();
+    }
+}
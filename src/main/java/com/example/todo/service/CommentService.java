@@ -6,14 +6,25 @@ import com.example.todo.domain.Schedule;
 import com.example.todo.domain.User;
 import com.example.todo.dto.CommentRequestDto;
 import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.dto.CursorPageResponseDto;
+import com.example.todo.dto.PageCursor;
+import com.example.todo.etag.CollectionETags;
+import com.example.todo.ingest.CommentGroupCommitter;
+import com.example.todo.event.CommentChangedEvent;
 import com.example.todo.repository.CommentRepository;
 import com.example.todo.repository.ScheduleRepository;
 import com.example.todo.repository.UserRepository;
+import com.example.todo.stream.CommentStreamHub;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +33,33 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final ScheduleRepository scheduleRepository;
+    // 댓글 변경 이벤트 발행 (ETag 지문 등이 커밋 후에 받아서 반영)
+    private final ApplicationEventPublisher eventPublisher;
+    private final CollectionETags collectionETags;
+    // 댓글 실시간 스트림 (커밋된 변경을 CommentChangedEvent 로 받아서 구독자에게 전달)
+    private final CommentStreamHub commentStreamHub;
+    // 그룹 커밋 모드 (app.comment.ingest.enabled=true 일 때만 빈이 있음)
+    private final ObjectProvider<CommentGroupCommitter> groupCommitter;
+    // 자기 자신의 프록시. submitComment 에서 createComment 를 this 로 부르면 @Transactional 과
+    // 트랜잭션별 SQL 문장 수 검사(QueryBudgetConfig) 가 모두 빠지므로 프록시를 거쳐서 부름
+    private final ObjectProvider<CommentService> self;
+
+    // 한 페이지 최대 건수 (요청 size 가 더 커도 이 값으로 제한)
+    @Value("${app.comment.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 댓글 생성 요청 처리 (POST /comments)
+     * - 그룹 커밋 모드면 큐에 넣고 커밋 후 완료되는 future 반환 (큐가 가득 차면 RejectedExecutionException → 503)
+     * - 아니면 바로 createComment 를 실행하고 완료된 future 반환
+     */
+    public CompletableFuture<CommentResponseDto> submitComment(CommentRequestDto dto) {
+        CommentGroupCommitter committer = groupCommitter.getIfAvailable();
+        if (committer != null) {
+            return committer.submit(dto);
+        }
+        return CompletableFuture.completedFuture(self.getObject().createComment(dto));
+    }
 
     @Transactional
     public CommentResponseDto createComment(CommentRequestDto dto) {
@@ -34,25 +72,71 @@ public class CommentService {
                 .schedule(schedule)
                 .build();
 
-        return new CommentResponseDto(commentRepository.save(comment));
+        Comment saved = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, saved));
+        return new CommentResponseDto(saved);
+    }
+
+    /**
+     * 일정별 댓글 목록 조회 (키셋 페이지네이션, 작성순)
+     * - size + 1 건을 읽어서 다음 페이지 존재 여부를 판단 (COUNT 쿼리 불필요)
+     * - 커서에는 마지막 댓글 id 만 담음 (id 가 곧 정렬 키)
+     * - 삭제된(삭제 표시만 되고 댓글은 아직 남아 있는) 일정이면 빈 페이지 (일정 조회는 2차 캐시를 먼저 확인)
+     *
+     * @param scheduleId 일정 ID
+     * @param cursor 이전 응답의 next 값 (첫 페이지면 null)
+     * @param size 요청 페이지 크기
+     * @return 이번 페이지의 댓글 목록과 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getCommentsBySchedule(Long scheduleId, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), maxPageSize);
+        PageCursor after = PageCursor.decode(cursor);
+        if (scheduleRepository.findById(scheduleId).isEmpty()) {
+            return new CursorPageResponseDto<>(List.of(), null);
+        }
+
+        List<CommentResponseDto> rows = commentRepository.findPageByScheduleId(
+                scheduleId, after == null ? 0L : after.getId(), Limit.of(limit + 1));
+
+        if (rows.size() <= limit) {
+            return new CursorPageResponseDto<>(rows, null);
+        }
+        List<CommentResponseDto> items = rows.subList(0, limit);
+        return new CursorPageResponseDto<>(items, new PageCursor(null, items.get(limit - 1).getId()).encode());
+    }
+
+    /**
+     * 일정별 댓글 목록 페이지의 ETag (메모리 지문으로 계산, 댓글을 조회하지 않음)
+     */
+    public String getCommentsETag(Long scheduleId, String cursor, int size) {
+        return collectionETags.comments(scheduleId, cursor, Math.min(Math.max(size, 1), maxPageSize));
     }
 
-    public List<CommentResponseDto> getCommentsBySchedule(Long scheduleId) {
-        return commentRepository.findByScheduleId(scheduleId)
-                .stream()
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+    /**
+     * 일정의 댓글 실시간 스트림 구독
+     * - 없는 일정이면 예외 (일정 조회는 2차 캐시를 먼저 확인)
+     */
+    public SseEmitter streamComments(Long scheduleId) {
+        if (scheduleRepository.findById(scheduleId).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 일정입니다.");
+        }
+        return commentStreamHub.subscribe(scheduleId);
     }
 
     @Transactional
     public CommentResponseDto updateComment(Long id, CommentRequestDto dto) {
         Comment comment = commentRepository.findById(id).orElseThrow();
         comment.setContent(dto.getContent());
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.UPDATED, comment));
         return new CommentResponseDto(comment);
     }
 
     @Transactional
     public void deleteComment(Long id) {
-        commentRepository.deleteById(id);
+        commentRepository.findById(id).ifPresent(comment -> {
+            commentRepository.delete(comment);
+            eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.DELETED, comment));
+        });
     }
 }
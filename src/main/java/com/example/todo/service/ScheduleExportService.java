@@ -0,0 +1,116 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.CommentExportRow;
+import com.example.todo.dto.ScheduleExportRow;
+import com.example.todo.repository.CommentRepository;
+import com.example.todo.repository.ScheduleRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 일정 + 댓글 전체를 NDJSON(한 줄에 JSON 하나)으로 내보내는 서비스
+ * - 일정 한 줄 다음에 그 일정의 댓글들이 한 줄씩 이어짐 ("type" 필드로 구분)
+ *   {"type":"schedule","id":1,...}
+ *   {"type":"comment","id":7,"scheduleId":1,...}
+ * - 일정 스트림(id 순)과 댓글 스트림(scheduleId 순)을 병합하며 읽으므로 쿼리는 2개뿐
+ * - 엔티티가 아닌 생성자 표현식 DTO 로 읽음 → 영속성 컨텍스트에 아무것도 쌓이지 않고, 쓴 행은 바로 버려짐
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleExportService {
+
+    // 출력 버퍼를 소켓으로 밀어내는 주기(줄 수)
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * NDJSON 을 out 에 기록
+     * - StreamingResponseBody 에서 호출되며, 스트림이 열려 있는 동안 트랜잭션(커넥션)을 유지함
+     *
+     * @param out HTTP 응답 바디
+     */
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        try (Stream<ScheduleExportRow> schedules = scheduleRepository.streamAllOrderById();
+             Stream<CommentExportRow> comments = commentRepository.streamAllOrderByScheduleId();
+             JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            // 루트 값 사이에 기본으로 들어가는 공백 대신 줄바꿈을 직접 씀
+            gen.setRootValueSeparator(null);
+
+            Iterator<CommentExportRow> commentIt = comments.iterator();
+            CommentExportRow pending = commentIt.hasNext() ? commentIt.next() : null;
+            int lines = 0;
+
+            for (Iterator<ScheduleExportRow> it = schedules.iterator(); it.hasNext(); ) {
+                ScheduleExportRow schedule = it.next();
+                long scheduleId = schedule.getId();
+                writeSchedule(gen, schedule);
+                lines++;
+
+                // 두 스트림 모두 일정 id 오름차순 → 현재 일정보다 앞선 댓글(고아)은 건너뛰고, 같은 일정의 댓글만 이어서 기록
+                while (pending != null && pending.getScheduleId() <= scheduleId) {
+                    if (pending.getScheduleId() == scheduleId) {
+                        writeComment(gen, pending);
+                        lines++;
+                    }
+                    pending = commentIt.hasNext() ? commentIt.next() : null;
+                }
+
+                if (lines >= FLUSH_INTERVAL) {
+                    gen.flush();
+                    lines = 0;
+                }
+            }
+            gen.flush();
+        }
+    }
+
+    private void writeSchedule(JsonGenerator gen, ScheduleExportRow schedule) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("type", "schedule");
+        gen.writeNumberField("id", schedule.getId());
+        gen.writeStringField("title", schedule.getTitle());
+        gen.writeStringField("content", schedule.getContent());
+        gen.writeNumberField("userId", schedule.getUserId());
+        writeTime(gen, "remindAt", schedule.getRemindAt());
+        writeTime(gen, "startAt", schedule.getStartAt());
+        writeTime(gen, "endAt", schedule.getEndAt());
+        writeTime(gen, "createdAt", schedule.getCreatedAt());
+        writeTime(gen, "updatedAt", schedule.getUpdatedAt());
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    private void writeComment(JsonGenerator gen, CommentExportRow comment) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("type", "comment");
+        gen.writeNumberField("id", comment.getId());
+        gen.writeNumberField("scheduleId", comment.getScheduleId());
+        gen.writeNumberField("userId", comment.getUserId());
+        gen.writeStringField("content", comment.getContent());
+        writeTime(gen, "createdAt", comment.getCreatedAt());
+        writeTime(gen, "updatedAt", comment.getUpdatedAt());
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    private void writeTime(JsonGenerator gen, String field, LocalDateTime time) throws IOException {
+        if (time == null) {
+            gen.writeNullField(field);
+        } else {
+            gen.writeStringField(field, time.toString());
+        }
+    }
+}
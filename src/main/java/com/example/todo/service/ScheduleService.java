@@ -1,14 +1,37 @@
 package com.example.todo.service;
 
+import com.example.todo.calendar.ScheduleCalendarIndex;
 import com.example.todo.domain.Schedule;
 import com.example.todo.domain.User;
+import com.example.todo.dto.CursorPageResponseDto;
+import com.example.todo.dto.PageCursor;
 import com.example.todo.dto.ScheduleRequestDto;
+import com.example.todo.dto.ScheduleResponseDto;
+import com.example.todo.dto.ScheduleSearchResultDto;
+import com.example.todo.etag.CollectionETags;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.purge.CascadePurger;
+import com.example.todo.query.QueryBudget;
 import com.example.todo.repository.ScheduleRepository;
 import com.example.todo.repository.UserRepository;
+import com.example.todo.search.ScheduleSearchIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Schedule 관련 비즈니스 로직을 담당하는 서비스 클래스
@@ -26,77 +49,264 @@ public class ScheduleService {
     // User 데이터를 DB에서 조회하기 위한 레포지토리 의존성 주입
     private final UserRepository userRepository;
 
+    // 배치 생성 시 일정 주기로 flush/clear 하기 위한 EntityManager
+    private final EntityManager entityManager;
+
+    // 일정 변경 이벤트 발행 (검색 색인 등이 커밋 후에 받아서 반영)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 제목/내용 전문 검색용 메모리 색인
+    private final ScheduleSearchIndex scheduleSearchIndex;
+
+    // 캘린더 구간 조회용 사용자별 메모리 색인
+    private final ScheduleCalendarIndex scheduleCalendarIndex;
+
+    // 목록 응답 ETag 계산 (메모리 지문)
+    private final CollectionETags collectionETags;
+
+    // 일정 삭제 (삭제 표시 + 댓글/일정 행 일괄 삭제)
+    private final CascadePurger cascadePurger;
+
+    // 한 페이지에 내려줄 수 있는 최대 건수 (클라이언트가 size 를 크게 보내도 이 값으로 제한)
+    @Value("${app.schedule.max-page-size:100}")
+    private int maxPageSize;
+
+    // POST /schedules/batch 한 번에 받을 수 있는 최대 건수
+    @Value("${app.schedule.max-batch-size:10000}")
+    private int maxBatchSize;
+
+    // Hibernate JDBC 배치 크기와 맞춰서 flush/clear 주기로 사용
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int jdbcBatchSize;
+
+    // GET /schedules/range 한 번에 내려줄 수 있는 최대 건수
+    @Value("${app.calendar.max-results:1000}")
+    private int maxRangeResults;
 
 
     /**
      * 새로운 스케줄 생성
      * 1) 전달받은 dto에서 userId로 User 엔티티 조회
      * 2) Schedule 엔티티 생성 및 user 연관관계 설정
-     * 3) DB에 저장 후 저장된 Schedule 반환
+     * 3) DB에 저장 후 응답 DTO 로 변환해서 반환 (새 일정이므로 댓글 수는 0)
      *
      * @param dto Schedule 생성에 필요한 데이터(title, content, userId 등)
-     * @return 저장된 Schedule 엔티티
+     * @return 저장된 일정 정보
      */
 
     @Transactional
-    public Schedule createSchedule(ScheduleRequestDto dto) {
+    public ScheduleResponseDto createSchedule(ScheduleRequestDto dto) {
+        validatePeriod(dto);
         // userId에 해당하는 User 엔티티 조회 (없으면 예외 발생)
         User user = userRepository.findById(dto.getUserId()).orElseThrow();
         // Schedule 엔티티 생성, builder 패턴 활용
         Schedule schedule = Schedule.builder()
                 .title(dto.getTitle())
                 .content(dto.getContent())
+                .remindAt(dto.getRemindAt())
+                .startAt(dto.getStartAt())
+                .endAt(dto.getEndAt())
                 .user(user) // User와 연관관계 설정
                 .build();
 
-        // DB에 저장하고 저장된 엔티티 반환
-        return scheduleRepository.save(schedule);
+        // DB에 저장하고 응답 DTO 로 반환 (user 는 위에서 조회한 엔티티라 추가 쿼리 없음)
+        Schedule saved = scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.CREATED, saved));
+        return new ScheduleResponseDto(saved, 0);
     }
 
 
     /**
-     * 모든 스케줄 조회
+     * 여러 스케줄 한 번에 생성
+     * 1) 요청에 포함된 userId 들을 모아 한 번의 IN 쿼리로 User 조회 (건마다 findById 하지 않음)
+     * 2) Schedule 엔티티를 만들어 persist → 시퀀스 id 라서 INSERT 가 JDBC 배치로 묶임
+     * 3) jdbcBatchSize 건마다 flush/clear 해서 영속성 컨텍스트가 커지지 않게 유지
      *
-     * @return DB에 저장된 모든 Schedule 리스트
+     * @param dtos 생성할 스케줄 목록
+     * @return 생성된 스케줄 id 목록 (요청 순서와 같음)
+     * @throws IllegalArgumentException 최대 건수를 넘었거나 존재하지 않는 userId 가 있는 경우
      */
 
-    public List<Schedule> getAllSchedules() {
+    @Transactional
+    // 건수에 비례해서 시퀀스 조회/배치 INSERT 가 반복되는 게 정상 → SQL 예산 검사 제외
+    @QueryBudget(statements = QueryBudget.UNLIMITED, repeats = QueryBudget.UNLIMITED)
+    public List<Long> createSchedules(List<ScheduleRequestDto> dtos) {
+        if (dtos.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 일정은 최대 " + maxBatchSize + "건입니다.");
+        }
+
+        dtos.forEach(this::validatePeriod);
 
+        Set<Long> userIds = dtos.stream()
+                .map(ScheduleRequestDto::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (users.size() != userIds.size()) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
 
+        List<Long> ids = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            ScheduleRequestDto dto = dtos.get(i);
+            Schedule schedule = Schedule.builder()
+                    .title(dto.getTitle())
+                    .content(dto.getContent())
+                    .remindAt(dto.getRemindAt())
+                    .startAt(dto.getStartAt())
+                    .endAt(dto.getEndAt())
+                    .user(users.get(dto.getUserId()))
+                    .build();
+            entityManager.persist(schedule);
+            ids.add(schedule.getId()); // 시퀀스 전략이라 persist 시점에 id 가 이미 할당됨
+            eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.CREATED, schedule));
 
-        return scheduleRepository.findAll();
+            if ((i + 1) % jdbcBatchSize == 0) {
+                entityManager.flush(); // 모인 INSERT 를 배치로 전송
+                entityManager.clear(); // 1차 캐시 비우기 (User 는 detach 되지만 FK 값만 쓰므로 문제 없음)
+            }
+        }
+        return ids;
     }
 
 
+    /**
+     * 스케줄 목록 조회 (키셋 페이지네이션, 최신순)
+     * 1) size 를 1 ~ maxPageSize 범위로 제한
+     * 2) 커서가 없으면 첫 페이지, 있으면 커서 다음 행부터 조회
+     * 3) size + 1 건을 읽어서 다음 페이지 존재 여부를 판단 (COUNT 쿼리 불필요)
+     *
+     * @param cursor 이전 응답의 next 값 (첫 페이지면 null)
+     * @param size 요청 페이지 크기
+     * @return 이번 페이지의 일정 목록(작성자 이름, 댓글 수 포함)과 다음 커서
+     */
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ScheduleResponseDto> getSchedules(String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), maxPageSize);
+        PageCursor after = PageCursor.decode(cursor);
+
+        List<ScheduleResponseDto> rows = after == null
+                ? scheduleRepository.findFirstPage(Limit.of(limit + 1))
+                : scheduleRepository.findPageAfter(after.getCreatedAt(), after.getId(), Limit.of(limit + 1));
+
+        if (rows.size() <= limit) {
+            return new CursorPageResponseDto<>(rows, null);
+        }
+        List<ScheduleResponseDto> items = rows.subList(0, limit);
+        ScheduleResponseDto last = items.get(limit - 1);
+        return new CursorPageResponseDto<>(items, new PageCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+
+    /**
+     * 스케줄 목록 페이지의 ETag
+     * - 일정/댓글/사용자 컬렉션의 지문(집계 시드 + 변경 버전)으로 계산 → 목록을 조회하지 않음
+     *
+     * @param cursor 요청 커서
+     * @param size 요청 페이지 크기
+     * @return ETag 값 (따옴표 없이)
+     */
+
+    public String getSchedulesETag(String cursor, int size) {
+        return collectionETags.schedules(cursor, Math.min(Math.max(size, 1), maxPageSize));
+    }
+
+
+    /**
+     * 사용자의 일정 중 [from, to) 구간과 겹치는 일정 조회 (캘린더 화면용, 시작 시각 순)
+     * 1) 사용자별 메모리 구간 색인에서 겹치는 일정 id 를 O(log n + k) 로 찾음 (사용자의 일정 전체를 훑지 않음)
+     * 2) 찾은 id 들만 프로젝션 쿼리 한 번(IN)으로 응답 DTO 조회
+     * - 색인이 처음 만들어질 때 자기 트랜잭션의 스냅샷을 쓰지 않도록 이 메서드는 트랜잭션을 열지 않음
+     *
+     * @param userId 사용자 식별자
+     * @param from 구간 시작 (포함)
+     * @param to 구간 끝 (미포함)
+     * @return 겹치는 일정 목록
+     * @throws IllegalArgumentException 구간이 잘못됐거나 결과가 최대 건수를 넘는 경우
+     */
+    public List<ScheduleResponseDto> getSchedulesInRange(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 구간의 시작은 끝보다 빨라야 합니다.");
+        }
+        long[] ids = scheduleCalendarIndex.findOverlapping(userId, from, to);
+        if (ids.length > maxRangeResults) {
+            throw new IllegalArgumentException("조회 구간에 일정이 너무 많습니다. (최대 " + maxRangeResults + "건)");
+        }
+        if (ids.length == 0) {
+            return List.of();
+        }
+
+        List<Long> idList = Arrays.stream(ids).boxed().toList();
+        Map<Long, ScheduleResponseDto> rows = scheduleRepository.findResponsesByIdIn(idList).stream()
+                .collect(Collectors.toMap(ScheduleResponseDto::getId, Function.identity()));
+        // 색인의 시작 시각 순서 유지 (색인 조회 직후 삭제된 일정은 빠짐)
+        return idList.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * 기존 스케줄 수정
      * 1) id에 해당하는 Schedule 조회 (없으면 예외 발생)
      * 2) 전달받은 dto로 제목과 내용을 수정
-     * 3) 변경된 엔티티 반환 (트랜잭션 종료 시점에 변경감지로 DB 업데이트)
+     * 3) 프로젝션 쿼리로 응답 DTO 조회 (쿼리 실행 전에 변경 내용이 자동 flush 되므로 수정된 값/updatedAt 이 반영됨)
      *
      * @param id 스케줄 식별자
      * @param dto 수정할 데이터(title, content)
-     * @return 수정된 Schedule 엔티티
+     * @return 수정된 일정 정보
      */
 
 
     @Transactional
-    public Schedule updateSchedule(Long id, ScheduleRequestDto dto) {
+    public ScheduleResponseDto updateSchedule(Long id, ScheduleRequestDto dto) {
+        validatePeriod(dto);
         Schedule schedule = scheduleRepository.findById(id).orElseThrow();
         schedule.setTitle(dto.getTitle());
         schedule.setContent(dto.getContent());
-        return schedule;
+        schedule.setRemindAt(dto.getRemindAt());
+        schedule.setStartAt(dto.getStartAt());
+        schedule.setEndAt(dto.getEndAt());
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.UPDATED, schedule));
+        return scheduleRepository.findResponseById(id).orElseThrow();
     }
 
 
     /**
      * 스케줄 삭제
+     * - 없는 id 면 아무 일도 하지 않음 (기존 deleteById 와 동일)
+     * - 달린 댓글까지 묶음 단위로 삭제하므로 트랜잭션을 여기서 열지 않음 (CascadePurger 참고)
      *
      * @param id 삭제할 스케줄 식별자
      */
 
-    @Transactional
     public void deleteSchedule(Long id) {
-        scheduleRepository.deleteById(id);
+        cascadePurger.deleteSchedule(id);
+    }
+
+
+    /**
+     * 제목/내용 전문 검색
+     * - 메모리 역색인에서 관련도(BM25) 상위 limit 건을 반환, DB 조회 없음
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 검색 결과 (id, 제목, 점수)
+     */
+
+    public List<ScheduleSearchResultDto> searchSchedules(String query, int limit) {
+        return scheduleSearchIndex.search(query, limit);
+    }
+
+
+    // 시작/종료 시각은 함께 지정해야 하고 시작이 종료보다 빨라야 함
+    private void validatePeriod(ScheduleRequestDto dto) {
+        if (dto.getStartAt() == null && dto.getEndAt() == null) {
+            return;
+        }
+        if (dto.getStartAt() == null || dto.getEndAt() == null || !dto.getStartAt().isBefore(dto.getEndAt())) {
+            throw new IllegalArgumentException("일정 시작/종료 시각은 함께 지정해야 하며, 시작이 종료보다 빨라야 합니다.");
+        }
     }
-}
\ No newline at end of file
+}
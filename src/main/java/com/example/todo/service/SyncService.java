@@ -0,0 +1,148 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.ChangeJournal;
+import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.dto.PageCursor;
+import com.example.todo.dto.ScheduleResponseDto;
+import com.example.todo.dto.SyncResponseDto;
+import com.example.todo.repository.ChangeJournalRepository;
+import com.example.todo.repository.CommentRepository;
+import com.example.todo.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 증분 동기화(delta sync) 서비스
+ * - change_journal 에서 커서 이후의 기록만 읽어, 바뀐 일정/댓글의 현재 상태와 삭제된 id 를 내려줌
+ *   → 한 번 동기화하는 비용이 전체 데이터가 아닌 변경 건수에 비례
+ * - 같은 항목이 여러 번 바뀌었으면 마지막 기록만 반영 (중간 상태는 내려주지 않음)
+ * - 커서 = (마지막 기록 시각, 마지막 기록 id). 시각은 보관 기간이 지난 커서를 알아보는 데 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final ChangeJournalRepository changeJournalRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+
+    // 한 번에 읽을 최대 기록 수
+    @Value("${app.sync.max-page-size:1000}")
+    private int maxPageSize;
+
+    // 기록된 지 이 시간이 지나야 내려줌 (앞 번호 트랜잭션이 아직 커밋 중일 수 있으므로)
+    @Value("${app.sync.settle-lag:PT2S}")
+    private Duration settleLag;
+
+    // 기록 보관 기간 (이보다 오래된 커서는 전체 재동기화)
+    @Value("${app.sync.retention:P7D}")
+    private Duration retention;
+
+    /**
+     * 커서 이후의 변경분 조회
+     *
+     * @param since 이전 응답의 next 값 (처음이면 null → 전체 재동기화 안내)
+     * @param size 최대 기록 수
+     * @return 변경분과 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public SyncResponseDto getChanges(String since, int size) {
+        int limit = Math.min(Math.max(size, 1), maxPageSize);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime settled = now.minus(settleLag);
+
+        PageCursor cursor = PageCursor.decode(since);
+        if (cursor == null || cursor.getCreatedAt() == null
+                || cursor.getCreatedAt().isBefore(now.minus(retention).plus(settleLag))) {
+            // 처음이거나 보관 기간이 지나 중간 기록이 지워졌을 수 있음 → 지금 위치를 알려주고 전체를 다시 받게 함
+            Long head = changeJournalRepository.findHeadId(settled);
+            return SyncResponseDto.reset(new PageCursor(settled, head == null ? 0L : head).encode());
+        }
+
+        List<ChangeJournal> entries = changeJournalRepository.findChangesAfter(cursor.getId(), settled, Limit.of(limit + 1));
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+
+        // 항목별 마지막 기록만 남김 (기록 순서 유지)
+        Map<Long, ChangeJournal.Operation> scheduleOps = new LinkedHashMap<>();
+        Map<Long, ChangeJournal.Operation> commentOps = new LinkedHashMap<>();
+        for (ChangeJournal entry : entries) {
+            Map<Long, ChangeJournal.Operation> ops =
+                    entry.getEntityType() == ChangeJournal.EntityType.SCHEDULE ? scheduleOps : commentOps;
+            ops.remove(entry.getEntityId());
+            ops.put(entry.getEntityId(), entry.getOperation());
+        }
+
+        List<Long> deletedScheduleIds = idsWith(scheduleOps, ChangeJournal.Operation.DELETE);
+        List<Long> deletedCommentIds = idsWith(commentOps, ChangeJournal.Operation.DELETE);
+
+        // 생성/수정된 항목은 현재 상태를 IN 조회 한 번씩으로 가져옴
+        List<Long> upsertedScheduleIds = idsWith(scheduleOps, ChangeJournal.Operation.UPSERT);
+        List<ScheduleResponseDto> schedules = upsertedScheduleIds.isEmpty()
+                ? List.of() : scheduleRepository.findResponsesByIdIn(upsertedScheduleIds);
+        List<Long> upsertedCommentIds = idsWith(commentOps, ChangeJournal.Operation.UPSERT);
+        List<CommentResponseDto> comments = upsertedCommentIds.isEmpty()
+                ? List.of() : commentRepository.findResponsesByIdIn(upsertedCommentIds);
+
+        // 기록은 UPSERT 인데 지금은 없는 항목 = 이후 페이지에서 삭제된 것 → 삭제로 내려줌
+        addMissing(upsertedScheduleIds, schedules.stream().map(ScheduleResponseDto::getId).collect(Collectors.toSet()),
+                deletedScheduleIds);
+        addMissing(upsertedCommentIds, comments.stream().map(CommentResponseDto::getId).collect(Collectors.toSet()),
+                deletedCommentIds);
+
+        // 남은 기록이 없으면 커서 시각을 settled 로 당겨서, 변경이 없는 클라이언트의 커서가 보관 기간을 넘기지 않게 함
+        PageCursor next = entries.isEmpty()
+                ? new PageCursor(settled, cursor.getId())
+                : new PageCursor(hasMore ? entries.get(entries.size() - 1).getRecordedAt() : settled,
+                entries.get(entries.size() - 1).getId());
+        return new SyncResponseDto(schedules, comments, deletedScheduleIds, deletedCommentIds,
+                next.encode(), hasMore, false);
+    }
+
+    /**
+     * 보관 기간이 지난 기록 삭제 (prune-interval 마다)
+     */
+    @Scheduled(fixedDelayString = "${app.sync.prune-interval:PT1H}", initialDelayString = "${app.sync.prune-interval:PT1H}")
+    @Transactional
+    public void pruneJournal() {
+        int deleted = changeJournalRepository.deleteRecordedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("변경 기록 정리: {}건 삭제", deleted);
+        }
+    }
+
+    private static List<Long> idsWith(Map<Long, ChangeJournal.Operation> ops, ChangeJournal.Operation operation) {
+        List<Long> ids = new ArrayList<>();
+        ops.forEach((id, op) -> {
+            if (op == operation) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    private static void addMissing(List<Long> expected, Set<Long> found, List<Long> deleted) {
+        for (Long id : expected) {
+            if (!found.contains(id)) {
+                deleted.add(id);
+            }
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package com.example.todo.service;
 
+import com.example.todo.config.PasswordEncoder;
 import com.example.todo.domain.User;
+import com.example.todo.dto.CursorPageResponseDto;
+import com.example.todo.dto.PageCursor;
 import com.example.todo.dto.UserRequestDto;
+import com.example.todo.dto.UserResponseDto;
+import com.example.todo.event.UserChangedEvent;
+import com.example.todo.purge.CascadePurger;
 import com.example.todo.repository.UserRepository;
+import com.example.todo.signup.UserExistenceFilter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.List;
 
 /**
@@ -17,29 +28,50 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    // 비밀번호 해시 (전용 스레드 풀에서 계산, 대기열이 가득 차면 503)
+    private final PasswordEncoder passwordEncoder;
+    // 사용자 변경 이벤트 발행 (일정 목록 ETag 등이 커밋 후에 받아서 반영)
+    private final ApplicationEventPublisher eventPublisher;
+    // 사용자 삭제 (삭제 표시 + 댓글/일정/사용자 행 일괄 삭제)
+    private final CascadePurger cascadePurger;
+    // 비밀번호 해시를 DB 커넥션을 잡기 전에 계산하기 위해 트랜잭션 범위를 직접 지정
+    private final TransactionTemplate transactionTemplate;
+    // 기존 사용자명/이메일 블룸 필터 ("확실히 없음" 이면 중복 확인 쿼리 생략)
+    private final UserExistenceFilter userExistenceFilter;
+
+    // GET /users 한 페이지 최대 건수
+    @Value("${app.user.max-page-size:100}")
+    private int maxPageSize;
 
     /**
      * 회원가입 처리
      * - 사용자 정보를 받아 회원가입을 처리.
      * - 비밀번호는 암호화하여 저장.
+     * - 중복 확인은 블룸 필터가 "있을 수도 있음" 이라고 할 때만 DB 조회.
+     *   동시에 같은 값으로 가입하는 경우는 users 테이블의 unique 제약이 막음
      *
      * @param requestDto 사용자 정보 DTO
      * @return 회원가입 결과 메시지
      */
     public String  createUser(UserRequestDto requestDto) {
-        if (userRepository.findByUsername(requestDto.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
+        if (requestDto.getEmail() == null || requestDto.getEmail().isBlank()) {
+            throw new IllegalArgumentException("이메일을 입력해 주세요.");
         }
+        checkDuplicate(requestDto.getUsername(), requestDto.getEmail());
 
         String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
-        /** passwordEncoder는 BCryptPasswordEncoder 객체.
+        /** passwordEncoder는 config.PasswordEncoder 객체 (BCrypt).
          * encode()는 비밀번호를 암호화(해싱) 해주는 메서드.
          * 암호화된 비밀번호를 encodedPassword 변수에 저장.
 
          */
-        User user = new User(requestDto.getUsername(), encodedPassword);
-        userRepository.save(user); // ★ DB에 저장만 하고 반환값은 메시지로
+        User user = new User(requestDto.getUsername(), requestDto.getEmail(), encodedPassword);
+        try {
+            userRepository.save(user); // ★ DB에 저장만 하고 반환값은 메시지로
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
+        }
+        userExistenceFilter.add(user.getUsername(), user.getEmail());
         return  "회원가입 완료";
     }
 
@@ -57,25 +89,102 @@ public class UserService {
         if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
+        rehashIfNeeded(user, requestDto.getPassword());
         return "로그인 성공";
     }
-    // 전체 사용자 조회
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+
+    /**
+     * 로그인에 성공한 사용자의 비밀번호 해시가 이전 cost 로 만들어졌으면 현재 cost 로 다시 저장
+     * - 평문 비밀번호는 로그인할 때만 알 수 있으므로 이 시점에 교체 (app.password.cost 를 바꿔도 일괄 변환 불필요)
+     * - 그 사이에 비밀번호가 바뀌었으면 덮어쓰지 않음
+     *
+     * @param user 방금 비밀번호를 확인한 사용자
+     * @param rawPassword 확인된 평문 비밀번호
+     */
+    public void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+        String encodedPassword = passwordEncoder.encode(rawPassword);
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), encodedPassword));
     }
+    /**
+     * 사용자 목록 조회 (키셋 페이지네이션, 가입순)
+     * - size 를 1 ~ maxPageSize 범위로 제한하고 size + 1 건을 읽어서 다음 페이지 존재 여부를 판단
+     * - 커서에는 마지막 사용자 id 만 담음 (id 가 곧 정렬 키)
+     *
+     * @param cursor 이전 응답의 next 값 (첫 페이지면 null)
+     * @param size 요청 페이지 크기
+     * @return 이번 페이지의 사용자 목록(비밀번호 제외)과 다음 커서
+     */
+    public CursorPageResponseDto<UserResponseDto> getUsers(String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), maxPageSize);
+        PageCursor after = PageCursor.decode(cursor);
 
-    // 사용자 수정
-    public User updateUser(Long id, UserRequestDto dto) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        user.setUsername(dto.getUsername());
-        user.setPassword(passwordEncoder.encode(dto.getPassword()));
-        return userRepository.save(user);
+        List<UserResponseDto> rows = userRepository.findPage(after == null ? 0L : after.getId(), Limit.of(limit + 1));
+
+        if (rows.size() <= limit) {
+            return new CursorPageResponseDto<>(rows, null);
+        }
+        List<UserResponseDto> items = rows.subList(0, limit);
+        return new CursorPageResponseDto<>(items, new PageCursor(null, items.get(limit - 1).getId()).encode());
+    }
+
+    // 사용자 수정 (보낸 필드만 변경, 비밀번호는 다시 해시하되 해시는 트랜잭션 밖에서 계산)
+    // 응답은 UserResponseDto (엔티티를 그대로 내보내면 비밀번호 해시, 이메일, deletedAt 까지 직렬화됨)
+    public UserResponseDto updateUser(Long id, UserRequestDto dto) {
+        String encodedPassword = dto.getPassword() == null ? null : passwordEncoder.encode(dto.getPassword());
+        String[] previous = new String[2]; // 바뀌기 전 사용자명, 이메일
+        User updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                User user = userRepository.findById(id)
+                        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+                previous[0] = user.getUsername();
+                previous[1] = user.getEmail();
+                String username = dto.getUsername() == null || dto.getUsername().equals(user.getUsername()) ? null : dto.getUsername();
+                String email = dto.getEmail() == null || dto.getEmail().equals(user.getEmail()) ? null : dto.getEmail();
+                if (username != null || email != null) {
+                    checkDuplicate(username, email);
+                }
+                if (username != null) {
+                    user.setUsername(username);
+                }
+                if (email != null) {
+                    user.setEmail(email);
+                }
+                if (encodedPassword != null) {
+                    user.setPassword(encodedPassword);
+                }
+                eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.UPDATED, user));
+                return userRepository.saveAndFlush(user);
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
+        }
+        // 커밋된 새 값은 필터에 추가하고, 바뀐 예전 값은 쓸모없어진 값으로 기록
+        userExistenceFilter.add(updated.getUsername(), updated.getEmail());
+        userExistenceFilter.markStale((previous[0].equals(updated.getUsername()) ? 0 : 1)
+                + (previous[1] == null || previous[1].equals(updated.getEmail()) ? 0 : 1));
+        return new UserResponseDto(updated);
+    }
+
+    // 사용자명/이메일 중복 확인 (null 인 값은 확인하지 않음)
+    private void checkDuplicate(String username, String email) {
+        if (!userExistenceFilter.mightExist(username, email)) {
+            return;
+        }
+        boolean exists = userRepository.existsByUsernameOrEmail(username, email);
+        userExistenceFilter.recordDatabaseCheck(exists);
+        if (exists) {
+            throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
+        }
     }
 
-    // 사용자 삭제
+    // 사용자 삭제 (작성한 일정/댓글까지 묶음 단위로 삭제하므로 트랜잭션은 CascadePurger 가 나눠서 관리)
     public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+        cascadePurger.deleteUser(id);
     }
 }
 
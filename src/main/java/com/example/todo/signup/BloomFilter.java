@@ -0,0 +1,139 @@
+package com.example.todo.signup;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합용 블룸 필터
+ * - mightContain 이 false 면 "확실히 없음", true 면 "있을 수도 있음" (거짓 양성 가능, 거짓 음성 없음)
+ * - 비트 배열(long 단위)과 k 개의 해시 위치만 저장하므로 원소 하나에 약 9.6비트 (거짓 양성률 1% 기준)
+ * - 해시 위치는 64비트 해시 하나를 둘로 나눈 h1 + i·h2 로 만듦 (Kirsch–Mitzenmacher, 해시 함수 k 개와 같은 효과)
+ *
+ * 동시성: put/mightContain 은 잠금 없이 여러 스레드에서 호출 가능 (비트는 켜지기만 하고 꺼지지 않음)
+ * 한계: 원소를 뺄 수 없음 → 삭제/변경된 값은 거짓 양성으로 남고, 다시 만들어야 사라짐
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    // 켜진 비트 수 / 새 비트를 하나 이상 켠 put 횟수 (현재 거짓 양성률 계산용)
+    private final AtomicLong bitsSet = new AtomicLong();
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitCount, int hashCount) {
+        long wordCount = (bitCount + 63) >>> 6;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("블룸 필터가 너무 큽니다: " + bitCount + "비트");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 원소 n 개를 넣었을 때 거짓 양성률이 fpp 가 되도록 크기를 정해 생성
+     * - 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = m/n·ln 2
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions 는 1 이상이어야 합니다: " + expectedInsertions);
+        }
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("fpp 는 0 과 1 사이여야 합니다: " + fpp);
+        }
+        long bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * 원소 추가
+     *
+     * @return 새로 켠 비트가 있으면 true (false 면 이미 들어 있었거나 거짓 양성)
+     */
+    public boolean put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        boolean changed = false;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1, h2, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long before = words.getAndAccumulate(word, mask, (current, m) -> current | m);
+            if ((before & mask) == 0) {
+                bitsSet.incrementAndGet();
+                changed = true;
+            }
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+        return changed;
+    }
+
+    /**
+     * @return false 면 확실히 넣은 적 없음, true 면 넣었을 수도 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1, h2, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 지금 상태의 거짓 양성률 추정치 = (켜진 비트 비율)^k
+     * - 넣은 원소가 예상보다 많아지면 설계값보다 커짐
+     */
+    public double expectedFpp() {
+        return Math.pow((double) bitsSet.get() / bitCount, hashCount);
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 넣은 서로 다른 원소 수 (근사치, 거짓 양성으로 비트가 안 바뀐 put 은 빠짐)
+     */
+    public long approximateElementCount() {
+        return insertions.get();
+    }
+
+    // g_i = h1 + i·h2 (음수면 비트를 뒤집어 양수로) mod m
+    private long index(int h1, int h2, int i) {
+        long combined = (long) h1 + (long) i * h2;
+        if (combined < 0) {
+            combined = ~combined;
+        }
+        return combined % bitCount;
+    }
+
+    // 문자(UTF-16) 단위 FNV-1a 후 MurmurHash3 의 fmix64 로 비트를 고르게 섞음
+    static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
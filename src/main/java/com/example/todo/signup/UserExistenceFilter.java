@@ -0,0 +1,211 @@
+package com.example.todo.signup;
+
+import com.example.todo.dto.SignupFilterStatsDto;
+import com.example.todo.event.UserChangedEvent;
+import com.example.todo.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 회원가입 중복 확인용 블룸 필터 (기존 사용자명/이메일)
+ * - 시작 시 UserRepository 를 스트리밍으로 읽어 만들고, 가입/수정 시 새 값을 추가
+ * - "확실히 없음" 이면 UserService 가 중복 확인 쿼리를 생략하고 바로 INSERT
+ *   (그 사이 같은 값으로 먼저 가입한 요청이 있으면 users 테이블의 unique 제약이 최종 판정)
+ * - "있을 수도 있음" 이면 기존처럼 DB 에서 확인하고, 실제로 없었으면 거짓 양성으로 집계 (GET /stats/signup)
+ *
+ * 블룸 필터에서는 값을 뺄 수 없으므로 삭제/변경으로 더 이상 쓰이지 않는 값은 거짓 양성으로 남음.
+ * 그런 값이 살아 있는 값의 max-stale-ratio 를 넘거나, 넣은 값이 설계 용량을 넘으면 주기적으로 다시 만듦
+ *
+ * 비교는 소문자로 바꾼 값으로 함 (MySQL 기본 collation 처럼 대소문자를 무시하는 unique 제약에서도 거짓 음성이 없도록)
+ */
+@Slf4j
+@Component
+public class UserExistenceFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final double maxStaleRatio;
+
+    // null 이면 아직 만들기 전 → 모든 값을 "있을 수도 있음" 으로 답함
+    private volatile BloomFilter filter;
+    // 재구성 중인 새 필터 (그 사이 추가되는 값을 양쪽에 넣음)
+    private volatile BloomFilter building;
+    // 재구성 중 DB 를 스트리밍으로 읽으므로 synchronized 대신 ReentrantLock (가상 스레드 모드에서 캐리어 스레드가 묶이지 않게)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 마지막 재구성 이후 삭제/변경으로 쓸모없어진 값 수
+    private final AtomicLong stale = new AtomicLong();
+
+    private final LongAdder definitelyNew = new LongAdder();
+    private final LongAdder databaseChecks = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public UserExistenceFilter(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.signup-filter.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${app.signup-filter.fpp:0.01}") double fpp,
+                               @Value("${app.signup-filter.max-stale-ratio:0.2}") double maxStaleRatio) {
+        this.userRepository = userRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.maxStaleRatio = maxStaleRatio;
+    }
+
+    /**
+     * 시작 시 전체 사용자로 필터 생성
+     * - 설계 용량은 expected-insertions 와 현재 값 수의 2배 중 큰 쪽
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            long keys = 2 * userRepository.count();
+            BloomFilter fresh = BloomFilter.create(Math.max(expectedInsertions, 2 * keys), fpp);
+            building = fresh;
+            stale.set(0);
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<UserIdentity> identities = userRepository.streamAllIdentities()) {
+                    identities.forEach(identity -> put(fresh, identity.getUsername(), identity.getEmail()));
+                }
+            });
+            filter = fresh;
+            building = null;
+            log.info("회원가입 블룸 필터 생성 완료: 값 {}개, {}비트, 해시 {}개, {}ms",
+                    fresh.approximateElementCount(), fresh.bitCount(), fresh.hashCount(),
+                    System.currentTimeMillis() - started);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 쓸모없어진 값이 많아졌거나 용량을 넘었으면 다시 만듦
+     */
+    @Scheduled(initialDelayString = "${app.signup-filter.check-interval:PT10M}",
+            fixedDelayString = "${app.signup-filter.check-interval:PT10M}")
+    public void rebuildIfDegraded() {
+        BloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        long live = current.approximateElementCount() - stale.get();
+        if (stale.get() > Math.max(1, live) * maxStaleRatio || current.expectedFpp() > fpp * 2) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 사용자명 또는 이메일이 이미 쓰이고 있을 수 있는지
+     *
+     * @return false 면 둘 다 확실히 새 값 (DB 확인 불필요)
+     */
+    public boolean mightExist(String username, String email) {
+        BloomFilter current = filter;
+        boolean maybe = current == null
+                || (username != null && current.mightContain(usernameKey(username)))
+                || (email != null && current.mightContain(emailKey(email)));
+        if (maybe) {
+            databaseChecks.increment();
+        } else {
+            definitelyNew.increment();
+        }
+        return maybe;
+    }
+
+    /**
+     * mightExist 가 true 였던 값을 DB 에서 확인한 결과 (없었으면 거짓 양성)
+     */
+    public void recordDatabaseCheck(boolean exists) {
+        if (!exists) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * 새로 쓰이기 시작한 값 추가 (커밋된 뒤에 호출할 것)
+     * - 재구성 중이면 새 필터에도 넣음. 재구성 스트림이 이미 지나간 행이어도 빠지지 않도록
+     * - building 을 filter 보다 먼저 읽음: building 이 null 이면 재구성 전(스트림이 이 커밋을 보게 됨)이거나
+     *   이미 교체가 끝난 뒤(filter 가 새 필터)이므로 어느 쪽이든 값이 빠지지 않음
+     */
+    public void add(String username, String email) {
+        BloomFilter next = building;
+        if (next != null) {
+            put(next, username, email);
+        }
+        BloomFilter current = filter;
+        if (current != null && current != next) {
+            put(current, username, email);
+        }
+    }
+
+    /**
+     * 사용자명/이메일 변경으로 예전 값이 쓸모없어졌음을 기록
+     */
+    public void markStale(int count) {
+        stale.addAndGet(count);
+    }
+
+    /**
+     * 사용자 삭제 → 그 사용자의 사용자명/이메일은 거짓 양성으로 남음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            stale.addAndGet(2);
+        }
+    }
+
+    /**
+     * 필터 크기와 거짓 양성률 (GET /stats/signup)
+     * - observedFpp: 실제로 새 값이었던 가입 시도 중 DB 확인까지 간 비율 = 거짓 양성 / (거짓 양성 + 확실히 없음)
+     */
+    public SignupFilterStatsDto stats() {
+        BloomFilter current = filter;
+        long fp = falsePositives.sum();
+        long negatives = definitelyNew.sum();
+        double observed = fp + negatives == 0 ? 0 : (double) fp / (fp + negatives);
+        if (current == null) {
+            return new SignupFilterStatsDto(0, 0, 0, 0, fpp, 0, stale.get(), negatives, databaseChecks.sum(), fp, observed);
+        }
+        return new SignupFilterStatsDto(current.approximateElementCount(), current.bitCount(), current.hashCount(),
+                current.bitCount() / 8, fpp, current.expectedFpp(), stale.get(),
+                negatives, databaseChecks.sum(), fp, observed);
+    }
+
+    private static void put(BloomFilter target, String username, String email) {
+        if (username != null) {
+            target.put(usernameKey(username));
+        }
+        if (email != null) {
+            target.put(emailKey(email));
+        }
+    }
+
+    // 사용자명과 이메일이 같은 문자열이어도 서로 다른 값으로 취급
+    private static String usernameKey(String username) {
+        return "u:" + username.toLowerCase(Locale.ROOT);
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + email.toLowerCase(Locale.ROOT);
+    }
+}
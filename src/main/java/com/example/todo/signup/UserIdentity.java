@@ -0,0 +1,12 @@
+package com.example.todo.signup;
+
+/**
+ * 사용자 한 명의 고유 값 (사용자명, 이메일)
+ * - UserRepository 의 네이티브 쿼리 결과를 받는 인터페이스 프로젝션 (엔티티를 로딩하지 않음)
+ */
+public interface UserIdentity {
+
+    String getUsername();
+
+    String getEmail();
+}
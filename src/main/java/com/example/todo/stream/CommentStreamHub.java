@@ -0,0 +1,409 @@
+package com.example.todo.stream;
+
+import com.example.todo.domain.Comment;
+import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.event.CommentChangedEvent;
+import com.example.todo.event.CommentsPurgedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * 일정별 댓글 실시간 스트림 (GET /comments/schedule/{id}/stream, Server-Sent Events)
+ *
+ * 구조
+ * - 구독 = SseEmitter 1개 + 크기가 정해진 전송 대기 큐. 서블릿 비동기 요청이라 연결을 유지하는 동안 요청 스레드를 잡지 않음
+ *   → 유휴 연결 수천~수만 개가 스레드 없이 소켓과 작은 큐만 차지
+ * - 댓글 변경은 커밋 후(AFTER_COMMIT) 이벤트로 받아, JSON 직렬화를 한 번만 하고 그 일정의 구독자 큐에 넣기만 함
+ *   → 커밋한 요청 스레드는 전송을 기다리지 않음
+ * - 실제 전송은 sender-threads 개의 공용 스레드가 담당. 구독자마다 "전송 중" 표시가 있어서 큐에 쌓인 것을 한 스레드가 이어서 보냄
+ *
+ * 막힌 구독자 정리 (write-timeout)
+ * - 서블릿 출력은 블로킹이라, 받지 않는 클라이언트의 소켓 버퍼가 차면 send 가 전송 스레드를 붙잡음
+ *   → 공용 스레드가 몇 개뿐이므로 다른 구독자 전송까지 밀림
+ * - stall-check-interval 마다 send 하나가 write-timeout 넘게 끝나지 않은 구독자를 찾아 바로 구독 해제하고,
+ *   붙잡힌 스레드 수만큼 전송 스레드를 늘려서 다른 구독자는 계속 전송 (send 가 끝나면 연결을 닫고 원래 수로 되돌림)
+ * - 늘리는 스레드는 최대 max-extra-senders 개. 네트워크 장애로 수천 명이 한꺼번에 막혀도 스레드가 구독자 수만큼 늘지 않도록,
+ *   상한에 닿으면 스레드를 늘리지 않고 구독 해제만 함 (연결은 막힌 send 가 끝나는 즉시 닫음)
+ * - SseEmitter 의 send/complete 는 같은 모니터를 쓰므로 막힌 연결은 그 스레드가 send 에서 빠져나온 뒤에 닫음
+ *   (톰캣은 connection-timeout 이 지나면 막힌 쓰기를 IOException 으로 끝냄)
+ *
+ * 느린 구독자 정책 (buffer-size 를 넘으면)
+ * - DROP_OLDEST : 가장 오래된 이벤트를 버리고 새 이벤트를 넣음 (버린 건수는 droppedCount)
+ * - DISCONNECT  : 연결을 끊음 (클라이언트는 재연결 후 GET /comments/schedule/{id} 로 다시 맞춤)
+ *
+ * heartbeat-interval 마다 주석 줄(":")을 보내서 끊어진 연결을 찾아 정리하고, 중간 프록시가 유휴 연결을 닫지 않게 함
+ */
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    public enum OverflowPolicy { DROP_OLDEST, DISCONNECT }
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final OverflowPolicy overflowPolicy;
+    private final long writeTimeoutNanos;
+    private final int senderThreads;
+    private final int maxExtraSenders;
+    private final ThreadPoolExecutor senders;
+    // send 에 붙잡혀 있어서 전송 스레드 수를 늘려 둔 구독자 수
+    private final AtomicInteger stalledSenders = new AtomicInteger();
+    private final ReentrantLock resizeLock = new ReentrantLock();
+
+    // 일정 id → 구독자들
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder stalledCount = new LongAdder();
+
+    public CommentStreamHub(ObjectMapper objectMapper,
+                            @Value("${app.comment.stream.buffer-size:64}") int bufferSize,
+                            @Value("${app.comment.stream.max-subscribers:20000}") int maxSubscribers,
+                            @Value("${app.comment.stream.timeout:PT30M}") Duration timeout,
+                            @Value("${app.comment.stream.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                            @Value("${app.comment.stream.sender-threads:4}") int senderThreads,
+                            @Value("${app.comment.stream.write-timeout:PT5S}") Duration writeTimeout,
+                            @Value("${app.comment.stream.max-extra-senders:16}") int maxExtraSenders) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.overflowPolicy = overflowPolicy;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.senderThreads = senderThreads;
+        this.maxExtraSenders = maxExtraSenders;
+        // 대기 작업은 구독자당 최대 1개(전송 중 표시)라 큐 크기는 구독자 수를 넘지 않음
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "comment-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 일정의 댓글 스트림 구독
+     *
+     * @throws ResponseStatusException 구독자 수가 max-subscribers 에 도달한 경우 (503)
+     */
+    public SseEmitter subscribe(Long scheduleId) {
+        return subscribe(scheduleId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long scheduleId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, "실시간 댓글 연결이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        Subscriber subscriber = new Subscriber(scheduleId, emitter);
+        // 마지막 구독자가 빠지면서 집합을 지우는 것(remove)과 엇갈리지 않도록 compute 안에서 추가
+        subscribers.compute(scheduleId, (id, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        // 연결 직후 바로 응답 헤더가 나가도록 첫 이벤트 전송
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    /**
+     * 커밋된 댓글 변경을 그 일정의 구독자에게 전달
+     * - comment  : 생성/수정된 댓글 (CommentResponseDto)
+     * - comment-deleted : 삭제된 댓글 id
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getScheduleId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        Comment comment = event.getComment();
+        Set<DataWithMediaType> data;
+        try {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().id(String.valueOf(comment.getId()));
+            if (event.getType() == CommentChangedEvent.Type.DELETED) {
+                builder.name("comment-deleted").data(String.valueOf(comment.getId()));
+            } else {
+                builder.name("comment").data(objectMapper.writeValueAsString(new CommentResponseDto(comment)),
+                        MediaType.APPLICATION_JSON);
+            }
+            data = builder.build();
+        } catch (JsonProcessingException e) {
+            log.error("댓글 이벤트 직렬화 실패: {}", comment.getId(), e);
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(data);
+        }
+    }
+
+    /**
+     * 일괄 삭제된 댓글(삭제된 사용자/일정의 댓글)도 구독자에게 comment-deleted 로 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentsPurged(CommentsPurgedEvent event) {
+        for (int i = 0; i < event.getCommentIds().size(); i++) {
+            Set<Subscriber> targets = subscribers.get(event.getScheduleIds().get(i));
+            if (targets == null || targets.isEmpty()) {
+                continue;
+            }
+            String commentId = String.valueOf(event.getCommentIds().get(i));
+            Set<DataWithMediaType> data = SseEmitter.event().id(commentId).name("comment-deleted").data(commentId).build();
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(data);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.comment.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * send 하나가 write-timeout 넘게 끝나지 않은 구독자 정리
+     */
+    @Scheduled(fixedDelayString = "${app.comment.stream.stall-check-interval:PT1S}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                subscriber.evictIfStalled(now);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long stalledCount() {
+        return stalledCount.sum();
+    }
+
+    /**
+     * 막힌 스레드 대신 쓸 전송 스레드 하나 추가 (전송 스레드 수 = sender-threads + 막혀 있는 스레드 수)
+     *
+     * @return 늘렸으면 true, 이미 max-extra-senders 만큼 늘어 있으면 false
+     */
+    private boolean addSender() {
+        resizeLock.lock();
+        try {
+            if (stalledSenders.get() >= maxExtraSenders) {
+                return false;
+            }
+            int size = senderThreads + stalledSenders.incrementAndGet();
+            // 최대값은 항상 core 이상이어야 하므로 늘릴 때는 최대값부터
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+            return true;
+        } finally {
+            resizeLock.unlock();
+        }
+    }
+
+    private void removeSender() {
+        resizeLock.lock();
+        try {
+            int size = senderThreads + stalledSenders.decrementAndGet();
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        } finally {
+            resizeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                subscriber.close();
+            }
+        }
+    }
+
+    /**
+     * 구독자 한 명 (전송 대기 큐 + 전송 중 표시)
+     */
+    private final class Subscriber {
+        private final Long scheduleId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        // 진행 중인 send (null 이면 전송 중 아님, STALLED / STALLED_AT_CAP 이면 막혀서 구독 해제됨)
+        private final AtomicReference<SendAttempt> inFlight = new AtomicReference<>();
+
+        Subscriber(Long scheduleId, SseEmitter emitter) {
+            this.scheduleId = scheduleId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> data) {
+            if (removed.get()) {
+                return;
+            }
+            while (!queue.offer(data)) {
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    close();
+                    return;
+                }
+                if (queue.poll() != null) {
+                    droppedCount.increment();
+                }
+            }
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * 큐가 빌 때까지 전송 (전송 스레드 하나만 실행)
+         */
+        private void drain() {
+            SendAttempt attempt = null;
+            try {
+                Set<DataWithMediaType> data;
+                while (!removed.get() && (data = queue.poll()) != null) {
+                    attempt = new SendAttempt(System.nanoTime());
+                    inFlight.set(attempt);
+                    emitter.send(data);
+                    if (!inFlight.compareAndSet(attempt, null)) {
+                        break;
+                    }
+                    attempt = null;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 이미 완료된 연결
+                close();
+            } finally {
+                sending.set(false);
+            }
+            if (attempt != null && !inFlight.compareAndSet(attempt, null)) {
+                // 막혀 있는 동안 evictIfStalled 가 구독 해제함 → send 에서 빠져나왔으므로 연결을 닫고 늘렸던 스레드를 되돌림
+                if (inFlight.get() == SendAttempt.STALLED) {
+                    removeSender();
+                }
+                complete();
+                return;
+            }
+            // sending 을 내리는 사이에 들어온 이벤트가 있으면 이어서 전송
+            if (!queue.isEmpty() && !removed.get() && sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        void evictIfStalled(long now) {
+            SendAttempt attempt = inFlight.get();
+            if (attempt == null || attempt == SendAttempt.STALLED || attempt == SendAttempt.STALLED_AT_CAP
+                    || now - attempt.startedAt <= writeTimeoutNanos) {
+                return;
+            }
+            // 스레드를 먼저 늘려 둠 (막힌 send 가 바로 끝나서 drain 이 되돌리는 것보다 항상 먼저 늘어나도록)
+            boolean added = addSender();
+            if (!inFlight.compareAndSet(attempt, added ? SendAttempt.STALLED : SendAttempt.STALLED_AT_CAP)) {
+                // 그 사이 send 가 끝남
+                if (added) {
+                    removeSender();
+                }
+                return;
+            }
+            remove();
+            stalledCount.increment();
+            log.warn("댓글 스트림 전송이 {}ms 넘게 막혀 구독 해제: scheduleId={}{}",
+                    TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos), scheduleId,
+                    added ? "" : " (전송 스레드가 max-extra-senders 만큼 늘어 있어 더 늘리지 않음)");
+        }
+
+        void close() {
+            if (remove()) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 끊어진 연결
+            }
+        }
+
+        // 한 번만 정리됨 (onCompletion 콜백과 close 가 둘 다 불러도 안전)
+        boolean remove() {
+            if (!removed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(scheduleId, (id, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            queue.clear();
+            return true;
+        }
+    }
+
+    /**
+     * send 한 번 (시작 시각을 들고 있어서 막힌 시간을 잴 수 있고, 객체 동일성으로 drain 과 evictIfStalled 중 한쪽만 처리)
+     */
+    private static final class SendAttempt {
+        // 막혀서 구독 해제됨 (전송 스레드를 하나 늘렸는지로 구분)
+        static final SendAttempt STALLED = new SendAttempt(0);
+        static final SendAttempt STALLED_AT_CAP = new SendAttempt(0);
+
+        final long startedAt;
+
+        SendAttempt(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.todo.sync;
+
+import com.example.todo.domain.ChangeJournal;
+import com.example.todo.event.CommentChangedEvent;
+import com.example.todo.event.CommentsPurgedEvent;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.event.SchedulesPurgedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정/댓글 변경을 change_journal 에 기록
+ * - ScheduleService, CommentService 가 발행하는 변경 이벤트를 트랜잭션 안에서(동기) 받아 트랜잭션별 버퍼에 모아 두고,
+ *   커밋 직전(beforeCommit)에 JDBC 배치 INSERT 한 번으로 기록
+ *   → 데이터 변경과 기록이 같은 트랜잭션이라 함께 커밋되거나 함께 롤백됨
+ *   → POST /schedules/batch 처럼 수천 건을 바꿔도 INSERT 는 배치 몇 번
+ * - 일괄 삭제(CascadePurger)는 지운 일정/댓글 id 마다 삭제 기록을 남김
+ *   (삭제되는 일정에 달린 댓글은 따로 기록하지 않음. 클라이언트는 일정 삭제 기록을 받으면 그 댓글도 함께 지울 것)
+ * - JdbcTemplate 은 JpaTransactionManager 가 열어 둔 같은 커넥션을 사용함
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeJournalWriter {
+
+    private static final String INSERT_SQL =
+            "insert into change_journal (entity_type, entity_id, operation, recorded_at) values (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        record(ChangeJournal.EntityType.SCHEDULE, event.getScheduleId(),
+                event.getType() == ScheduleChangedEvent.Type.DELETED);
+    }
+
+    @EventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        record(ChangeJournal.EntityType.COMMENT, event.getComment().getId(),
+                event.getType() == CommentChangedEvent.Type.DELETED);
+    }
+
+    @EventListener
+    public void onSchedulesPurged(SchedulesPurgedEvent event) {
+        event.getScheduleIds().forEach(id -> record(ChangeJournal.EntityType.SCHEDULE, id, true));
+    }
+
+    @EventListener
+    public void onCommentsPurged(CommentsPurgedEvent event) {
+        event.getCommentIds().forEach(id -> record(ChangeJournal.EntityType.COMMENT, id, true));
+    }
+
+    private void record(ChangeJournal.EntityType type, Long entityId, boolean deleted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("변경 기록은 트랜잭션 안에서만 남길 수 있습니다.");
+        }
+        Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new Buffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.rows.add(new Object[]{type.name(), entityId,
+                (deleted ? ChangeJournal.Operation.DELETE : ChangeJournal.Operation.UPSERT).name()});
+    }
+
+    /**
+     * 트랜잭션 하나 동안 모은 변경 기록
+     */
+    private final class Buffer implements TransactionSynchronization {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 기록 시각은 커밋 직전 시각 (GET /sync 의 settle-lag 판단 기준)
+            Timestamp recordedAt = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+                ps.setString(1, (String) row[0]);
+                ps.setLong(2, (Long) row[1]);
+                ps.setString(3, (String) row[2]);
+                ps.setTimestamp(4, recordedAt);
+            });
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeJournalWriter.this);
+        }
+    }
+}
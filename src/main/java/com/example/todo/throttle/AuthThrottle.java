@@ -0,0 +1,75 @@
+package com.example.todo.throttle;
+
+import com.example.todo.dto.ThrottleStatsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인(POST /auth/login)과 회원가입(POST /users) 요청 제한
+ * - 두 요청 모두 BCrypt 계산(수십 ms)으로 이어지므로, 같은 IP 나 같은 이메일/사용자명으로 반복되는 시도를
+ *   DB 조회나 해시 계산 전에 거절해서 대입 공격(credential stuffing)이 CPU 고갈로 번지지 않게 함
+ * - IP 별 버킷과 계정(이메일/사용자명)별 버킷을 따로 두고, 둘 다 토큰이 있어야 통과
+ *   (여러 IP 로 한 계정을 노리는 경우와 한 IP 에서 여러 계정을 노리는 경우를 각각 막음)
+ *
+ * 요청 검사는 AuthThrottleFilter 가 하고, 이 빈은 버킷과 통계를 가짐
+ */
+@Component
+public class AuthThrottle {
+
+    // 버킷 하나가 차지하는 대략의 힙 크기 (캐시 노드 + 버킷 객체 + 키 문자열)
+    // 20글자 안팎의 키로 10만 개를 넣고 GC 후 힙 증가량을 재면 165~173 바이트
+    static final long BYTES_PER_BUCKET = 170;
+
+    private final boolean enabled;
+    private final TokenBucketLimiter byIp;
+    private final TokenBucketLimiter byIdentity;
+
+    public AuthThrottle(@Value("${app.throttle.enabled:true}") boolean enabled,
+                        @Value("${app.throttle.max-keys:100000}") long maxKeys,
+                        @Value("${app.throttle.idle-timeout:PT15M}") Duration idleTimeout,
+                        @Value("${app.throttle.ip.capacity:20}") int ipCapacity,
+                        @Value("${app.throttle.ip.refill-interval:PT3S}") Duration ipRefill,
+                        @Value("${app.throttle.identity.capacity:5}") int identityCapacity,
+                        @Value("${app.throttle.identity.refill-interval:PT1M}") Duration identityRefill) {
+        this.enabled = enabled;
+        this.byIp = new TokenBucketLimiter("ip", ipCapacity, ipRefill, maxKeys, idleTimeout);
+        this.byIdentity = new TokenBucketLimiter("identity", identityCapacity, identityRefill, maxKeys, idleTimeout);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 한 건 허용 여부
+     *
+     * @param ip 클라이언트 IP
+     * @param identity 이메일 또는 사용자명 (본문에 없으면 null → IP 버킷만 검사)
+     * @return 0 이면 허용, 양수면 거절이고 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(String ip, String identity) {
+        long now = System.nanoTime();
+        long wait = byIp.tryAcquire(ip, now);
+        if (wait > 0 || identity == null || identity.isBlank()) {
+            return wait;
+        }
+        return byIdentity.tryAcquire(identity.trim().toLowerCase(Locale.ROOT), now);
+    }
+
+    /**
+     * 버킷 종류별 통계 (GET /stats/throttle)
+     */
+    public List<ThrottleStatsDto> stats() {
+        return List.of(toDto(byIp), toDto(byIdentity));
+    }
+
+    private static ThrottleStatsDto toDto(TokenBucketLimiter limiter) {
+        long size = limiter.size();
+        return new ThrottleStatsDto(limiter.getName(), size, size * BYTES_PER_BUCKET,
+                limiter.allowedCount(), limiter.rejectedCount());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.todo.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키(이메일, IP 등)별 토큰 버킷
+ * - 키마다 최대 capacity 개의 토큰, refillInterval 마다 1개씩 다시 채워짐. 요청 한 번에 토큰 1개 사용
+ * - 버킷 저장소는 Caffeine (내부적으로 구간을 나눠 잠그는 ConcurrentHashMap 기반)
+ *   최대 maxKeys 개까지만 보관하고, idleTimeout 동안 안 쓰인 버킷은 자동 제거
+ *   → 제거된 키가 다시 오면 가득 찬 버킷으로 시작하므로, idleTimeout 은 버킷이 다 차는 시간(capacity × refillInterval)보다 길게 둘 것
+ * - 버킷 하나의 갱신은 그 버킷 객체에서만 동기화 (다른 키와 경합 없음)
+ */
+public class TokenBucketLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final long refillNanos;
+    private final Cache<String, Bucket> buckets;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public TokenBucketLimiter(String name, int capacity, Duration refillInterval, long maxKeys, Duration idleTimeout) {
+        if (capacity < 1 || refillInterval.isZero() || refillInterval.isNegative()) {
+            throw new IllegalArgumentException(name + ": capacity 는 1 이상, refill-interval 은 0 보다 커야 합니다.");
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.refillNanos = refillInterval.toNanos();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @return 0 이면 허용, 양수면 거절이고 다음 토큰까지 남은 나노초
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        Bucket bucket = buckets.get(key, k -> new Bucket(capacity, nowNanos));
+        long wait = bucket.tryAcquire(nowNanos, capacity, refillNanos);
+        if (wait == 0) {
+            allowed.increment();
+        } else {
+            rejected.increment();
+        }
+        return wait;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 보관 중인 버킷 수 (근사치, 만료 처리 전인 항목 포함)
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    public long allowedCount() {
+        return allowed.sum();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 버킷 하나 (남은 토큰 수, 마지막으로 채운 시각)
+     */
+    private static final class Bucket {
+        private long tokens;
+        private long refilledAt;
+
+        Bucket(long tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryAcquire(long now, int capacity, long refillNanos) {
+            long elapsed = now - refilledAt;
+            if (elapsed >= refillNanos) {
+                long added = elapsed / refillNanos;
+                if (tokens + added >= capacity) {
+                    tokens = capacity;
+                    refilledAt = now;
+                } else {
+                    tokens += added;
+                    refilledAt += added * refillNanos; // 채우고 남은 시간은 다음 토큰 몫으로 유지
+                }
+            }
+            if (tokens > 0) {
+                tokens--;
+                return 0;
+            }
+            return refillNanos - (now - refilledAt);
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package org.example.schedulerapp;
+package com.example.todo;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -0,0 +1,92 @@
+package com.example.todo.auth;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthTokensTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final AuthTokens tokens = new AuthTokens(SECRET, Duration.ofHours(1));
+
+    @Test
+    void issuedTokenVerifiesAtOffset() {
+        String token = tokens.issue(123456789L);
+        assertThat(token).hasSize(AuthTokens.TOKEN_LENGTH);
+        assertThat(tokens.verify(token, 0)).isEqualTo(123456789L);
+        assertThat(tokens.verify("Bearer " + token, 7)).isEqualTo(123456789L);
+    }
+
+    @Test
+    void signatureIsStandardHmacSha256() throws Exception {
+        String token = tokens.issue(99L);
+        byte[] payload = Base64.getUrlDecoder().decode(token.substring(0, 22));
+        byte[] signature = Base64.getUrlDecoder().decode(token.substring(23));
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        assertThat(Arrays.equals(mac.doFinal(payload), signature)).isTrue();
+    }
+
+    @Test
+    void issuedAtIsExpiryMinusTtl() {
+        long expiresAt = System.currentTimeMillis() / 1000 + 1800;
+        String token = tokens.issue(Long.MAX_VALUE, expiresAt);
+        assertThat(tokens.issuedAt("Bearer " + token, 7)).isEqualTo(expiresAt - 3600);
+    }
+
+    @Test
+    void rejectsTamperedForeignAndExpiredTokens() {
+        String token = tokens.issue(42L);
+        char last = token.charAt(10);
+        String tampered = token.substring(0, 10) + (last == 'A' ? 'B' : 'A') + token.substring(11);
+        assertThat(tokens.verify(tampered, 0)).isEqualTo(-1);
+
+        AuthTokens other = new AuthTokens(SECRET.replace('0', 'x'), Duration.ofHours(1));
+        assertThat(other.verify(token, 0)).isEqualTo(-1);
+
+        String expired = tokens.issue(42L, System.currentTimeMillis() / 1000 - 1);
+        assertThat(tokens.verify(expired, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void verifiesConcurrentlyOnVirtualThreads() throws Exception {
+        List<String> issued = new ArrayList<>();
+        List<Future<Long>> verified = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 0; userId < 2000; userId++) {
+                long id = userId;
+                Future<String> token = executor.submit(() -> tokens.issue(id));
+                issued.add(token.get());
+            }
+            for (String token : issued) {
+                verified.add(executor.submit(() -> tokens.verify(token, 0)));
+            }
+            for (int i = 0; i < verified.size(); i++) {
+                assertThat(verified.get(i).get()).isEqualTo((long) i);
+            }
+        }
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        String token = tokens.issue(7L);
+        assertThat(tokens.verify(null, 0)).isEqualTo(-1);
+        assertThat(tokens.verify(token.substring(1), 0)).isEqualTo(-1);
+        assertThat(tokens.verify(token.replace('.', '_'), 0)).isEqualTo(-1);
+        assertThat(tokens.verify(token.substring(0, 65) + "!", 0)).isEqualTo(-1);
+    }
+}
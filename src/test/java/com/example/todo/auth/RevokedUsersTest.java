@@ -0,0 +1,52 @@
+package com.example.todo.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedUsersTest {
+
+    // 사용자 조회 대신: 조회한 id 를 기록하고, 사용자 3 만 삭제된 것으로 답함
+    private final List<Long> lookups = new ArrayList<>();
+    private final RevokedUsers revokedUsers = new RevokedUsers(userId -> {
+        lookups.add(userId);
+        return userId != 3L;
+    }, Duration.ofHours(1), 2);
+    private final long now = System.currentTimeMillis() / 1000;
+
+    @Test
+    void tokensIssuedSinceStartAreCheckedInMemoryOnly() {
+        revokedUsers.revoke(2L);
+
+        assertThat(revokedUsers.isActive(1L, now)).isTrue();
+        assertThat(revokedUsers.isActive(2L, now)).isFalse();
+        assertThat(lookups).isEmpty();
+    }
+
+    @Test
+    void tokensIssuedBeforeStartFallBackToLookup() {
+        assertThat(revokedUsers.isActive(1L, now - 60)).isTrue();
+        assertThat(revokedUsers.isActive(3L, now - 60)).isFalse();
+        assertThat(lookups).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void overflowMakesOlderTokensFallBackToLookup() throws Exception {
+        long before = now;
+        Thread.sleep(1100);
+
+        // 최대 2명 → 세 번째에서 한 명이 밀려남 (밀려난 사용자의 예전 토큰은 목록만으로 거절할 수 없음)
+        for (long userId = 10; userId < 13; userId++) {
+            revokedUsers.revoke(userId);
+        }
+
+        assertThat(revokedUsers.isActive(1L, before)).isTrue();
+        assertThat(lookups).containsExactly(1L);
+        assertThat(revokedUsers.isActive(1L, System.currentTimeMillis() / 1000)).isTrue();
+        assertThat(lookups).containsExactly(1L);
+    }
+}
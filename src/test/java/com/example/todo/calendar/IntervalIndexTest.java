@@ -0,0 +1,55 @@
+package com.example.todo.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalIndexTest {
+
+    @Test
+    void findsIntervalsOverlappingHalfOpenRangeInStartOrder() {
+        IntervalIndex index = IntervalIndex.of(
+                new long[]{1, 2, 3, 4},
+                new long[]{10, 0, 20, 5},
+                new long[]{20, 100, 30, 10});
+
+        // [10, 20): 1(10~20), 2(0~100) 겹침 / 3 은 20 에 시작, 4 는 10 에 끝나므로 제외
+        assertThat(index.overlapping(10, 20)).containsExactly(2, 1);
+        assertThat(index.overlapping(100, 200)).isEmpty();
+    }
+
+    @Test
+    void matchesBruteForceAfterRandomUpdates() {
+        Random random = new Random(7);
+        IntervalIndex index = IntervalIndex.EMPTY;
+        List<long[]> live = new ArrayList<>(); // {id, start, end}
+
+        for (int step = 0; step < 2000; step++) {
+            long id = random.nextInt(300);
+            live.removeIf(e -> e[0] == id);
+            if (random.nextInt(4) == 0) {
+                index = index.without(id);
+            } else {
+                long start = random.nextInt(10_000);
+                long end = start + 1 + random.nextInt(random.nextBoolean() ? 50 : 3000);
+                index = index.with(id, start, end);
+                live.add(new long[]{id, start, end});
+            }
+
+            long from = random.nextInt(10_000);
+            long to = from + 1 + random.nextInt(500);
+            long[] expected = live.stream()
+                    .filter(e -> e[1] < to && e[2] > from)
+                    .sorted(Comparator.<long[]>comparingLong(e -> e[1]).thenComparingLong(e -> e[0]))
+                    .mapToLong(e -> e[0])
+                    .toArray();
+            assertThat(index.overlapping(from, to)).containsExactly(expected);
+        }
+        assertThat(index.size()).isEqualTo(live.size());
+    }
+}
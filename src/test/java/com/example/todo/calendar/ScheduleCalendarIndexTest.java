@@ -0,0 +1,66 @@
+package com.example.todo.calendar;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.repository.ScheduleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScheduleCalendarIndexTest {
+
+    @Test
+    void encodeKeepsOrderForFarFutureAndPastDates() {
+        List<LocalDateTime> times = List.of(
+                LocalDateTime.MIN,
+                LocalDateTime.of(-300_000, 1, 1, 0, 0),
+                LocalDateTime.of(1970, 1, 1, 0, 0),
+                LocalDateTime.of(2262, 4, 12, 0, 0),
+                LocalDateTime.of(2263, 1, 1, 0, 0),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_000),
+                LocalDateTime.of(300_000, 1, 1, 0, 0),
+                LocalDateTime.MAX);
+
+        for (int i = 1; i < times.size(); i++) {
+            assertThat(ScheduleCalendarIndex.encode(times.get(i)))
+                    .as("%s < %s", times.get(i - 1), times.get(i))
+                    .isGreaterThanOrEqualTo(ScheduleCalendarIndex.encode(times.get(i - 1)));
+        }
+        // 표현 가능한 범위 안에서는 마이크로초 단위로 구분됨
+        assertThat(ScheduleCalendarIndex.encode(LocalDateTime.of(2300, 1, 1, 0, 0, 0, 1_000)))
+                .isGreaterThan(ScheduleCalendarIndex.encode(LocalDateTime.of(2300, 1, 1, 0, 0)));
+        assertThat(ScheduleCalendarIndex.encode(LocalDateTime.of(2300, 1, 1, 0, 0))).isPositive();
+    }
+
+    @Test
+    void changeCommittedWhileLoadingIsAppliedAfterTheLoad() {
+        LocalDateTime nine = LocalDateTime.of(2025, 3, 1, 9, 0);
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        ScheduleCalendarIndex index = new ScheduleCalendarIndex(scheduleRepository, 100, Duration.ofMinutes(10));
+        Schedule created = schedule(2L, nine.plusHours(1), nine.plusHours(2));
+
+        // 색인을 만드는 쿼리가 1번만 읽은 뒤, 그 쿼리가 못 본 2번 생성이 커밋되어 이벤트가 들어옴
+        when(scheduleRepository.findIntervalsByUserId(1L)).thenAnswer(invocation -> {
+            index.onScheduleChanged(new ScheduleChangedEvent(ScheduleChangedEvent.Type.CREATED, created));
+            return List.of(new ScheduleInterval(1L, nine, nine.plusHours(1)));
+        });
+
+        assertThat(index.findOverlapping(1L, nine, nine.plusDays(1))).containsExactly(1L, 2L);
+    }
+
+    private static Schedule schedule(Long id, LocalDateTime startAt, LocalDateTime endAt) {
+        User user = new User("calendar", "calendar@example.com", "password");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Schedule schedule = Schedule.builder().title("t").content("c").user(user).startAt(startAt).endAt(endAt).build();
+        ReflectionTestUtils.setField(schedule, "id", id);
+        return schedule;
+    }
+}
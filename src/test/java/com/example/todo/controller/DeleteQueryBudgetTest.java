@@ -0,0 +1,82 @@
+package com.example.todo.controller;
+
+import com.example.todo.domain.Comment;
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.repository.CommentRepository;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * DELETE /users/{id}, DELETE /schedules/{id} 는 요청 스레드에서 CascadePurger 의 묶음 삭제를 실행하므로
+ * SQL 예산 검사에서 빠져 있어야 함 (fail 모드, 작은 예산과 chunk-size 로 같은 SQL 이 여러 번 반복되게 만듦)
+ */
+@SpringBootTest(properties = {
+        "app.query-budget.mode=fail",
+        "app.query-budget.per-request=5",
+        "app.query-budget.repeat-threshold=2",
+        "app.purge.chunk-size=2"
+})
+@AutoConfigureMockMvc
+class DeleteQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deleteScheduleRunsOutsideTheQueryBudget() throws Exception {
+        User user = userRepository.save(new User("budget-schedule", "budget-schedule@example.com", "password"));
+        Schedule schedule = scheduleWithComments(user, 7);
+
+        mockMvc.perform(delete("/schedules/{id}", schedule.getId()).sessionAttr("userId", user.getId()))
+                .andExpect(status().isOk());
+
+        assertThat(count("select count(*) from schedule where id = ?", schedule.getId())).isZero();
+        assertThat(count("select count(*) from comment where schedule_id = ?", schedule.getId())).isZero();
+    }
+
+    @Test
+    void deleteUserRunsOutsideTheQueryBudget() throws Exception {
+        User user = userRepository.save(new User("budget-user", "budget-user@example.com", "password"));
+        for (int i = 0; i < 5; i++) {
+            scheduleWithComments(user, 3);
+        }
+
+        mockMvc.perform(delete("/users/{id}", user.getId()).sessionAttr("userId", user.getId()))
+                .andExpect(status().isOk());
+
+        assertThat(count("select count(*) from users where id = ?", user.getId())).isZero();
+        assertThat(count("select count(*) from schedule where user_id = ?", user.getId())).isZero();
+        assertThat(count("select count(*) from comment where user_id = ?", user.getId())).isZero();
+    }
+
+    private Schedule scheduleWithComments(User user, int comments) {
+        Schedule schedule = scheduleRepository.save(Schedule.builder().title("예산").content("내용").user(user).build());
+        for (int i = 0; i < comments; i++) {
+            commentRepository.save(Comment.builder().content("댓글").user(user).schedule(schedule).build());
+        }
+        return schedule;
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+}
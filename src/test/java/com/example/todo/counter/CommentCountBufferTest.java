@@ -0,0 +1,111 @@
+package com.example.todo.counter;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommentCountBufferTest {
+
+    private static final int THREADS = 4;
+    private static final int ROUNDS = 20_000;
+    private static final long SCHEDULES = 8;
+
+    // UPDATE 대신 일정별로 반영된 증감분 합계를 모음
+    private final Map<Long, AtomicLong> written = new ConcurrentHashMap<>();
+    private final CommentCountBuffer buffer = newBuffer();
+
+    @Test
+    void concurrentAddsAndFlushesApplyEveryDeltaExactlyOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+        List<Thread> adders = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < ROUNDS; i++) {
+                    long scheduleId = i % SCHEDULES;
+                    // +1/-1 쌍으로 값을 0 근처에 두어 flush 가 카운터를 자주 맵에서 빼게 만듦
+                    buffer.add(scheduleId, 1);
+                    buffer.add(scheduleId, -1);
+                    buffer.add(scheduleId, 1);
+                }
+            });
+            thread.start();
+            adders.add(thread);
+        }
+        Thread flusher = new Thread(() -> {
+            await(start);
+            while (adding.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        start.countDown();
+        for (Thread thread : adders) {
+            thread.join();
+        }
+        adding.set(false);
+        flusher.join();
+        buffer.flush();
+
+        long perSchedule = (long) THREADS * ROUNDS / SCHEDULES;
+        for (long scheduleId = 0; scheduleId < SCHEDULES; scheduleId++) {
+            assertThat(written.get(scheduleId)).as("schedule %d", scheduleId).hasValue(perSchedule);
+        }
+        // 증감분이 0 인 카운터는 다음 flush 에서 맵에서 빠짐
+        buffer.flush();
+        for (long scheduleId = 0; scheduleId < SCHEDULES; scheduleId++) {
+            assertThat(buffer.hasPending(scheduleId)).isFalse();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CommentCountBuffer newBuffer() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Object[]> rows = invocation.getArgument(1);
+                    for (Object[] row : rows) {
+                        written.computeIfAbsent((Long) row[1], id -> new AtomicLong()).addAndGet((Long) row[0]);
+                    }
+                    return new int[0][];
+                });
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+        return new CommentCountBuffer(jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                entityManagerFactory,
+                mock(ApplicationEventPublisher.class));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.todo.etag;
+
+import com.example.todo.domain.Comment;
+import com.example.todo.domain.Schedule;
+import com.example.todo.event.CommentChangedEvent;
+import com.example.todo.event.ScheduleChangedEvent;
+import com.example.todo.repository.CommentRepository;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CollectionETagsTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 1, 1, 9, 0, 0);
+    private static final LocalDateTime T2 = T1.plusSeconds(1);
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final CollectionETags etags = new CollectionETags(scheduleRepository, commentRepository, userRepository,
+            100, Duration.ofMinutes(10));
+
+    @Test
+    void changeCommittedAfterANewerOneStillChangesTheETag() {
+        // B(updated_at=t2) 가 먼저 커밋되어 집계에 반영된 상태
+        when(scheduleRepository.findFingerprint()).thenReturn(new Fingerprint(2L, T2));
+        when(commentRepository.findFingerprint()).thenReturn(new Fingerprint(0L, null));
+        when(userRepository.findFingerprint()).thenReturn(new Fingerprint(1L, T1));
+        String before = etags.schedules(null, 20);
+
+        // 그 뒤에 A(updated_at=t1 < t2) 가 커밋 → 행 수도 최대 시각도 그대로지만 ETag 는 달라져야 함
+        etags.onScheduleChanged(new ScheduleChangedEvent(ScheduleChangedEvent.Type.UPDATED, schedule(1L, T1)));
+        String after = etags.schedules(null, 20);
+
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void perScheduleCommentETagChangesOnOutOfOrderCommit() {
+        Schedule schedule = schedule(7L, T2);
+        when(commentRepository.findFingerprintByScheduleId(7L)).thenReturn(new Fingerprint(3L, T2));
+        String before = etags.comments(7L, null, 20);
+
+        etags.onCommentChanged(new CommentChangedEvent(CommentChangedEvent.Type.UPDATED, comment(schedule, T1)));
+
+        assertThat(etags.comments(7L, null, 20)).isNotEqualTo(before);
+    }
+
+    @Test
+    void reseedingWithTheSameAggregateDoesNotReuseAnOldETag() {
+        // 캐시에서 밀려난 뒤 같은 집계 결과로 다시 시드해도 예전 ETag 로 돌아가지 않음
+        Fingerprint first = new Fingerprint(2L, T2);
+        Fingerprint second = new Fingerprint(2L, T2);
+        assertThat(second.value()).isNotEqualTo(first.value());
+    }
+
+    private static Schedule schedule(Long id, LocalDateTime updatedAt) {
+        Schedule schedule = Schedule.builder().title("t").content("c").build();
+        ReflectionTestUtils.setField(schedule, "id", id);
+        ReflectionTestUtils.setField(schedule, "updatedAt", updatedAt);
+        return schedule;
+    }
+
+    private static Comment comment(Schedule schedule, LocalDateTime updatedAt) {
+        Comment comment = Comment.builder().content("c").schedule(schedule).build();
+        ReflectionTestUtils.setField(comment, "updatedAt", updatedAt);
+        return comment;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.todo.filter;
+
+import com.example.todo.throttle.AuthThrottle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthThrottleFilterTest {
+
+    private final AuthThrottle authThrottle = mock(AuthThrottle.class);
+    private final AuthThrottleFilter filter = new AuthThrottleFilter(authThrottle, new ObjectMapper());
+
+    @Test
+    void passedBodyCanBeReadWithReadListener() throws Exception {
+        when(authThrottle.isEnabled()).thenReturn(true);
+        when(authThrottle.tryAcquire(any(), any())).thenReturn(0L);
+        String body = "{\"email\":\"a@example.com\",\"password\":\"pw\"}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // 비동기 읽기(ReadListener)로도 읽어 둔 본문을 그대로 받음
+        ServletRequest passed = chain.getRequest();
+        ServletInputStream in = passed.getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("onDataAvailable");
+                byte[] buffer = new byte[16];
+                int n;
+                while (in.isReady() && (n = in.read(buffer)) != -1) {
+                    read.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("onAllDataRead");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("onError");
+            }
+        });
+
+        assertThat(calls).containsExactly("onDataAvailable", "onAllDataRead");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+}
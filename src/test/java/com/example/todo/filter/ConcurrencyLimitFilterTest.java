@@ -0,0 +1,58 @@
+package com.example.todo.filter;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    // 일반 요청 1건, 로그인/회원가입 1건, 최대 0.2초 대기
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 1, Duration.ofMillis(200));
+
+    @Test
+    void rejectsWith503WhenNoPermitFreesUpInTime() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(10, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/schedules"), new MockHttpServletResponse(), blocking);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(10, SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/schedules"), rejected, new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+
+        // 로그인은 따로 센 자리를 씀 (일반 요청이 가득 차도 처리)
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/auth/login"), login, new MockFilterChain());
+        assertThat(login.getStatus()).isEqualTo(200);
+
+        // 앞 요청이 끝나면 반납된 자리로 처리
+        release.countDown();
+        first.join(10_000);
+        MockHttpServletResponse passed = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/schedules"), passed, new MockFilterChain());
+        assertThat(passed.getStatus()).isEqualTo(200);
+    }
+}
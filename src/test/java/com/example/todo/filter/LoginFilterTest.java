@@ -0,0 +1,48 @@
+package com.example.todo.filter;
+
+import com.example.todo.auth.AuthTokens;
+import com.example.todo.auth.RevokedUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginFilterTest {
+
+    private final AuthTokens tokens = new AuthTokens("0123456789abcdef0123456789abcdef", Duration.ofHours(1));
+    private final RevokedUsers revokedUsers = new RevokedUsers(userId -> {
+        throw new AssertionError("서버 시작 후 발급된 토큰은 사용자 조회 없이 확인해야 함");
+    }, Duration.ofHours(1), 100);
+    private final LoginFilter filter = new LoginFilter(tokens, revokedUsers);
+
+    @Test
+    void acceptsTokenOfExistingUser() throws Exception {
+        MockHttpServletRequest request = request(tokens.issue(1L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(request.getAttribute("userId")).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectsValidTokenOfDeletedUser() throws Exception {
+        revokedUsers.revoke(2L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(tokens.issue(2L)), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.todo.ingest;
+
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class CommentGroupCommitterTest {
+
+    @Test
+    void requestsLeftInTheQueueFailWhenTheWriterDoesNotFinishInTime() throws Exception {
+        // 첫 묶음의 커밋이 끝나지 않는 상황 (DB 가 응답하지 않음)
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        CommentGroupCommitter committer = new CommentGroupCommitter(mock(UserRepository.class),
+                mock(ScheduleRepository.class), mock(EntityManager.class), transactionTemplate,
+                mock(ApplicationEventPublisher.class), 1, Duration.ZERO, 100, Duration.ofMillis(200));
+        try {
+            committer.submit(request("커밋 중"));
+            assertThat(entered.await(5, SECONDS)).isTrue();
+            List<CompletableFuture<CommentResponseDto>> queued = List.of(
+                    committer.submit(request("대기 1")), committer.submit(request("대기 2")));
+
+            committer.stop();
+
+            for (CompletableFuture<CommentResponseDto> future : queued) {
+                assertThat(future).isCompletedExceptionally();
+                assertThat(future.exceptionNow()).isInstanceOf(RejectedExecutionException.class);
+            }
+            assertThat(committer.queued()).isZero();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static CommentRequestDto request(String content) {
+        return new ObjectMapper().convertValue(Map.of("content", content, "userId", 1L, "scheduleId", 1L),
+                CommentRequestDto.class);
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.todo.purge;
+
+import com.example.todo.counter.CommentCountBuffer;
+import com.example.todo.domain.Comment;
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.event.CommentsPurgedEvent;
+import com.example.todo.query.QueryCounter;
+import com.example.todo.query.QueryScope;
+import com.example.todo.repository.CommentRepository;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.service.CommentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 묶음 삭제, 댓글 수 보정 이벤트, 요청 스레드와 백그라운드 작업의 중복 방지 확인 (chunk-size 3)
+ */
+@SpringBootTest(properties = {
+        "app.purge.chunk-size=3",
+        "app.purge.interval=PT1H"
+})
+class CascadePurgerTest {
+
+    @Autowired
+    private CascadePurger cascadePurger;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentCountBuffer commentCountBuffer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PurgeBlocker purgeBlocker;
+
+    @Test
+    void deleteUserRemovesRowsInChunksAndCorrectsCommentCounts() {
+        User other = userRepository.save(new User("purge-other", "purge-other@example.com", "password"));
+        Schedule otherSchedule = scheduleRepository.save(schedule(other, "남의 일정"));
+        User user = userRepository.save(new User("purge-target", "purge-target@example.com", "password"));
+
+        // 지울 사용자가 남의 일정에 단 댓글 5건 (댓글 수 +5)
+        for (int i = 0; i < 5; i++) {
+            commentService.createComment(comment(user, otherSchedule));
+        }
+        // 지울 사용자의 일정 7개, 각각 남이 단 댓글 2건
+        List<Long> scheduleIds = new ArrayList<>();
+        List<Long> commentIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Schedule schedule = scheduleRepository.save(schedule(user, "일정 " + i));
+            scheduleIds.add(schedule.getId());
+            for (int j = 0; j < 2; j++) {
+                commentIds.add(commentRepository.save(
+                        Comment.builder().content("댓글").user(other).schedule(schedule).build()).getId());
+            }
+        }
+        commentCountBuffer.flush();
+        assertThat(commentCount(otherSchedule)).isEqualTo(5);
+
+        try (QueryScope scope = QueryCounter.capture("deleteUser")) {
+            cascadePurger.deleteUser(user.getId());
+
+            // 댓글: 작성자 기준 5건(3+2) + 일정 묶음(3개, 3개, 1개)별 6·6·2건(3+3, 3+3, 2)
+            assertThat(statements(scope, "delete from comment where id in")).isEqualTo(2 + 2 + 2 + 1);
+            assertThat(statements(scope, "delete from schedule where id in")).isEqualTo(3);
+            assertThat(statements(scope, "delete from users where id")).isEqualTo(1);
+        }
+
+        assertThat(count("select count(*) from users where id = ?", user.getId())).isZero();
+        assertThat(count("select count(*) from schedule where user_id = ?", user.getId())).isZero();
+        assertThat(count("select count(*) from comment where user_id = ?", user.getId())).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from comment where schedule_id in (" + placeholders(scheduleIds.size()) + ")",
+                Long.class, scheduleIds.toArray())).isZero();
+
+        // 일정과 함께 지워진 댓글도 변경 기록에 삭제로 남음 (동기화 클라이언트가 지울 수 있도록)
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(distinct entity_id) from change_journal where entity_type = 'COMMENT' and operation = 'DELETE'"
+                        + " and entity_id in (" + placeholders(commentIds.size()) + ")",
+                Long.class, commentIds.toArray())).isEqualTo(commentIds.size());
+
+        // CommentsPurgedEvent 의 일정 id 마다 -1 → 남의 일정 댓글 수가 다시 0
+        commentCountBuffer.flush();
+        assertThat(commentCount(otherSchedule)).isZero();
+    }
+
+    /**
+     * COMMENTS_BY_SCHEDULES 의 distinct 가 필요한 경우 재현 (앞 묶음을 지운 뒤 같은 일정 목록으로 다시 조회)
+     */
+    @Test
+    void commentsBySchedulesNeverReturnsTheSameCommentTwice() {
+        User user = userRepository.save(new User("purge-dup", "purge-dup@example.com", "password"));
+        List<Long> scheduleIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Schedule schedule = scheduleRepository.save(schedule(user, "일정 " + i));
+            scheduleIds.add(schedule.getId());
+            for (int j = 0; j < 2; j++) {
+                commentRepository.save(Comment.builder().content("댓글").user(user).schedule(schedule).build());
+            }
+        }
+        NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+        Map<String, Object> params = Map.of("ids", scheduleIds, "limit", 3);
+        String withoutDistinct = CascadePurger.COMMENTS_BY_SCHEDULES.replace("distinct ", "");
+
+        List<Long> first = named.query(withoutDistinct, params, (rs, rowNum) -> rs.getLong(1));
+        assertThat(first).doesNotHaveDuplicates();
+        named.update("delete from comment where id in (:ids)", Map.of("ids", first));
+
+        // 재현: distinct 없이는 남은 3건 대신 같은 id 가 두 번 들어간 3행
+        List<Long> duplicated = named.query(withoutDistinct, params, (rs, rowNum) -> rs.getLong(1));
+        assertThat(new HashSet<>(duplicated))
+                .as("H2 가 더 이상 중복 행을 돌려주지 않으면 distinct 와 이 재현 부분을 지워도 됨: %s", duplicated)
+                .hasSizeLessThan(duplicated.size());
+        assertThat(named.query(CascadePurger.COMMENTS_BY_SCHEDULES, params, (rs, rowNum) -> rs.getLong(1)))
+                .hasSize(3)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void backgroundPurgeSkipsUserBeingPurgedByRequestThread() throws Exception {
+        User other = userRepository.save(new User("purge-guard-other", "purge-guard-other@example.com", "password"));
+        Schedule otherSchedule = scheduleRepository.save(schedule(other, "남의 일정"));
+        User user = userRepository.save(new User("purge-guard", "purge-guard@example.com", "password"));
+        commentService.createComment(comment(user, otherSchedule));
+
+        // 요청 스레드가 작성자 댓글 묶음을 지우는 트랜잭션 안에서 멈춰 있는 동안 백그라운드 작업 실행
+        purgeBlocker.arm();
+        Thread request = new Thread(() -> cascadePurger.deleteUser(user.getId()));
+        request.start();
+        assertThat(purgeBlocker.entered.await(10, SECONDS)).isTrue();
+
+        try (QueryScope scope = QueryCounter.capture("purgePending")) {
+            cascadePurger.purgePending();
+            assertThat(scope.statementCounts().keySet())
+                    .noneMatch(sql -> sql.contains("from comment where user_id"))
+                    .noneMatch(sql -> sql.startsWith("delete from users"));
+        } finally {
+            purgeBlocker.release.countDown();
+        }
+        request.join(10_000);
+
+        assertThat(request.isAlive()).isFalse();
+        assertThat(count("select count(*) from users where id = ?", user.getId())).isZero();
+    }
+
+    private static Schedule schedule(User user, String title) {
+        return Schedule.builder().title(title).content("내용").user(user).build();
+    }
+
+    private CommentRequestDto comment(User user, Schedule schedule) {
+        return objectMapper.convertValue(
+                Map.of("content", "댓글", "userId", user.getId(), "scheduleId", schedule.getId()), CommentRequestDto.class);
+    }
+
+    private long commentCount(Schedule schedule) {
+        return count("select comment_count from schedule where id = ?", schedule.getId());
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    private static long statements(QueryScope scope, String prefix) {
+        return scope.statementCounts().entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * arm() 뒤 처음 발행되는 CommentsPurgedEvent 에서 (삭제 트랜잭션 안) release 될 때까지 멈춤
+     */
+    static class PurgeBlocker {
+        private final AtomicBoolean armed = new AtomicBoolean();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        void arm() {
+            armed.set(true);
+        }
+
+        @EventListener
+        public void onCommentsPurged(CommentsPurgedEvent event) throws InterruptedException {
+            if (armed.compareAndSet(true, false)) {
+                entered.countDown();
+                release.await(10, SECONDS);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class PurgeBlockerConfig {
+        @Bean
+        PurgeBlocker purgeBlocker() {
+            return new PurgeBlocker();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.todo.query;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCounterTest {
+
+    private static final String SELECT_USER = "select * from users where id = ?";
+    private static final String SELECT_SCHEDULE = "select * from schedule where id = ?";
+
+    @Test
+    void innerScopeStatementsAreCountedInOuterScope() {
+        try (QueryScope request = QueryCounter.capture("GET /schedules")) {
+            QueryCounter.record(SELECT_SCHEDULE);
+            try (QueryScope service = QueryCounter.capture("ScheduleService.getSchedules")) {
+                QueryCounter.record(SELECT_USER);
+                QueryCounter.record(SELECT_USER);
+                assertThat(service.statements()).isEqualTo(2);
+            }
+            QueryCounter.record(SELECT_SCHEDULE);
+
+            request.assertStatements(4).assertAtMost(4);
+            assertThat(request.repeatedStatements()).containsEntry(SELECT_USER, 2).containsEntry(SELECT_SCHEDULE, 2);
+            assertThatThrownBy(request::assertNoRepeatedStatements).isInstanceOf(AssertionError.class)
+                    .hasMessageContaining(SELECT_USER);
+        }
+        assertThat(QueryCounter.current()).isNull();
+    }
+
+    @Test
+    void statementsOutsideScopeAreIgnored() {
+        QueryCounter.record(SELECT_USER);
+        try (QueryScope scope = QueryCounter.capture("test")) {
+            scope.assertStatements(0);
+        }
+    }
+
+    @Test
+    void failFastRejectsStatementOverBudget() {
+        try (QueryScope scope = QueryCounter.open("PUT /schedules/{id}", 2, 0, true)) {
+            QueryCounter.record(SELECT_SCHEDULE);
+            QueryCounter.record(SELECT_USER);
+            assertThatThrownBy(() -> QueryCounter.record(SELECT_USER))
+                    .isInstanceOf(QueryBudgetExceededException.class)
+                    .hasMessageContaining("PUT /schedules/{id}");
+            assertThat(scope.isOverBudget()).isTrue();
+        }
+    }
+
+    @Test
+    void detectsRepeatedStatementAtThreshold() {
+        try (QueryScope scope = QueryCounter.open("GET /comments", 0, 3, false)) {
+            for (int i = 0; i < 2; i++) {
+                QueryCounter.record(SELECT_USER);
+            }
+            assertThat(scope.hasRepeatedStatements()).isFalse();
+            QueryCounter.record(SELECT_USER);
+            assertThat(scope.hasRepeatedStatements()).isTrue();
+            assertThat(scope.isOverBudget()).isFalse();
+        }
+        try (QueryScope scope = QueryCounter.open("GET /comments", 0, 3, true)) {
+            QueryCounter.record(SELECT_USER);
+            QueryCounter.record(SELECT_USER);
+            assertThatThrownBy(() -> QueryCounter.record(SELECT_USER))
+                    .isInstanceOf(QueryBudgetExceededException.class)
+                    .hasMessageContaining("N+1");
+        }
+    }
+
+    @Test
+    void closingOuterScopeAlsoDropsUnclosedInnerScope() {
+        QueryScope outer = QueryCounter.capture("outer");
+        QueryCounter.capture("inner");
+        outer.close();
+        assertThat(QueryCounter.current()).isNull();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.todo.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private final List<Long> fired = new ArrayList<>();
+
+    @Test
+    void firesOnlyAfterDeadlineIncludingLaterRounds() {
+        TimingWheel wheel = new TimingWheel(10, 8, 0); // 한 바퀴 = 80ms
+        wheel.schedule(1L, 25);
+        wheel.schedule(2L, 205); // 두 바퀴 넘게 남음 (같은 버킷)
+
+        wheel.advance(20, (id, deadline) -> fired.add(id));
+        assertThat(fired).isEmpty();
+
+        wheel.advance(30, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(1L);
+
+        wheel.advance(200, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(1L);
+
+        wheel.advance(210, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(1L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void rescheduleReplacesAndCancelRemoves() {
+        TimingWheel wheel = new TimingWheel(10, 8, 0);
+        wheel.schedule(1L, 15);
+        wheel.schedule(2L, 15);
+        wheel.schedule(1L, 500);
+        assertThat(wheel.cancel(2L)).isTrue();
+        assertThat(wheel.cancel(2L)).isFalse();
+
+        wheel.advance(100, (id, deadline) -> fired.add(id));
+        assertThat(fired).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        wheel.advance(510, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(1L);
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        TimingWheel wheel = new TimingWheel(10, 8, 0);
+        wheel.advance(1000, (id, deadline) -> fired.add(id));
+        wheel.schedule(7L, 5);
+
+        wheel.advance(1010, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(7L);
+    }
+
+    @Test
+    void keepsIndexConsistentUnderManyInsertsAndRemoves() {
+        TimingWheel wheel = new TimingWheel(1, 64, 0);
+        for (long id = 0; id < 10_000; id++) {
+            wheel.schedule(id, 1 + id % 1000);
+        }
+        for (long id = 0; id < 10_000; id += 2) {
+            wheel.cancel(id);
+        }
+        assertThat(wheel.size()).isEqualTo(5_000);
+
+        wheel.advance(2000, (id, deadline) -> fired.add(id));
+        assertThat(fired).hasSize(5_000).allMatch(id -> id % 2 == 1);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.todo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void tokenizesKoreanAsBigramsAndEnglishAsWords() {
+        assertThat(SearchTokenizer.tokenize("주간회의를 Spring Boot3 로"))
+                .containsExactly("주간", "간회", "회의", "의를", "spring", "boot3", "로");
+    }
+
+    @Test
+    void matchesSingleSyllableQueryInsideLongerWords() {
+        assertThat(SearchTokenizer.tokenizeDocument("회의를"))
+                .containsExactly("회의", "의를", "회", "의", "를");
+
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(1L, "주간회의를", "안건");
+        index.upsert(2L, "점심", "약속");
+
+        assertThat(index.search("회", 10)).extracting(InvertedIndex.Hit::getId).containsExactly(1L);
+        assertThat(index.search("회의", 10)).extracting(InvertedIndex.Hit::getId).containsExactly(1L);
+    }
+
+    @Test
+    void deletedDocumentsDoNotCountTowardDocumentFrequency() {
+        InvertedIndex withDeletes = new InvertedIndex();
+        InvertedIndex fresh = new InvertedIndex();
+        for (InvertedIndex index : List.of(withDeletes, fresh)) {
+            index.upsert(1L, "weekly meeting", "agenda");
+            index.upsert(2L, "lunch", "noodles");
+            index.upsert(3L, "gym", "legs");
+        }
+        // 압축 기준(1024건)보다 적게 지워서 죽은 포스팅이 남아 있는 상태
+        for (long id = 100; id < 200; id++) {
+            withDeletes.upsert(id, "meeting", "meeting");
+            withDeletes.remove(id);
+        }
+
+        float expected = fresh.search("meeting", 1).get(0).getScore();
+        assertThat(withDeletes.search("meeting", 1).get(0).getScore()).isEqualTo(expected);
+    }
+
+    @Test
+    void ranksTitleMatchesAboveContentMatches() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(1L, "점심 약속", "회의 끝나고 점심");
+        index.upsert(2L, "주간 회의", "안건 정리");
+        index.upsert(3L, "운동", "헬스장");
+
+        List<InvertedIndex.Hit> hits = index.search("회의", 10);
+
+        assertThat(hits).extracting(InvertedIndex.Hit::getId).containsExactly(2L, 1L);
+        assertThat(hits.get(0).getTitle()).isEqualTo("주간 회의");
+    }
+
+    @Test
+    void reflectsUpdatesAndDeletes() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(1L, "weekly meeting", "agenda");
+        index.upsert(2L, "lunch", "meeting after lunch");
+
+        index.upsert(1L, "weekly review", "agenda");
+        index.remove(2L);
+
+        assertThat(index.search("meeting", 10)).isEmpty();
+        assertThat(index.search("review", 10)).extracting(InvertedIndex.Hit::getId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsOnlyTopKAfterCompaction() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 0; id < 5000; id++) {
+            index.upsert(id, "title " + id, id % 2 == 0 ? "even meeting" : "odd");
+        }
+        for (long id = 0; id < 4000; id++) {
+            index.remove(id);
+        }
+
+        List<InvertedIndex.Hit> hits = index.search("meeting", 5);
+
+        assertThat(hits).hasSize(5);
+        assertThat(hits).allMatch(hit -> hit.getId() >= 4000 && hit.getId() % 2 == 0);
+        assertThat(index.size()).isEqualTo(1000);
+    }
+}
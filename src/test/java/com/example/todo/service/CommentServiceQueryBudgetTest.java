@@ -0,0 +1,47 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * submitComment 가 createComment 를 프록시로 불러서 트랜잭션별 SQL 예산 검사를 받는지 확인
+ * (예산 1건, fail 모드 → 댓글 생성의 두 번째 문장에서 예외)
+ */
+@SpringBootTest(properties = {
+        "app.query-budget.mode=fail",
+        "app.query-budget.per-transaction=1",
+        "app.query-budget.per-request=0"
+})
+class CommentServiceQueryBudgetTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void submitCommentRunsUnderThePerTransactionBudget() {
+        User user = userRepository.save(new User("budget", "budget@example.com", "password"));
+        Schedule schedule = scheduleRepository.save(Schedule.builder().title("예산").content("내용").user(user).build());
+        CommentRequestDto dto = objectMapper.convertValue(
+                Map.of("content", "댓글", "userId", user.getId(), "scheduleId", schedule.getId()), CommentRequestDto.class);
+
+        assertThatThrownBy(() -> commentService.submitComment(dto))
+                .hasStackTraceContaining("CommentService.createComment: SQL 예산 1건 초과");
+    }
+}
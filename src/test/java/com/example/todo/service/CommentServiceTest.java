@@ -0,0 +1,82 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.dto.CommentResponseDto;
+import com.example.todo.dto.CursorPageResponseDto;
+import com.example.todo.query.QueryCounter;
+import com.example.todo.query.QueryScope;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void pagesCoverEveryCommentOnceWithoutRepeatedQueries() {
+        User user = userRepository.save(new User("pager", "pager@example.com", "password"));
+        Schedule schedule = scheduleRepository.save(Schedule.builder().title("페이지").content("내용").user(user).build());
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            created.add(commentService.createComment(request(user, schedule, "댓글 " + i)).getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            try (QueryScope scope = QueryCounter.capture("getCommentsBySchedule")) {
+                CursorPageResponseDto<CommentResponseDto> page = commentService.getCommentsBySchedule(schedule.getId(), cursor, 3);
+                page.getItems().forEach(comment -> seen.add(comment.getId()));
+                cursor = page.getNext();
+                // 일정 확인(2차 캐시에 있으면 생략) + 키셋 페이지 한 번
+                scope.assertAtMost(2).assertNoRepeatedStatements();
+            }
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(created);
+    }
+
+    @Test
+    void commentsETagChangesOnlyForTheScheduleThatChanged() {
+        User user = userRepository.save(new User("comment-etag", "comment-etag@example.com", "password"));
+        Schedule changed = scheduleRepository.save(Schedule.builder().title("바뀜").content("내용").user(user).build());
+        Schedule untouched = scheduleRepository.save(Schedule.builder().title("그대로").content("내용").user(user).build());
+        Long commentId = commentService.createComment(request(user, changed, "댓글")).getId();
+
+        String changedBefore = commentService.getCommentsETag(changed.getId(), null, 20);
+        String untouchedBefore = commentService.getCommentsETag(untouched.getId(), null, 20);
+
+        commentService.deleteComment(commentId);
+
+        assertThat(commentService.getCommentsETag(changed.getId(), null, 20)).isNotEqualTo(changedBefore);
+        assertThat(commentService.getCommentsETag(untouched.getId(), null, 20)).isEqualTo(untouchedBefore);
+    }
+
+    private CommentRequestDto request(User user, Schedule schedule, String content) {
+        return objectMapper.convertValue(
+                Map.of("content", content, "userId", user.getId(), "scheduleId", schedule.getId()), CommentRequestDto.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.Comment;
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.repository.CommentRepository;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ScheduleExportServiceTest {
+
+    @Autowired
+    private ScheduleExportService scheduleExportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void writesCommentsAfterTheirScheduleWithoutManagingEntities() throws Exception {
+        User user = userRepository.save(new User("exporter", "exporter@example.com", "password"));
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            schedules.add(scheduleRepository.save(Schedule.builder().title("내보내기 " + i).content("내용 " + i).user(user).build()));
+        }
+        for (int i = 0; i < schedules.size(); i += 3) {
+            for (int j = 0; j < 2; j++) {
+                commentRepository.save(Comment.builder().content("댓글 " + j).user(user).schedule(schedules.get(i)).build());
+            }
+        }
+
+        // 같은 트랜잭션(영속성 컨텍스트) 안에서 내보낸 뒤, 컨텍스트에 남은 엔티티/프록시 수를 확인
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int[] managed = new int[1];
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                scheduleExportService.export(out);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            managed[0] = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+        assertThat(managed[0]).isZero();
+
+        long currentSchedule = -1;
+        int mine = 0;
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            if (node.get("type").asText().equals("schedule")) {
+                currentSchedule = node.get("id").asLong();
+                if (node.get("userId").asLong() == user.getId()) {
+                    mine++;
+                }
+            } else {
+                assertThat(node.get("scheduleId").asLong()).isEqualTo(currentSchedule);
+            }
+        }
+        assertThat(mine).isEqualTo(schedules.size());
+    }
+}
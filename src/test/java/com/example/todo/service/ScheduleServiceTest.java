@@ -0,0 +1,75 @@
+package com.example.todo.service;
+
+import com.example.todo.counter.CommentCountBuffer;
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.dto.ScheduleRequestDto;
+import com.example.todo.query.QueryCounter;
+import com.example.todo.query.QueryScope;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ScheduleServiceTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentCountBuffer commentCountBuffer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void schedulesETagIsServedFromMemoryAndChangesOnlyOnCommittedWrites() {
+        User user = userRepository.save(new User("etag", "etag@example.com", "password"));
+        Schedule schedule = scheduleRepository.save(Schedule.builder().title("ETag").content("내용").user(user).build());
+        // 앞선 테스트가 남긴 댓글 수가 도중에 반영되면(일정 지문 갱신) 비교가 흔들리므로 먼저 반영해 둠
+        commentCountBuffer.flush();
+        String first = scheduleService.getSchedulesETag(null, 20);
+
+        // 지문이 만들어진 뒤에는 SQL 없이 계산
+        try (QueryScope scope = QueryCounter.capture("getSchedulesETag")) {
+            assertThat(scheduleService.getSchedulesETag(null, 20)).isEqualTo(first);
+            scope.assertStatements(0);
+        }
+        assertThat(scheduleService.getSchedulesETag(null, 50)).isNotEqualTo(first);
+
+        // 댓글 (목록의 댓글 수도 바뀜) → 다른 ETag. 댓글 수 반영까지 끝낸 뒤의 값을 기준으로 삼음
+        commentService.createComment(objectMapper.convertValue(
+                Map.of("content", "댓글", "userId", user.getId(), "scheduleId", schedule.getId()), CommentRequestDto.class));
+        commentCountBuffer.flush();
+        String afterComment = scheduleService.getSchedulesETag(null, 20);
+        assertThat(afterComment).isNotEqualTo(first);
+
+        // 롤백된 수정은 반영되지 않음
+        ScheduleRequestDto update = objectMapper.convertValue(
+                Map.of("title", "바뀐 제목", "content", "내용", "userId", user.getId()), ScheduleRequestDto.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            scheduleService.updateSchedule(schedule.getId(), update);
+            status.setRollbackOnly();
+        });
+        assertThat(scheduleService.getSchedulesETag(null, 20)).isEqualTo(afterComment);
+
+        scheduleService.updateSchedule(schedule.getId(), update);
+        assertThat(scheduleService.getSchedulesETag(null, 20)).isNotEqualTo(afterComment);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.todo.service;
+
+import com.example.todo.domain.User;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.dto.ScheduleRequestDto;
+import com.example.todo.dto.ScheduleResponseDto;
+import com.example.todo.dto.SyncResponseDto;
+import com.example.todo.query.QueryCounter;
+import com.example.todo.query.QueryScope;
+import com.example.todo.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경분 동기화 (settle-lag 0: 커밋된 기록을 바로 내려줌)
+ */
+@SpringBootTest(properties = "app.sync.settle-lag=PT0S")
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void returnsLatestStateOfChangedItemsAndTombstonesInFewQueries() {
+        SyncResponseDto start = syncService.getChanges(null, 100);
+        assertThat(start.isReset()).isTrue();
+
+        User user = userRepository.save(new User("syncer", "syncer@example.com", "password"));
+        Long kept = scheduleService.createSchedule(schedule(user, "처음 제목")).getId();
+        Long removed = scheduleService.createSchedule(schedule(user, "지울 일정")).getId();
+        Long commentId = commentService.createComment(objectMapper.convertValue(
+                Map.of("content", "댓글", "userId", user.getId(), "scheduleId", kept), CommentRequestDto.class)).getId();
+        scheduleService.updateSchedule(kept, schedule(user, "바뀐 제목"));
+        scheduleService.deleteSchedule(removed);
+
+        try (QueryScope scope = QueryCounter.capture("getChanges")) {
+            SyncResponseDto changes = syncService.getChanges(start.getNext(), 100);
+
+            // 기록 조회 + 바뀐 일정 IN 조회 + 바뀐 댓글 IN 조회
+            scope.assertAtMost(3).assertNoRepeatedStatements();
+            assertThat(changes.isReset()).isFalse();
+            assertThat(changes.isHasMore()).isFalse();
+            assertThat(changes.getSchedules()).extracting(ScheduleResponseDto::getId).containsExactly(kept);
+            assertThat(changes.getSchedules().get(0).getTitle()).isEqualTo("바뀐 제목");
+            assertThat(changes.getDeletedScheduleIds()).containsExactly(removed);
+            assertThat(changes.getComments()).singleElement().extracting("id").isEqualTo(commentId);
+
+            // 더 바뀐 것이 없으면 빈 응답
+            SyncResponseDto none = syncService.getChanges(changes.getNext(), 100);
+            assertThat(none.getSchedules()).isEmpty();
+            assertThat(none.getDeletedScheduleIds()).isEmpty();
+        }
+    }
+
+    @Test
+    void pagesThroughJournalWithHasMore() {
+        SyncResponseDto start = syncService.getChanges(null, 100);
+        User user = userRepository.save(new User("sync-pager", "sync-pager@example.com", "password"));
+        for (int i = 0; i < 3; i++) {
+            scheduleService.createSchedule(schedule(user, "일정 " + i));
+        }
+
+        SyncResponseDto first = syncService.getChanges(start.getNext(), 2);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getSchedules()).hasSize(2);
+        SyncResponseDto second = syncService.getChanges(first.getNext(), 2);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getSchedules()).hasSize(1);
+    }
+
+    private ScheduleRequestDto schedule(User user, String title) {
+        return objectMapper.convertValue(
+                Map.of("title", title, "content", "내용", "userId", user.getId()), ScheduleRequestDto.class);
+    }
+}
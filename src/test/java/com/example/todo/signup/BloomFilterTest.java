@@ -0,0 +1,52 @@
+package com.example.todo.signup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void neverReportsInsertedValueAsAbsent() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+        // 넣을 때 이미 모든 비트가 켜져 있던 값(거짓 양성)은 세지 않으므로 약간 적을 수 있음
+        assertThat(filter.approximateElementCount()).isBetween(9_900L, 10_000L);
+        // 같은 값을 다시 넣으면 켜지는 비트가 없음
+        assertThat(filter.put("user0@example.com")).isFalse();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredValue() {
+        int n = 100_000;
+        BloomFilter filter = BloomFilter.create(n, 0.01);
+        for (int i = 0; i < n; i++) {
+            filter.put("u:user" + i);
+        }
+        int probes = 200_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("u:other" + i)) {
+                falsePositives++;
+            }
+        }
+        double observed = (double) falsePositives / probes;
+        assertThat(observed).isLessThan(0.015);
+        assertThat(filter.expectedFpp()).isBetween(0.005, 0.015);
+        // 1% 기준 m/n ≈ 9.6비트, k = 7
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(filter.bitCount()).isBetween(958_000L, 960_000L);
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.todo.stream;
+
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.dto.CommentRequestDto;
+import com.example.todo.repository.ScheduleRepository;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.service.CommentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CommentService 로 쓴 댓글이 커밋된 경우에만 구독자에게 전달되는지 확인
+ */
+@SpringBootTest
+class CommentStreamDeliveryTest {
+
+    @Autowired
+    private CommentStreamHub commentStreamHub;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void onlyCommittedCommentsReachSubscribers() throws Exception {
+        User user = userRepository.save(new User("streamer", "streamer@example.com", "password"));
+        Schedule schedule = scheduleRepository.save(Schedule.builder().title("스트림").content("내용").user(user).build());
+        CommentStreamHubTest.RecordingEmitter emitter = new CommentStreamHubTest.RecordingEmitter();
+        commentStreamHub.subscribe(schedule.getId(), emitter);
+        assertThat(emitter.received.poll(5, SECONDS)).isNotNull(); // 연결 직후 heartbeat
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            commentService.createComment(request(user, schedule, "롤백된 댓글"));
+            status.setRollbackOnly();
+        });
+        commentService.createComment(request(user, schedule, "커밋된 댓글"));
+
+        // 사이에 heartbeat 가 섞여 올 수 있으므로 커밋된 댓글이 올 때까지 받은 것을 모아서 확인
+        List<String> received = new ArrayList<>();
+        String data;
+        while ((data = emitter.received.poll(5, SECONDS)) != null) {
+            received.add(data);
+            if (data.contains("커밋된 댓글")) {
+                break;
+            }
+        }
+        Thread.sleep(200);
+        emitter.received.drainTo(received);
+
+        assertThat(received).anyMatch(item -> item.contains("커밋된 댓글"));
+        assertThat(received).noneMatch(item -> item.contains("롤백된 댓글"));
+    }
+
+    private CommentRequestDto request(User user, Schedule schedule, String content) {
+        return objectMapper.convertValue(
+                Map.of("content", content, "userId", user.getId(), "scheduleId", schedule.getId()), CommentRequestDto.class);
+    }
+}
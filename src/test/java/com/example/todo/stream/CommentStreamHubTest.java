@@ -0,0 +1,133 @@
+package com.example.todo.stream;
+
+import com.example.todo.domain.Comment;
+import com.example.todo.domain.Schedule;
+import com.example.todo.domain.User;
+import com.example.todo.event.CommentChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentStreamHubTest {
+
+    // 전송 스레드 1개 → 막힌 구독자가 그 스레드를 잡으면 정리 전까지 다른 구독자는 하나도 못 받음
+    private final CommentStreamHub hub = new CommentStreamHub(new ObjectMapper().findAndRegisterModules(),
+            64, 100, Duration.ofMinutes(30), CommentStreamHub.OverflowPolicy.DROP_OLDEST, 1, Duration.ofMillis(200), 1);
+
+    @AfterEach
+    void shutdown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotHoldUpTheOthers() throws Exception {
+        StalledEmitter stalled = new StalledEmitter();
+        hub.subscribe(1L, stalled);
+        assertThat(stalled.entered.await(5, SECONDS)).isTrue();
+
+        RecordingEmitter other = new RecordingEmitter();
+        hub.subscribe(1L, other);
+        Thread.sleep(300);
+        hub.evictStalled();
+
+        // 막힌 send 는 그대로지만 다른 구독자는 늘어난 전송 스레드로 받음
+        assertThat(other.received.poll(5, SECONDS)).isNotNull();
+        hub.onCommentChanged(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, comment(1L, 10L)));
+        assertThat(other.received.poll(5, SECONDS)).contains("\"id\":10");
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(hub.stalledCount()).isEqualTo(1);
+
+        // 막힌 send 가 끝나면 그 연결을 닫음
+        stalled.release.countDown();
+        assertThat(stalled.completed.await(5, SECONDS)).isTrue();
+    }
+
+    @Test
+    void stalledSubscribersBeyondTheCapAreDroppedWithoutAddingThreads() throws Exception {
+        // 첫 번째 막힌 구독자 → 전송 스레드 1개 추가 (상한 1)
+        StalledEmitter first = new StalledEmitter();
+        hub.subscribe(1L, first);
+        assertThat(first.entered.await(5, SECONDS)).isTrue();
+        Thread.sleep(300);
+        hub.evictStalled();
+
+        // 두 번째 막힌 구독자 → 상한이라 스레드를 늘리지 않고 구독 해제만
+        StalledEmitter second = new StalledEmitter();
+        hub.subscribe(2L, second);
+        assertThat(second.entered.await(5, SECONDS)).isTrue();
+        Thread.sleep(300);
+        hub.evictStalled();
+
+        ThreadPoolExecutor senders = (ThreadPoolExecutor) ReflectionTestUtils.getField(hub, "senders");
+        assertThat(senders.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(hub.stalledCount()).isEqualTo(2);
+
+        // 막힌 send 가 끝나면 둘 다 닫히고 스레드 수는 원래대로
+        first.release.countDown();
+        second.release.countDown();
+        assertThat(first.completed.await(5, SECONDS)).isTrue();
+        assertThat(second.completed.await(5, SECONDS)).isTrue();
+        assertThat(senders.getMaximumPoolSize()).isEqualTo(1);
+    }
+
+    private static Comment comment(Long scheduleId, Long commentId) {
+        User user = new User("writer", "writer@example.com", "password");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Schedule schedule = Schedule.builder().title("t").content("c").user(user).build();
+        ReflectionTestUtils.setField(schedule, "id", scheduleId);
+        Comment comment = Comment.builder().content("댓글").user(user).schedule(schedule).build();
+        ReflectionTestUtils.setField(comment, "id", commentId);
+        return comment;
+    }
+
+    static final class RecordingEmitter extends SseEmitter {
+        final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            received.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+        }
+    }
+
+    /**
+     * 소켓 버퍼가 가득 찬 클라이언트처럼 send 에서 돌아오지 않는 연결
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("write timeout");
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.todo.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final TokenBucketLimiter limiter =
+            new TokenBucketLimiter("test", 3, Duration.ofSeconds(1), 100, Duration.ofMinutes(1));
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", SECOND / 4)).isEqualTo(SECOND * 3 / 4);
+
+        // 다른 키는 영향 없음
+        assertThat(limiter.tryAcquire("b", SECOND / 4)).isZero();
+        assertThat(limiter.allowedCount()).isEqualTo(4);
+        assertThat(limiter.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void refillsOneTokenPerIntervalKeepingRemainder() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a", 0);
+        }
+        // 1.5초 뒤: 토큰 1개 채워지고 0.5초는 다음 토큰 몫으로 남음
+        assertThat(limiter.tryAcquire("a", SECOND * 3 / 2)).isZero();
+        assertThat(limiter.tryAcquire("a", SECOND * 3 / 2)).isEqualTo(SECOND / 2);
+        assertThat(limiter.tryAcquire("a", SECOND * 2)).isZero();
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        limiter.tryAcquire("a", 0);
+        long later = SECOND * 100;
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("a", later)).isPositive();
+    }
+}